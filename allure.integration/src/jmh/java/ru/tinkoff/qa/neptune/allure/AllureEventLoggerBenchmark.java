@@ -0,0 +1,89 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reporting of nested steps by {@link AllureEventLogger}. Each invocation reports
+ * {@code tests} test cases. Each test case has {@code depth} nested steps, so 1M steps are reported by default.
+ * Results are not written anywhere.
+ * <p>
+ * Run it by {@code gradle :allure.integration:jmh -PjmhArgs='AllureEventLoggerBenchmark -prof gc'}.
+ * Add {@code -t 4} to see how the logging behaves when tests are run in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllureEventLoggerBenchmark {
+
+    private static final Map<String, String> PARAMETERS = Map.of("Parameter 1", "Value 1",
+            "Parameter 2", "Value 2");
+
+    private static final AllureLifecycle LIFECYCLE = new AllureLifecycle(new NoOpWriter());
+
+    @Param({"1000"})
+    private int tests;
+
+    @Param({"1000"})
+    private int depth;
+
+    private AllureLifecycle lifecycle;
+    private AllureEventLogger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        synchronized (AllureEventLoggerBenchmark.class) {
+            if (!(LIFECYCLE.equals(Allure.getLifecycle()))) {
+                Allure.setLifecycle(LIFECYCLE);
+            }
+        }
+        lifecycle = LIFECYCLE;
+        logger = new AllureEventLogger();
+    }
+
+    @Benchmark
+    public void reportNestedSteps() {
+        for (int i = 0; i < tests; i++) {
+            var uuid = Thread.currentThread().getId() + "-" + i;
+            lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("Test"));
+            lifecycle.startTestCase(uuid);
+
+            for (int j = 0; j < depth; j++) {
+                logger.fireTheEventStarting("Step", PARAMETERS);
+            }
+            logger.fireReturnedValue(depth);
+            for (int j = 0; j < depth; j++) {
+                logger.fireEventFinishing();
+            }
+
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+
+    private static final class NoOpWriter implements AllureResultsWriter {
+
+        @Override
+        public void write(TestResult testResult) {
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+        }
+    }
+}
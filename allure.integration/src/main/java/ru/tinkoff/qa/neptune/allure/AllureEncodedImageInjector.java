@@ -0,0 +1,18 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedEncodedImageInjector;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
+import static io.qameta.allure.Allure.addAttachment;
+import static java.lang.String.format;
+
+@Stateless
+public class AllureEncodedImageInjector implements CapturedEncodedImageInjector {
+
+    @Override
+    public void inject(EncodedImage toBeInjected, String message) {
+        addAttachment(message, format("image/%s", toBeInjected.getFormat()), toBeInjected.toInputStream(),
+                toBeInjected.getFormat());
+    }
+}
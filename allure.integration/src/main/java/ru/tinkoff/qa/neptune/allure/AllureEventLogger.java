@@ -6,97 +6,207 @@ import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
 import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.PrintStream;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
-import static io.qameta.allure.Allure.addAttachment;
 import static io.qameta.allure.Allure.getLifecycle;
 import static io.qameta.allure.model.Status.BROKEN;
 import static io.qameta.allure.model.Status.PASSED;
 import static io.qameta.allure.util.ResultsUtils.getStatus;
 import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static java.lang.System.arraycopy;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.newSetFromMap;
+import static ru.tinkoff.qa.neptune.allure.properties.ThrownExceptionAttachmentMaxSize.THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY;
 import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.stringValueOfObjectOrArray;
 
+/**
+ * Reports steps to Allure. An instance is used by one thread. Uuids of steps are built of a random prefix of the instance
+ * and a counter. Started steps are kept in arrays, as a stack. A step is forgotten when it is finished.
+ * Stack trace of a thrown exception is attached once, even when the exception is thrown through several nested steps.
+ * Its size is limited by the property {@code ALLURE_THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE}.
+ */
 public class AllureEventLogger implements EventLogger {
 
+    private static final int INITIAL_DEPTH = 16;
+
     private final AllureLifecycle allureLifecycle = getLifecycle();
-    private final LinkedList<String> stepUIIDs = new LinkedList<>();
-    private final HashMap<String, Status> results = new HashMap<>();
+    private final String uuidPrefix = UUID.randomUUID().toString() + "-";
+    private long stepCount;
+
+    private String[] stepUIIDs = new String[INITIAL_DEPTH];
+    private Status[] results = new Status[INITIAL_DEPTH];
+    private int depth;
+    private final Set<Throwable> attachedExceptions = newSetFromMap(new IdentityHashMap<>());
+
+    private static ArrayList<Parameter> toParameters(Map<String, String> parameters) {
+        var result = new ArrayList<Parameter>(parameters.size() + 1);
+        for (var e : parameters.entrySet()) {
+            result.add(new Parameter().setName(e.getKey()).setValue(e.getValue()));
+        }
+        return result;
+    }
+
+    private void push(String uuid) {
+        if (depth == stepUIIDs.length) {
+            var newIds = new String[depth * 2];
+            var newResults = new Status[depth * 2];
+            arraycopy(stepUIIDs, 0, newIds, 0, depth);
+            arraycopy(results, 0, newResults, 0, depth);
+            stepUIIDs = newIds;
+            results = newResults;
+        }
+
+        stepUIIDs[depth] = uuid;
+        results[depth] = null;
+        depth++;
+    }
 
     @Override
     public void fireTheEventStarting(String message, Map<String, String> parameters) {
-        var uuid = UUID.randomUUID().toString();
-        var result = new StepResult().setName(message)
-                .setParameters(parameters
-                        .entrySet()
-                        .stream()
-                        .map(e -> new Parameter()
-                                .setName(e.getKey())
-                                .setValue(e.getValue()))
-                        .collect(toList()));
-
-        if (stepUIIDs.size() == 0) {
+        var uuid = uuidPrefix + stepCount++;
+        var result = new StepResult().setName(message);
+        if (!parameters.isEmpty()) {
+            result.setParameters(toParameters(parameters));
+        }
+
+        if (depth == 0) {
             allureLifecycle.startStep(uuid, result);
         } else {
-            allureLifecycle.startStep(stepUIIDs.getLast(), uuid, result);
+            allureLifecycle.startStep(stepUIIDs[depth - 1], uuid, result);
         }
-        stepUIIDs.addLast(uuid);
-        results.put(uuid, null);
+        push(uuid);
     }
 
     @Override
     public void fireThrownException(Throwable throwable) {
-        if (stepUIIDs.size() == 0) {
+        if (depth == 0) {
             return;
         }
 
-        var uuid = stepUIIDs.getLast();
+        var uuid = stepUIIDs[depth - 1];
+        var status = getStatus(throwable).orElse(BROKEN);
         allureLifecycle.updateStep(uuid, s -> s
-                .setStatus(getStatus(throwable).orElse(BROKEN))
+                .setStatus(status)
                 .setStatusDetails(getStatusDetails(throwable).orElse(null)));
-        results.put(uuid, getStatus(throwable).orElse(BROKEN));
+        results[depth - 1] = status;
 
-        var bos = new ByteArrayOutputStream();
-        var ps = new PrintStream(bos, true, UTF_8);
+        //the same exception may be thrown through all started steps
+        if (attachedExceptions.add(throwable)) {
+            attachStackTrace(throwable);
+        }
+    }
+
+    private void attachStackTrace(Throwable throwable) {
+        var out = new LimitedOutputStream(THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY.get());
+        var ps = new PrintStream(out, false, UTF_8);
         throwable.printStackTrace(ps);
-        String data = new String(bos.toByteArray(), UTF_8);
-        addAttachment("Thrown exception:", data);
+        ps.flush();
+        allureLifecycle.addAttachment("Thrown exception:", "text/plain", ".txt", out.toInputStream());
     }
 
     @Override
     public void fireReturnedValue(Object returned) {
-        if (stepUIIDs.size() == 0) {
+        if (depth == 0) {
             return;
         }
 
-        var uuid = stepUIIDs.getLast();
+        var uuid = stepUIIDs[depth - 1];
         allureLifecycle.updateStep(uuid, s -> s.setStatus(PASSED)
                 .getParameters()
                 .add(new Parameter()
                         .setName("RETURNED VALUE")
                         .setValue(stringValueOfObjectOrArray(returned))));
-        results.put(uuid, PASSED);
+        results[depth - 1] = PASSED;
     }
 
     @Override
     public void fireEventFinishing() {
-        if (stepUIIDs.size() == 0) {
+        if (depth == 0) {
             return;
         }
 
-        var uuid = stepUIIDs.getLast();
-        allureLifecycle.updateStep(uuid, stepResult -> {
-            if (results.get(uuid) == null) {
-                stepResult.setStatus(PASSED);
-            }
-        });
+        var uuid = stepUIIDs[depth - 1];
+        if (results[depth - 1] == null) {
+            allureLifecycle.updateStep(uuid, stepResult -> stepResult.setStatus(PASSED));
+        }
         allureLifecycle.stopStep(uuid);
-        stepUIIDs.removeLast();
+
+        depth--;
+        stepUIIDs[depth] = null;
+        results[depth] = null;
+        if (depth == 0) {
+            attachedExceptions.clear();
+        }
+    }
+
+    /**
+     * Keeps written bytes until the limit is reached. Other bytes are ignored.
+     */
+    private static final class LimitedOutputStream extends ByteArrayOutputStream {
+
+        private static final byte[] TRUNCATED = "\n...truncated".getBytes(UTF_8);
+
+        private final int limit;
+        private boolean truncated;
+
+        private LimitedOutputStream(int limit) {
+            super(Math.min(Math.max(limit, 0), 8192));
+            this.limit = Math.max(limit, 0);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (count < limit) {
+                super.write(b);
+            } else {
+                truncated = true;
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            var toWrite = Math.min(len, limit - count);
+            if (toWrite > 0) {
+                super.write(b, off, toWrite);
+            }
+            truncated = truncated || toWrite < len;
+        }
+
+        /**
+         * Removes bytes of the last character when the limit is reached in the middle of its UTF-8 sequence.
+         */
+        private void cutIncompleteCharacter() {
+            var start = count - 1;
+            while (start > 0 && start > count - 4 && (buf[start] & 0xC0) == 0x80) {
+                start--;
+            }
+
+            if (start < 0) {
+                return;
+            }
+
+            var lead = buf[start] & 0xFF;
+            var length = lead < 0x80 ? 1 : (lead >= 0xF0 ? 4 : (lead >= 0xE0 ? 3 : 2));
+            if (start + length > count) {
+                count = start;
+            }
+        }
+
+        private InputStream toInputStream() {
+            if (truncated) {
+                cutIncompleteCharacter();
+                super.write(TRUNCATED, 0, TRUNCATED.length);
+            }
+            //bytes are not copied
+            return new ByteArrayInputStream(buf, 0, count);
+        }
     }
 }
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.allure;
 
 import io.qameta.allure.AllureResultsWriteException;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedFileInjector;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -10,6 +11,7 @@ import java.io.FileNotFoundException;
 import static com.google.common.io.Files.getFileExtension;
 import static io.qameta.allure.Allure.addAttachment;
 
+@Stateless
 public class AllureFileInjector implements CapturedFileInjector {
 
     @Override
@@ -1,41 +1,35 @@
 package ru.tinkoff.qa.neptune.allure;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedImageInjector;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import io.qameta.allure.AllureResultsWriteException;
 
 import javax.imageio.ImageIO;
-import java.awt.image.*;
-import java.io.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 import static io.qameta.allure.Allure.addAttachment;
-import static java.io.File.createTempFile;
-import static java.util.Optional.ofNullable;
-import static java.util.UUID.randomUUID;
 
+@Stateless
 public class AllureImageInjector implements CapturedImageInjector {
 
     private InputStream inputStream(BufferedImage image) {
-        File picForLog = null;
+        var out = new ByteArrayOutputStream();
         try {
-            picForLog = createTempFile("picture", randomUUID().toString() + ".png");
-            ImageIO.write(image, "png", picForLog);
-            return new FileInputStream(picForLog);
+            ImageIO.write(image, "png", out);
+            return new ByteArrayInputStream(out.toByteArray());
         }
         catch (IOException e) {
             throw new AllureResultsWriteException(e.getMessage(), e);
         }
-        finally {
-            ofNullable(picForLog).ifPresent(file -> {
-                if (file.exists()) {
-                    file.deleteOnExit();
-                }
-            });
-        }
     }
 
     @Override
     public void inject(BufferedImage toBeInjected, String message) {
         InputStream inputStream = inputStream(toBeInjected);
-        addAttachment(message, "image/*", inputStream, "png");
+        addAttachment(message, "image/png", inputStream, "png");
     }
 }
@@ -1,9 +1,11 @@
 package ru.tinkoff.qa.neptune.allure;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedStringInjector;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import static io.qameta.allure.Allure.addAttachment;
 
+@Stateless
 public class AllureStringInjector implements CapturedStringInjector {
 
     @Override
@@ -0,0 +1,25 @@
+package ru.tinkoff.qa.neptune.allure.properties;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Defines max size of an attachment with stack trace of a thrown exception, in bytes.",
+        "Longer stack traces are truncated"},
+        section = "Allure. Attachments")
+@PropertyName("ALLURE_THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE")
+@PropertyDefaultValue("1048576")
+public final class ThrownExceptionAttachmentMaxSize implements IntValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final ThrownExceptionAttachmentMaxSize THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY =
+            new ThrownExceptionAttachmentMaxSize();
+
+    private ThrownExceptionAttachmentMaxSize() {
+        super();
+    }
+}
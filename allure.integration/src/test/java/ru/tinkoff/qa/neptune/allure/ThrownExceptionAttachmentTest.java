@@ -0,0 +1,128 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.valueOf;
+import static java.lang.System.getProperties;
+import static java.lang.System.setProperty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Map.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.allure.properties.ThrownExceptionAttachmentMaxSize.THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY;
+
+public class ThrownExceptionAttachmentTest {
+
+    private final List<String> attachments = new ArrayList<>();
+    private AllureLifecycle previous;
+    private AllureLifecycle lifecycle;
+    private String testUuid;
+
+    @BeforeMethod
+    public void beforeMethod() {
+        previous = Allure.getLifecycle();
+        lifecycle = new AllureLifecycle(new AllureResultsWriter() {
+            @Override
+            public void write(TestResult testResult) {
+            }
+
+            @Override
+            public void write(TestResultContainer testResultContainer) {
+            }
+
+            @Override
+            public void write(String source, InputStream attachment) {
+                try {
+                    attachments.add(new String(attachment.readAllBytes(), UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        Allure.setLifecycle(lifecycle);
+
+        testUuid = randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("Test"));
+        lifecycle.startTestCase(testUuid);
+        attachments.clear();
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        lifecycle.stopTestCase(testUuid);
+        lifecycle.writeTestCase(testUuid);
+        Allure.setLifecycle(previous);
+        getProperties().remove(THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY.getName());
+    }
+
+    private static void throwThroughSteps(AllureEventLogger logger, Throwable throwable, int depth) {
+        for (int i = 0; i < depth; i++) {
+            logger.fireTheEventStarting("Step " + i, of());
+        }
+
+        for (int i = 0; i < depth; i++) {
+            logger.fireThrownException(throwable);
+            logger.fireEventFinishing();
+        }
+    }
+
+    @Test
+    public void exceptionIsAttachedOnceTest() {
+        var logger = new AllureEventLogger();
+        var exception = new IllegalStateException("Test exception");
+
+        throwThroughSteps(logger, exception, 3);
+        assertThat(attachments, hasSize(1));
+        assertThat(attachments.get(0), containsString("Test exception"));
+
+        throwThroughSteps(logger, exception, 3);
+        assertThat(attachments, hasSize(2));
+
+        throwThroughSteps(logger, new IllegalStateException("Another exception"), 1);
+        assertThat(attachments, hasSize(3));
+    }
+
+    @Test
+    public void attachmentIsTruncatedTest() {
+        setProperty(THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY.getName(), valueOf(100));
+        var logger = new AllureEventLogger();
+
+        throwThroughSteps(logger, new IllegalStateException("Test exception"), 1);
+        assertThat(attachments, hasSize(1));
+        assertThat(attachments.get(0), endsWith("...truncated"));
+        assertThat(attachments.get(0).getBytes(UTF_8).length, lessThanOrEqualTo(100 + "\n...truncated".length()));
+    }
+
+    @Test
+    public void attachmentIsTruncatedByCharacterTest() {
+        //each character takes 3 bytes in UTF-8
+        var exception = new IllegalStateException("\u20ac\u20ac\u20ac\u20ac\u20ac\u20ac\u20ac\u20ac\u20ac\u20ac");
+        var prefix = IllegalStateException.class.getName() + ": ";
+
+        for (int limit = prefix.length(); limit < prefix.length() + 10; limit++) {
+            setProperty(THROWN_EXCEPTION_ATTACHMENT_MAX_SIZE_PROPERTY.getName(), valueOf(limit));
+            attachments.clear();
+            throwThroughSteps(new AllureEventLogger(), exception, 1);
+
+            var attachment = attachments.get(0);
+            assertThat(attachment, not(containsString("\ufffd")));
+            assertThat(attachment, endsWith("...truncated"));
+            assertThat(attachment.getBytes(UTF_8).length, lessThanOrEqualTo(limit + "\n...truncated".length()));
+            assertThat(attachment.getBytes(UTF_8).length, greaterThan(limit - 3 + "\n...truncated".length()));
+        }
+    }
+}
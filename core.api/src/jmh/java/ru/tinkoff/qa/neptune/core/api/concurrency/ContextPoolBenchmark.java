@@ -0,0 +1,120 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.synchronizedSet;
+import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
+
+/**
+ * Compares the checking out of free contexts by {@link ContextPool} with the former implementation
+ * that scanned all known containers under a global lock.
+ * <p>
+ * Run it with different count of threads, e.g. {@code gradle :core.api:jmh -PjmhArgs='-t 8 ContextPoolBenchmark'},
+ * {@code -t 32}, {@code -t 128}. An operation is a successful check out and return of a context. When there are
+ * more threads than free contexts, a thread retries until it takes a context, so misses are not counted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextPoolBenchmark {
+
+    /**
+     * Count of free contexts of each type.
+     */
+    @Param({"16", "256"})
+    public int contexts;
+
+    private final Set<LegacyContainer> legacyContainers = synchronizedSet(new HashSet<>());
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var thread = currentThread();
+        for (int i = 0; i < contexts; i++) {
+            new ObjectContainer<>(new BenchmarkContext()).setFreeIfBusyBy(thread, 0);
+            new ObjectContainer<>(new OtherBenchmarkContext()).setFreeIfBusyBy(thread, 0);
+            legacyContainers.add(new LegacyContainer(new BenchmarkContext()));
+            legacyContainers.add(new LegacyContainer(new OtherBenchmarkContext()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ObjectContainer.containers.clear();
+        legacyContainers.clear();
+    }
+
+    @Benchmark
+    public Object pooledCheckOutAndReturn() {
+        ObjectContainer<BenchmarkContext> container;
+        while ((container = ObjectContainer.setObjectBusy(BenchmarkContext.class)) == null) {
+            Thread.yield();
+        }
+        container.setFreeIfBusyBy(currentThread(), 0);
+        return container;
+    }
+
+    @Benchmark
+    public Object synchronizedScanCheckOutAndReturn() {
+        LegacyContainer container;
+        while ((container = legacySetObjectBusy(BenchmarkContext.class)) == null) {
+            Thread.yield();
+        }
+        container.setFree();
+        return container;
+    }
+
+    private synchronized LegacyContainer legacySetObjectBusy(Class<?> tClass) {
+        List<LegacyContainer> freeObjects;
+        synchronized (legacyContainers) {
+            freeObjects = legacyContainers.stream()
+                    .filter(c -> !c.isBusy() && tClass.isAssignableFrom(c.wrapped.getClass()))
+                    .collect(toList());
+        }
+        if (freeObjects.size() == 0) {
+            return null;
+        }
+        var result = freeObjects.get(0);
+        result.setBusy(currentThread());
+        return result;
+    }
+
+    private static final class LegacyContainer {
+        private final Object wrapped;
+        private Thread busyBy;
+
+        private LegacyContainer(Object wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        private synchronized boolean isBusy() {
+            return busyBy != null;
+        }
+
+        private synchronized void setBusy(Thread thread) {
+            busyBy = thread;
+        }
+
+        private synchronized void setFree() {
+            busyBy = null;
+            //the same as ObjectContainer#setFree does
+            TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.get();
+        }
+    }
+
+    public static class BenchmarkContext extends Context<BenchmarkContext> {
+    }
+
+    public static class OtherBenchmarkContext extends Context<OtherBenchmarkContext> {
+    }
+}
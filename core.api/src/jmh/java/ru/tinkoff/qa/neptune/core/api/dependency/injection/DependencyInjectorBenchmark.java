@@ -0,0 +1,71 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static ru.tinkoff.qa.neptune.core.api.dependency.injection.DependencyInjector.injectValues;
+
+/**
+ * Measures the creation of test instances which fields are filled by {@link DependencyInjector#injectValues(Object)}.
+ * Each invocation creates 10 000 instances like a test class which is used by a data provider.
+ * <p>
+ * Run it by {@code gradle :core.api:jmh -PjmhArgs='DependencyInjectorBenchmark -prof gc'}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyInjectorBenchmark {
+
+    private static final int INSTANCES = 10_000;
+
+    @Benchmark
+    public Object createTestInstances() {
+        Object last = null;
+        for (int i = 0; i < INSTANCES; i++) {
+            last = new ChildTest();
+        }
+        return last;
+    }
+
+    @Stateless
+    public static class BenchmarkInjector implements DependencyInjector {
+
+        @Override
+        public boolean toSet(Field field) {
+            return field.getType().equals(Integer.class) || field.getType().equals(String.class);
+        }
+
+        @Override
+        public Object getValueToSet(Field field) {
+            return field.getType().equals(Integer.class) ? 1 : field.getName();
+        }
+    }
+
+    public abstract static class BaseTest {
+
+        private static Object staticField;
+        private final Object finalField = new Object();
+        private Integer baseInteger;
+        private String baseString;
+        private Object notInjected;
+
+        BaseTest() {
+            injectValues(this);
+        }
+    }
+
+    public static class ChildTest extends BaseTest {
+
+        private Integer childInteger;
+        private String childString;
+        private int primitive;
+        private Object notInjected1;
+        private Object notInjected2;
+    }
+}
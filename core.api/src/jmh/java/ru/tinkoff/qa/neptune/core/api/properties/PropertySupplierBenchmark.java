@@ -0,0 +1,90 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturedEvents;
+import ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.DO_CAPTURES_OF_INSTANCE;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchFailureEvent;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchSuccessEvent;
+
+/**
+ * Measures the overhead of property reading that each step has. A step reads {@link DoCapturesOf}
+ * twice: {@link DoCapturesOf#catchSuccessEvent()} and {@link DoCapturesOf#catchFailureEvent()}.
+ * The {@code legacy} benchmark reproduces reading which resolves the name and the default value of
+ * a property by reflection and parses the value each time.
+ * <p>
+ * Run it by {@code gradle :core.api:jmh -PjmhArgs='PropertySupplierBenchmark -prof gc'}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertySupplierBenchmark {
+
+    @Param({"DEFAULT", "SUCCESS_AND_FAILURE"})
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("DEFAULT".equals(value)) {
+            clearProperty(DO_CAPTURES_OF_INSTANCE.getName());
+        } else {
+            setProperty(DO_CAPTURES_OF_INSTANCE.getName(), value);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clearProperty(DO_CAPTURES_OF_INSTANCE.getName());
+    }
+
+    @Benchmark
+    public boolean perStepReading() {
+        return catchSuccessEvent() | catchFailureEvent();
+    }
+
+    @Benchmark
+    public boolean perStepLegacyReading() {
+        var e1 = legacyGet(DO_CAPTURES_OF_INSTANCE);
+        var e2 = legacyGet(DO_CAPTURES_OF_INSTANCE);
+        return e1 == CapturedEvents.SUCCESS | e2 == CapturedEvents.FAILURE;
+    }
+
+    private static <T> T legacyGet(PropertySupplier<T> supplier) {
+        var clz = supplier.getClass();
+        var property = ofNullable(clz.getAnnotation(PropertyName.class))
+                .map(PropertyName::value)
+                .orElseThrow();
+
+        return legacyRead(property)
+                .map(supplier::parse)
+                .orElseGet(() -> {
+                    if (System.getenv().containsKey(property) || System.getProperties().containsKey(property)) {
+                        return supplier.returnIfNull();
+                    }
+
+                    return ofNullable(clz.getAnnotation(PropertyDefaultValue.class))
+                            .map(v -> supplier.parse(v.value()))
+                            .orElseGet(supplier::returnIfNull);
+                });
+    }
+
+    private static Optional<String> legacyRead(String property) {
+        var value = System.getenv(property);
+        if (isBlank(value)) {
+            value = System.getProperty(property);
+        }
+        return isNotBlank(value) ? Optional.of(value) : Optional.empty();
+    }
+}
@@ -0,0 +1,70 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static ru.tinkoff.qa.neptune.core.api.steps.StepFunction.toGet;
+
+/**
+ * Measures the overhead of {@link StepFunction#apply(Object)} when the reporting is turned off.
+ * Functions are built by chains of {@link StepFunction#andThen(Function)} of different depth.
+ * The {@code ignoredFailure} benchmark applies a chain which last function throws an ignored exception.
+ * <p>
+ * Run it by {@code gradle :core.api:jmh -PjmhArgs='StepFunctionBenchmark -prof gc'}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StepFunctionBenchmark {
+
+    private static final IllegalStateException FAILURE = new IllegalStateException();
+
+    @Param({"1", "8", "32"})
+    private int depth;
+
+    private Function<Integer, Integer> chain;
+    private Function<Integer, Integer> failingChain;
+    private Integer value = 1;
+
+    private static StepFunction<Integer, Integer> increment(int i) {
+        return toGet("Increment " + i, v -> v + 1);
+    }
+
+    private static Function<Integer, Integer> buildChain(int depth, Function<Integer, Integer> last) {
+        Function<Integer, Integer> result = increment(0);
+        for (int i = 1; i < depth; i++) {
+            result = result.andThen(increment(i));
+        }
+
+        if (last != null) {
+            result = result.andThen(last);
+        }
+        return ((StepFunction<Integer, Integer>) result)
+                .addIgnored(IllegalArgumentException.class)
+                .addIgnored(IllegalStateException.class)
+                .turnReportingOff();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chain = buildChain(depth, null);
+        failingChain = buildChain(depth, toGet("Failure", v -> {
+            throw FAILURE;
+        }));
+    }
+
+    @Benchmark
+    public Integer applyChain() {
+        return chain.apply(value);
+    }
+
+    @Benchmark
+    public Integer ignoredFailure() {
+        return failingChain.apply(value);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.tinkoff.qa.neptune.core.api.steps.proxy;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invocation of methods of a proxy created by {@link Context#getInstance(Class)}
+ * with direct invocation of methods of a context.
+ * <p>
+ * Run it by {@code gradle :core.api:jmh -PjmhArgs='ContextProxyBenchmark -prof gc'}
+ * to see allocation rate per invocation too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextProxyBenchmark {
+
+    private BenchmarkContext direct;
+    private BenchmarkContext proxied;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new BenchmarkContext();
+        proxied = BenchmarkContext.proxy();
+        //the context is created and taken by the current thread here
+        proxied.add(0, 0);
+    }
+
+    @Benchmark
+    public int directInvocation() {
+        return direct.add(value, 1);
+    }
+
+    @Benchmark
+    public int proxiedInvocation() {
+        return proxied.add(value, 1);
+    }
+
+    @Benchmark
+    public Object directInvocationReturningThis() {
+        return direct.self();
+    }
+
+    @Benchmark
+    public Object proxiedInvocationReturningThis() {
+        return proxied.self();
+    }
+
+    public static class BenchmarkContext extends Context<BenchmarkContext> {
+
+        static BenchmarkContext proxy() {
+            return getInstance(BenchmarkContext.class);
+        }
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public BenchmarkContext self() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+/**
+ * Finds a container of a context which is free of threads and makes it busy by a thread.
+ * It is used when a thread invokes a method of a context for the first time. The default implementation
+ * is {@link ContextPool#CONTEXT_POOL}.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.steps.proxy.MethodInterceptor
+ */
+public interface ContextCheckOut {
+
+    /**
+     * Takes a free container by the thread.
+     *
+     * @param tClass is a class of wrapped objects. {@link ObjectContainer#getWrappedObject()}
+     * @param thread is a thread that takes the container
+     * @param <T>    is a type of wrapped objects.
+     * @return an object of {@link ObjectContainer} that has become busy. Returns {@code null} when
+     * there is no free container of the given class. A new context is created then.
+     */
+    <T> ObjectContainer<T> checkOut(Class<T> tClass, Thread thread);
+}
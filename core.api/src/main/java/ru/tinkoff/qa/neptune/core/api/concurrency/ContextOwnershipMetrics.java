@@ -0,0 +1,104 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static java.time.Duration.ofNanos;
+
+/**
+ * Snapshot of metrics collected by {@link ContextOwnershipMonitor}.
+ */
+public final class ContextOwnershipMetrics {
+
+    private final long liveContainers;
+    private final long busyContainers;
+    private final long freeContainers;
+    private final long releasedContainers;
+    private final long stoppedContexts;
+    private final long totalReleaseLatencyNanos;
+    private final long maxReleaseLatencyNanos;
+
+    ContextOwnershipMetrics(long liveContainers,
+                            long busyContainers,
+                            long freeContainers,
+                            long releasedContainers,
+                            long stoppedContexts,
+                            long totalReleaseLatencyNanos,
+                            long maxReleaseLatencyNanos) {
+        this.liveContainers = liveContainers;
+        this.busyContainers = busyContainers;
+        this.freeContainers = freeContainers;
+        this.releasedContainers = releasedContainers;
+        this.stoppedContexts = stoppedContexts;
+        this.totalReleaseLatencyNanos = totalReleaseLatencyNanos;
+        this.maxReleaseLatencyNanos = maxReleaseLatencyNanos;
+    }
+
+    /**
+     * @return count of known containers of contexts
+     */
+    public long getLiveContainers() {
+        return liveContainers;
+    }
+
+    /**
+     * @return count of containers which are taken by threads
+     */
+    public long getBusyContainers() {
+        return busyContainers;
+    }
+
+    /**
+     * @return count of containers which are free of threads
+     */
+    public long getFreeContainers() {
+        return freeContainers;
+    }
+
+    /**
+     * @return how many times containers were released because their threads have been finished
+     */
+    public long getReleasedContainers() {
+        return releasedContainers;
+    }
+
+    /**
+     * @return how many times {@link ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable#stop()} was invoked
+     * on inactive contexts
+     */
+    public long getStoppedContexts() {
+        return stoppedContexts;
+    }
+
+    /**
+     * @return average time between the last moment when a thread was seen active and the moment
+     * when the container taken by the thread was released
+     */
+    public Duration getAverageReleaseLatency() {
+        if (releasedContainers == 0) {
+            return Duration.ZERO;
+        }
+        return ofNanos(totalReleaseLatencyNanos / releasedContainers);
+    }
+
+    /**
+     * @return max time between the last moment when a thread was seen active and the moment
+     * when the container taken by the thread was released
+     */
+    public Duration getMaxReleaseLatency() {
+        return ofNanos(maxReleaseLatencyNanos);
+    }
+
+    @Override
+    public String toString() {
+        return format("live: %s, busy: %s, free: %s, released: %s, stopped: %s, " +
+                        "average release latency: %s, max release latency: %s",
+                liveContainers,
+                busyContainers,
+                freeContainers,
+                releasedContainers,
+                stoppedContexts,
+                getAverageReleaseLatency(),
+                getMaxReleaseLatency());
+    }
+}
@@ -0,0 +1,220 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.AbstractOwnableSynchronizer;
+
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.State.TERMINATED;
+import static java.lang.Thread.State.WAITING;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer.containers;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivityAfter.FREE_RESOURCES_ON_INACTIVITY_AFTER;
+
+/**
+ * Watches all instances of {@link ObjectContainer} by a single scheduled sweep.
+ * <p>
+ * When a thread that takes an {@link ObjectContainer} is stopped or waits for termination
+ * then the container is marked free by invocation of {@link ObjectContainer#setFree(long)}.
+ * When a free container wraps an instance of {@link Stoppable} and it is still inactive after
+ * the time defined by {@code 'TO_FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_UNIT'} and
+ * {@code 'TO_FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_VALUE'} then {@link Stoppable#stop()} is invoked.
+ * It is invoked by a separate thread, so the sweeping is not delayed. A thread that takes the container
+ * while the wrapped object is being stopped waits for the finishing of the stopping.
+ */
+public final class ContextOwnershipMonitor {
+
+    /**
+     * Time between two sweeps in milliseconds.
+     */
+    static final long SWEEP_INTERVAL_MILLIS = 10;
+
+    private static final Field TARGET_FIELD;
+    private static final Field EXCLUSIVE_OWNER_THREAD_FIELD;
+
+    private static final AtomicLong RELEASED = new AtomicLong();
+    private static final AtomicLong STOPPED = new AtomicLong();
+    private static final AtomicLong RELEASE_LATENCY_TOTAL = new AtomicLong();
+    private static final LongAccumulator RELEASE_LATENCY_MAX = new LongAccumulator(Long::max, 0);
+
+    private static volatile ScheduledExecutorService sweeper;
+    private static volatile ExecutorService stopper;
+
+    static {
+        try {
+            TARGET_FIELD = Thread.class.getDeclaredField("target");
+            TARGET_FIELD.setAccessible(true);
+            EXCLUSIVE_OWNER_THREAD_FIELD = AbstractOwnableSynchronizer.class.getDeclaredField("exclusiveOwnerThread");
+            EXCLUSIVE_OWNER_THREAD_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ContextOwnershipMonitor() {
+        super();
+    }
+
+    /**
+     * Starts the sweeping when it is not started yet.
+     */
+    static void watch() {
+        if (sweeper != null) {
+            return;
+        }
+
+        synchronized (ContextOwnershipMonitor.class) {
+            if (sweeper == null) {
+                var executor = newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat("neptune-context-ownership-monitor")
+                        .setDaemon(true)
+                        .build());
+                executor.scheduleWithFixedDelay(ContextOwnershipMonitor::sweep,
+                        SWEEP_INTERVAL_MILLIS,
+                        SWEEP_INTERVAL_MILLIS,
+                        MILLISECONDS);
+                sweeper = executor;
+            }
+        }
+    }
+
+    /**
+     * Returns current metrics of the monitoring.
+     *
+     * @return a snapshot of metrics
+     */
+    public static ContextOwnershipMetrics getMetrics() {
+        var snapshot = new ArrayList<>(containers);
+        var busy = snapshot.stream().filter(ObjectContainer::isBusy).count();
+        return new ContextOwnershipMetrics(snapshot.size(),
+                busy,
+                snapshot.size() - busy,
+                RELEASED.get(),
+                STOPPED.get(),
+                RELEASE_LATENCY_TOTAL.get(),
+                RELEASE_LATENCY_MAX.get());
+    }
+
+    private static void sweep() {
+        try {
+            var toFreeOnInactivity = TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.get();
+            for (var container : containers) {
+                var owner = container.getBusyBy();
+                if (owner != null) {
+                    checkOwner(container, owner, toFreeOnInactivity);
+                } else {
+                    checkInactivity(container);
+                }
+            }
+        } catch (Exception e) {
+            //the sweeping should never be stopped by an unexpected failure
+            e.printStackTrace();
+        }
+    }
+
+    private static void checkOwner(ObjectContainer<?> container, Thread owner, boolean toFreeOnInactivity) {
+        var now = nanoTime();
+        if (!isOwnerGone(owner, toFreeOnInactivity)) {
+            container.ownerSeenActiveAt(now);
+            return;
+        }
+
+        if (container.setFreeIfBusyBy(owner, FREE_RESOURCES_ON_INACTIVITY_AFTER.get().toMillis())) {
+            var latency = nanoTime() - container.getOwnerSeenActiveAt();
+            RELEASED.incrementAndGet();
+            RELEASE_LATENCY_TOTAL.addAndGet(latency);
+            RELEASE_LATENCY_MAX.accumulate(latency);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void checkInactivity(ObjectContainer<?> container) {
+        if (!container.isTimeToStop(nanoTime())) {
+            return;
+        }
+
+        CompletableFuture<Void> stopping;
+        synchronized (container) {
+            if (!container.isTimeToStop(nanoTime())) {
+                return;
+            }
+            stopping = container.startStopping();
+        }
+
+        //a slow stopping of one object should not delay the watching of other containers
+        getStopper().execute(() -> {
+            try {
+                ((ObjectContainer<? extends Stoppable>) container).getWrappedObject().stop();
+                STOPPED.incrementAndGet();
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                stopping.complete(null);
+            }
+        });
+    }
+
+    private static ExecutorService getStopper() {
+        var s = stopper;
+        if (s != null) {
+            return s;
+        }
+
+        synchronized (ContextOwnershipMonitor.class) {
+            if (stopper == null) {
+                stopper = newCachedThreadPool(new ThreadFactoryBuilder()
+                        .setNameFormat("neptune-context-stopper-%d")
+                        .setDaemon(true)
+                        .build());
+            }
+            return stopper;
+        }
+    }
+
+    private static boolean isOwnerGone(Thread owner, boolean toFreeOnInactivity) {
+        if (!owner.isAlive()) {
+            return true;
+        }
+
+        var state = owner.getState();
+        if (state == TERMINATED) {
+            return true;
+        }
+
+        //test thread may hang up
+        //or may be finished and wait the finishing of for other tests
+        return state == WAITING
+                && toFreeOnInactivity
+                && isFinishedAndWaitingForTermination(owner);
+    }
+
+    @Beta
+    private static boolean isFinishedAndWaitingForTermination(Thread owner) {
+        try {
+            var val = TARGET_FIELD.get(owner);
+            if (val == null) {
+                return false;
+            }
+
+            if (!AbstractOwnableSynchronizer.class.isAssignableFrom(val.getClass())) {
+                return false;
+            }
+
+            return EXCLUSIVE_OWNER_THREAD_FIELD.get(val) == null;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer.containers;
+
+/**
+ * Keeps instances of {@link ObjectContainer} which are free of threads. Free containers are grouped by classes
+ * of wrapped objects. Each group is a lock-free deque, so it takes O(1) to check out a free container or
+ * to return it back.
+ */
+public final class ContextPool {
+
+    /**
+     * Checks out free containers from the pool. It is used by default.
+     */
+    public static final ContextCheckOut CONTEXT_POOL = new ContextCheckOut() {
+        @Override
+        public <T> ObjectContainer<T> checkOut(Class<T> tClass, Thread thread) {
+            return ContextPool.checkOut(tClass, thread);
+        }
+    };
+
+    private static final ConcurrentHashMap<Class<?>, Deque<ObjectContainer<?>>> FREE_CONTAINERS =
+            new ConcurrentHashMap<>();
+
+    private static final LongAdder CHECKED_OUT = new LongAdder();
+    private static final LongAdder MISSED = new LongAdder();
+    private static final LongAdder RETURNED = new LongAdder();
+    private static final LongAdder CONTENDED = new LongAdder();
+    private static final LongAdder STALE = new LongAdder();
+
+    private ContextPool() {
+        super();
+    }
+
+    /**
+     * Takes a free container by the thread.
+     *
+     * @param tClass is a class of wrapped objects. {@link ObjectContainer#getWrappedObject()}
+     * @param thread is a thread that takes the container
+     * @param <T>    is a type of wrapped objects.
+     * @return an object of {@link ObjectContainer} that has become busy. Returns {@code null} when
+     * there is no free container of the given class.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ObjectContainer<T> checkOut(Class<T> tClass, Thread thread) {
+        var result = poll(FREE_CONTAINERS.get(tClass), thread);
+        if (result != null) {
+            return (ObjectContainer<T>) result;
+        }
+
+        for (var entry : FREE_CONTAINERS.entrySet()) {
+            if (entry.getKey() != tClass && tClass.isAssignableFrom(entry.getKey())) {
+                result = poll(entry.getValue(), thread);
+                if (result != null) {
+                    return (ObjectContainer<T>) result;
+                }
+            }
+        }
+
+        MISSED.increment();
+        return null;
+    }
+
+    /**
+     * Returns a container which has become free back to the pool.
+     *
+     * @param container is a container to return
+     */
+    static void giveBack(ObjectContainer<?> container) {
+        FREE_CONTAINERS.computeIfAbsent(container.getWrappedObject().getClass(),
+                aClass -> new ConcurrentLinkedDeque<>())
+                .offerFirst(container);
+        RETURNED.increment();
+    }
+
+    private static ObjectContainer<?> poll(Deque<ObjectContainer<?>> freeContainers, Thread thread) {
+        if (freeContainers == null) {
+            return null;
+        }
+
+        ObjectContainer<?> container;
+        while ((container = freeContainers.pollFirst()) != null) {
+            if (!containers.contains(container)) {
+                STALE.increment();
+                continue;
+            }
+
+            if (container.tryTake(thread)) {
+                CHECKED_OUT.increment();
+                return container;
+            }
+            CONTENDED.increment();
+        }
+        return null;
+    }
+
+    /**
+     * Returns current metrics of the pool.
+     *
+     * @return a snapshot of metrics
+     */
+    public static ContextPoolMetrics getMetrics() {
+        return new ContextPoolMetrics(FREE_CONTAINERS.values().stream().mapToLong(Deque::size).sum(),
+                CHECKED_OUT.sum(),
+                MISSED.sum(),
+                RETURNED.sum(),
+                CONTENDED.sum(),
+                STALE.sum());
+    }
+}
@@ -0,0 +1,83 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of metrics collected by {@link ContextPool}.
+ */
+public final class ContextPoolMetrics {
+
+    private final long pooled;
+    private final long checkedOut;
+    private final long missed;
+    private final long returned;
+    private final long contended;
+    private final long stale;
+
+    ContextPoolMetrics(long pooled,
+                       long checkedOut,
+                       long missed,
+                       long returned,
+                       long contended,
+                       long stale) {
+        this.pooled = pooled;
+        this.checkedOut = checkedOut;
+        this.missed = missed;
+        this.returned = returned;
+        this.contended = contended;
+        this.stale = stale;
+    }
+
+    /**
+     * @return count of free containers that are kept by the pool at the moment
+     */
+    public long getPooled() {
+        return pooled;
+    }
+
+    /**
+     * @return how many times free containers were taken from the pool
+     */
+    public long getCheckedOut() {
+        return checkedOut;
+    }
+
+    /**
+     * @return how many times there was no free container and a new context was created
+     */
+    public long getMissed() {
+        return missed;
+    }
+
+    /**
+     * @return how many times containers were returned to the pool
+     */
+    public long getReturned() {
+        return returned;
+    }
+
+    /**
+     * @return how many times a polled container has been already taken by another thread
+     */
+    public long getContended() {
+        return contended;
+    }
+
+    /**
+     * @return how many polled containers were dropped because they are not known anymore
+     */
+    public long getStale() {
+        return stale;
+    }
+
+    @Override
+    public String toString() {
+        return format("pooled: %s, checked out: %s, missed: %s, returned: %s, contended: %s, stale: %s",
+                pooled,
+                checkedOut,
+                missed,
+                returned,
+                contended,
+                stale);
+    }
+}
@@ -3,37 +3,41 @@ package ru.tinkoff.qa.neptune.core.api.concurrency;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
 import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
-import static java.util.Collections.synchronizedSet;
 import static java.util.Objects.nonNull;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
 
 public class ObjectContainer<T> {
 
     //package private for unit testing
-    static final Set<ObjectContainer<?>> containers = synchronizedSet(new HashSet<>());
+    static final Set<ObjectContainer<?>> containers = newKeySet();
 
     private final T t;
-    private Thread busyBy;
+    private volatile Thread busyBy;
+    private volatile long ownerSeenActiveAt;
+    private volatile boolean toStop;
+    private volatile long toStopAt;
+    private volatile CompletableFuture<Void> stopping;
 
     public ObjectContainer(T t) {
         checkNotNull(t);
         checkArgument(Context.class.isAssignableFrom(t.getClass()), format("Class of an object should be " +
                 "assignable %s", Context.class.getName()));
         this.t = t;
-        synchronized (containers) {
-            this.setBusy(currentThread());
-            containers.add(this);
-        }
+        this.setBusy(currentThread());
+        containers.add(this);
     }
 
     public static <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass,
@@ -42,10 +46,8 @@ public class ObjectContainer<T> {
         checkNotNull(predicate);
         checkArgument(Context.class.isAssignableFrom(tClass), format("Class of an object should be " +
                 "assignable %s", Context.class.getName()));
-        synchronized (containers) {
-            return containers.stream().filter(predicate
-                    .and(objectContainer -> tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()))).collect(toList());
-        }
+        return containers.stream().filter(predicate
+                .and(objectContainer -> tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()))).collect(toList());
     }
 
     /**
@@ -54,36 +56,86 @@ public class ObjectContainer<T> {
      * @param tClass is a class of wrapped objects. {@link ObjectContainer#getWrappedObject()}
      * @param <T> is a type of wrapped objects.
      * @return an object of {@link ObjectContainer} that has become busy if there is some objects free of threads.
+     * @see ContextPool
      */
-    @SuppressWarnings("unchecked")
-    public static synchronized <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
-        var freeObjects = getAllObjects(tClass, objectContainer ->
-                !objectContainer.isBusy());
-        if (freeObjects.size() == 0) {
-            return null;
-        }
-        var result = freeObjects.get(0);
-        result.setBusy(currentThread());
-        return (ObjectContainer<T>) result;
+    public static <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
+        checkNotNull(tClass);
+        checkArgument(Context.class.isAssignableFrom(tClass), "Class of an object should be " +
+                "assignable %s", Context.class.getName());
+        return ContextPool.checkOut(tClass, currentThread());
     }
 
-    synchronized boolean isBusy() {
+    boolean isBusy() {
         return nonNull(busyBy);
     }
 
+    Thread getBusyBy() {
+        return busyBy;
+    }
+
     private synchronized void setBusy(Thread thread) {
         this.busyBy = thread;
-        new ThreadBusyStateLoop(currentThread(), this).start();
+        this.ownerSeenActiveAt = nanoTime();
+        this.toStop = false;
+        ContextOwnershipMonitor.watch();
+    }
+
+    boolean tryTake(Thread thread) {
+        synchronized (this) {
+            if (isBusy()) {
+                return false;
+            }
+            setBusy(thread);
+        }
+
+        //the wrapped object may be being stopped. It is not used until the stopping is finished
+        var s = stopping;
+        if (s != null) {
+            s.join();
+        }
+        return true;
     }
 
-    @SuppressWarnings("unchecked")
     synchronized void setFree(long toStopOnInactivityAfter) {
         this.busyBy = null;
         if (TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.get()
                 && Stoppable.class.isAssignableFrom(t.getClass())) {
-            new ThreadStoppableFreeStateLoop((ObjectContainer<? extends Stoppable>) this, toStopOnInactivityAfter)
-                    .start();
+            this.toStopAt = nanoTime() + MILLISECONDS.toNanos(toStopOnInactivityAfter);
+            this.toStop = true;
         }
+        ContextPool.giveBack(this);
+    }
+
+    synchronized boolean setFreeIfBusyBy(Thread thread, long toStopOnInactivityAfter) {
+        if (busyBy != thread) {
+            return false;
+        }
+        setFree(toStopOnInactivityAfter);
+        return true;
+    }
+
+    void ownerSeenActiveAt(long nanoTime) {
+        this.ownerSeenActiveAt = nanoTime;
+    }
+
+    long getOwnerSeenActiveAt() {
+        return ownerSeenActiveAt;
+    }
+
+    boolean isTimeToStop(long nanoTime) {
+        return !isBusy() && toStop && nanoTime - toStopAt >= 0;
+    }
+
+    /**
+     * Marks the container as being stopped. It should be invoked while the monitor of the container is held.
+     *
+     * @return a future which should be completed when the stopping is finished
+     */
+    CompletableFuture<Void> startStopping() {
+        this.toStop = false;
+        var s = new CompletableFuture<Void>();
+        stopping = s;
+        return s;
     }
 
     public T getWrappedObject() {
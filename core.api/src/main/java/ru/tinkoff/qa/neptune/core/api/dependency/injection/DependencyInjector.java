@@ -1,19 +1,20 @@
 package ru.tinkoff.qa.neptune.core.api.dependency.injection;
 
-import io.github.classgraph.ClassGraph;
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
 
 import java.lang.reflect.Field;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.lang.reflect.Modifier.isFinal;
-import static java.lang.reflect.Modifier.isStatic;
-import static java.util.Arrays.stream;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
 
 /**
  * It is designed for the filling of not static and not final fields of objects.
  * It is recommended to implement by classes which have no declared constructor/constructor without parameters.
+ * <p>
+ * An injector is instantiated for each object which fields are filled. An injector which keeps no state may be
+ * marked by {@link ru.tinkoff.qa.neptune.core.api.utils.Stateless}. Then it is instantiated once and it is shared
+ * by all threads.
  */
+@IndexSubclasses
 public interface DependencyInjector {
 
     /**
@@ -23,53 +24,12 @@ public interface DependencyInjector {
      */
     static void injectValues(Object o) {
         checkNotNull(o);
-        var clz = o.getClass();
-        Field[] fields1 = new Field[]{};
-
-        while (!clz.equals(Object.class)) {
-            fields1 = addAll(fields1, clz.getDeclaredFields());
-            clz = clz.getSuperclass();
-        }
-
-        if (fields1.length == 0) {
-            return;
-        }
-
-        var fields2 = fields1;
-
-        new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(DependencyInjector.class.getName())
-                .loadClasses(DependencyInjector.class)
-                .forEach(i -> {
-                    try {
-                        var c = i.getConstructor();
-                        c.setAccessible(true);
-
-                        var injector = c.newInstance();
-                        stream(fields2).forEach(f -> {
-                            var m = f.getModifiers();
-                            f.setAccessible(true);
-                            var type = f.getType();
-
-                            try {
-                                var val = f.get(o);
-                                if (!isStatic(m) && !isFinal(m) && injector.toSet(f) && (type.isPrimitive() || val == null)) {
-                                    f.set(o, injector.getValueToSet(f));
-                                }
-                            } catch (IllegalAccessException e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
-
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
+        InjectionPlan.getPlan(o.getClass()).inject(o);
     }
 
     /**
-     * Is it possible/correct/necessary to set value to a field
+     * Is it possible/correct/necessary to set value to a field. It is invoked once per field,
+     * the result is used for all objects of a class.
      *
      * @param field to set a value to
      * @return to set value here or not
@@ -0,0 +1,180 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
+
+/**
+ * Fields of a class which are filled by {@link DependencyInjector}s. The plan is built once per class:
+ * fields are resolved and checked by {@link DependencyInjector#toSet(Field)} once. Then the filling of an object
+ * is a loop over prepared getters and setters. Injectors marked by {@link Stateless} are instantiated once
+ * and shared. Other injectors are instantiated for each filled object.
+ */
+final class InjectionPlan {
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final Injection[] injections;
+
+    private InjectionPlan(Class<?> cls) {
+        var fields = new ArrayList<Field>();
+        var clz = cls;
+        while (!clz.equals(Object.class)) {
+            for (var f : clz.getDeclaredFields()) {
+                var m = f.getModifiers();
+                if (!isStatic(m) && !isFinal(m)) {
+                    fields.add(f);
+                }
+            }
+            clz = clz.getSuperclass();
+        }
+
+        var result = new ArrayList<Injection>();
+        if (!fields.isEmpty()) {
+            for (var injector : Injectors.INJECTORS) {
+                var toSet = new ArrayList<InjectedField>();
+                for (var f : fields) {
+                    if (injector.instance.toSet(f)) {
+                        toSet.add(new InjectedField(f));
+                    }
+                }
+
+                if (!toSet.isEmpty()) {
+                    result.add(new Injection(injector, toSet.toArray(new InjectedField[]{})));
+                }
+            }
+        }
+        injections = result.toArray(new Injection[]{});
+    }
+
+    static InjectionPlan getPlan(Class<?> cls) {
+        return PLANS.get(cls);
+    }
+
+    void inject(Object o) {
+        for (var injection : injections) {
+            var injector = injection.injector.get();
+            for (var field : injection.fields) {
+                field.inject(o, injector);
+            }
+        }
+    }
+
+    /**
+     * @return classes of injectors which may fill fields of objects
+     */
+    static List<Class<? extends DependencyInjector>> getInjectorClasses() {
+        var result = new ArrayList<Class<? extends DependencyInjector>>();
+        for (var injector : Injectors.INJECTORS) {
+            result.add(injector.constructor.getDeclaringClass());
+        }
+        return result;
+    }
+
+    private static final class Injection {
+
+        private final InjectorType injector;
+        private final InjectedField[] fields;
+
+        private Injection(InjectorType injector, InjectedField[] fields) {
+            this.injector = injector;
+            this.fields = fields;
+        }
+    }
+
+    private static final class InjectorType {
+
+        private final Constructor<? extends DependencyInjector> constructor;
+        private final boolean stateless;
+        /**
+         * It is used to check fields. It is also used to fill them when the injector is stateless.
+         */
+        private final DependencyInjector instance;
+
+        private InjectorType(Class<? extends DependencyInjector> cls) {
+            try {
+                constructor = cls.getConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+            stateless = cls.isAnnotationPresent(Stateless.class);
+            instance = newInstance();
+        }
+
+        private DependencyInjector newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private DependencyInjector get() {
+            return stateless ? instance : newInstance();
+        }
+    }
+
+    private static final class InjectedField {
+
+        private final Field field;
+        private final boolean isPrimitive;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private InjectedField(Field field) {
+            this.field = field;
+            isPrimitive = field.getType().isPrimitive();
+            field.setAccessible(true);
+            try {
+                getter = lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class));
+                setter = lookup().unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void inject(Object o, DependencyInjector injector) {
+            try {
+                if (isPrimitive || (Object) getter.invokeExact(o) == null) {
+                    setter.invokeExact(o, injector.getValueToSet(field));
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    private static final class Injectors {
+
+        private static final List<InjectorType> INJECTORS = createInjectors();
+
+        private static List<InjectorType> createInjectors() {
+            var result = new ArrayList<InjectorType>();
+            for (var cls : getSubclasses(DependencyInjector.class)) {
+                if (!isAbstract(cls.getModifiers())) {
+                    result.add(new InjectorType(cls));
+                }
+            }
+            return List.copyOf(result);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.EventQueueCapacity.EVENT_QUEUE_CAPACITY_PROPERTY;
+
+/**
+ * Passes events to loggers by the background thread. Events are taken from the bounded queue
+ * in order of their firing, so each logger receives events of each thread in the same order as they were fired.
+ * A thread that fires an event waits when the queue is full.
+ */
+final class AsyncEventDispatcher {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final ThreadLocal<Boolean> HAS_PENDING_EVENTS = new ThreadLocal<>();
+    private static volatile Thread dispatcher;
+
+    private AsyncEventDispatcher() {
+        super();
+    }
+
+    /**
+     * The queue and the dispatching thread are created on the first access to the holder, so firing threads
+     * do not synchronize on each event.
+     */
+    private static final class QueueHolder {
+        private static final BlockingQueue<Runnable> QUEUE = startDispatching();
+    }
+
+    private static BlockingQueue<Runnable> startDispatching() {
+        var queue = new LinkedBlockingQueue<Runnable>(EVENT_QUEUE_CAPACITY_PROPERTY.get());
+        dispatcher = new ThreadFactoryBuilder()
+                .setNameFormat("neptune-event-dispatcher")
+                .setDaemon(true)
+                .build()
+                .newThread(() -> dispatch(queue));
+        dispatcher.start();
+        getRuntime().addShutdownHook(new Thread(() -> awaitQueuedEvents(queue)));
+        return queue;
+    }
+
+    private static void dispatch(BlockingQueue<Runnable> queue) {
+        var batch = new ArrayList<Runnable>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (var event : batch) {
+                try {
+                    event.run();
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private static void put(BlockingQueue<Runnable> queue, Runnable event) {
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Adds an event to the queue. Current thread waits when the queue is full.
+     *
+     * @param event is an invocation of a logger
+     */
+    static void fire(Runnable event) {
+        put(QueueHolder.QUEUE, event);
+        HAS_PENDING_EVENTS.set(true);
+    }
+
+    /**
+     * Waits until all events fired by current thread are passed to loggers.
+     */
+    static void flush() {
+        if (HAS_PENDING_EVENTS.get() == null || currentThread() == dispatcher) {
+            return;
+        }
+
+        awaitQueuedEvents(QueueHolder.QUEUE);
+        HAS_PENDING_EVENTS.remove();
+    }
+
+    private static void awaitQueuedEvents(BlockingQueue<Runnable> queue) {
+        var barrier = new CountDownLatch(1);
+        put(queue, barrier::countDown);
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
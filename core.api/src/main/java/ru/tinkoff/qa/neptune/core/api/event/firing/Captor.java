@@ -2,7 +2,9 @@ package ru.tinkoff.qa.neptune.core.api.event.firing;
 
 import java.util.List;
 
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CaptureSnapshot.produced;
 
 /**
  * This class is designed to catch different objects for the logging/report.
@@ -17,14 +19,45 @@ public abstract class Captor<T, S> {
 
     public Captor(String message, List<? extends CapturedDataInjector<S>> injectors) {
         this.message = message;
-        this.injectors = injectors;
+        this.injectors = List.copyOf(injectors);
     }
 
     public void capture(T caught) {
-        S s = getData(caught);
+        inject(getData(caught));
+    }
+
+    void inject(S s) {
+        inject(s, message);
+    }
+
+    /**
+     * Injects data which were captured during the step but are injected after it is finished.
+     * The description of the step is added to the message.
+     *
+     * @param s    is produced data
+     * @param step is a description of the step where the object was caught. It may be {@code null}
+     */
+    void injectCapturedInStep(S s, String step) {
+        inject(s, step == null ? message : format("%s. Step: %s", message, step));
+    }
+
+    private void inject(S s, String message) {
         ofNullable(s).ifPresent(s1 -> injectors.forEach(injector -> injector.inject(s1, message)));
     }
 
+    /**
+     * Takes a snapshot of a caught object. Data to be injected into log/report are produced from the snapshot later,
+     * may be by another thread. By default data are produced at once. It is recommended to override this method
+     * when it is possible to take a cheap snapshot, e.g. raw bytes, and to do the heavy work later.
+     *
+     * @param caught is a caught object to take a snapshot of.
+     * @return a snapshot
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode
+     */
+    public CaptureSnapshot<S> takeSnapshot(T caught) {
+        return produced(getData(caught));
+    }
+
     /**
      * Gets/transforms data from a caught object to inject into log/report.
      *
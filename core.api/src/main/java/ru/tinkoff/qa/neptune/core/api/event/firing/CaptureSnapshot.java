@@ -0,0 +1,87 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
+
+import java.awt.image.BufferedImage;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Snapshot of a caught object which is taken by {@link Captor}. Data to be injected into log/report
+ * are produced from the snapshot later. It is used when value of the property {@code "CAPTURING_MODE"}
+ * is {@code DEFERRED} or {@code ON_FAILURE}.
+ *
+ * @param <S> is a type of produced data.
+ * @see Captor#takeSnapshot(Object)
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode
+ */
+public final class CaptureSnapshot<S> {
+
+    private final Supplier<S> dataSupplier;
+    private final long size;
+
+    private CaptureSnapshot(Supplier<S> dataSupplier, long size) {
+        this.dataSupplier = dataSupplier;
+        this.size = size;
+    }
+
+    /**
+     * Creates a snapshot which holds data that are already produced.
+     *
+     * @param data is produced data. It may be {@code null}
+     * @param <S>  is a type of produced data.
+     * @return a new snapshot
+     */
+    public static <S> CaptureSnapshot<S> produced(S data) {
+        return new CaptureSnapshot<>(() -> data, estimateSize(data));
+    }
+
+    /**
+     * Creates a snapshot which produces data later. The supplier is invoked by any thread,
+     * so it should not depend on objects which may be changed after the snapshot is taken.
+     *
+     * @param dataSupplier produces data from a snapshot, e.g. from raw bytes
+     * @param size         is an estimated size of the snapshot in bytes
+     * @param <S>          is a type of produced data.
+     * @return a new snapshot
+     */
+    public static <S> CaptureSnapshot<S> deferred(Supplier<S> dataSupplier, long size) {
+        checkNotNull(dataSupplier);
+        checkArgument(size >= 0, "Size of a snapshot should not be negative");
+        return new CaptureSnapshot<>(dataSupplier, size);
+    }
+
+    private static long estimateSize(Object data) {
+        if (data instanceof byte[]) {
+            return ((byte[]) data).length;
+        }
+
+        if (data instanceof CharSequence) {
+            return 2L * ((CharSequence) data).length();
+        }
+
+        if (data instanceof EncodedImage) {
+            return ((EncodedImage) data).size();
+        }
+
+        if (data instanceof BufferedImage) {
+            var image = (BufferedImage) data;
+            return 4L * image.getWidth() * image.getHeight();
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return estimated size of the snapshot in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    S produceData() {
+        return dataSupplier.get();
+    }
+}
@@ -32,4 +32,16 @@ public interface EventLogger {
      * Fires the finishing of some event.
      */
     void fireEventFinishing();
+
+    /**
+     * Is the logger bound to the thread where events are fired. Bound loggers are always invoked synchronously.
+     * Other loggers may be invoked by the background thread when events are logged asynchronously.
+     * Each logger receives events fired by a thread in the same order anyway.
+     *
+     * @return {@code true} by default
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventLogging
+     */
+    default boolean isThreadBound() {
+        return true;
+    }
 }
@@ -0,0 +1,129 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.Runtime.getRuntime;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.PendingCapturesMemoryCap.PENDING_CAPTURES_MEMORY_CAP_PROPERTY;
+
+/**
+ * Keeps snapshots taken by the current thread until the test is finished.
+ * Total size of kept snapshots of all threads is limited.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingModes
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.PendingCapturesMemoryCap
+ */
+final class PendingCaptures {
+
+    private static final ThreadLocal<List<PendingCapture<?>>> PENDING = ThreadLocal.withInitial(ArrayList::new);
+    private static final AtomicLong PENDING_BYTES = new AtomicLong();
+
+    private PendingCaptures() {
+        super();
+    }
+
+    /**
+     * Keeps a snapshot until the test is finished.
+     *
+     * @param captor      is a captor which has taken the snapshot
+     * @param snapshot    is a taken snapshot
+     * @param step        is a description of the step where the object was caught. It may be {@code null}
+     * @param onlyFailure should data be injected only when the test is failed. When it is {@code false}
+     *                    then data are produced by background threads at once.
+     * @param <S>         is a type of produced data
+     * @return {@code true} if the snapshot is kept. {@code false} is returned when the limit
+     * of memory is reached.
+     */
+    static <S> boolean add(Captor<?, S> captor, CaptureSnapshot<S> snapshot, String step, boolean onlyFailure) {
+        var size = snapshot.getSize();
+        var cap = PENDING_CAPTURES_MEMORY_CAP_PROPERTY.get();
+        long current;
+        do {
+            current = PENDING_BYTES.get();
+            if (current + size > cap) {
+                return false;
+            }
+        } while (!PENDING_BYTES.compareAndSet(current, current + size));
+
+        var data = onlyFailure ? null : supplyAsync(snapshot::produceData, Workers.EXECUTOR);
+        PENDING.get().add(new PendingCapture<>(captor, snapshot, step, data));
+        return true;
+    }
+
+    /**
+     * Injects data of snapshots kept by the current thread into log/report. Snapshots are released.
+     *
+     * @param testFailed is the finished test failed or not
+     */
+    static void finish(boolean testFailed) {
+        var pending = PENDING.get();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var captures = new ArrayList<>(pending);
+        pending.clear();
+        try {
+            for (var capture : captures) {
+                try {
+                    capture.inject(testFailed);
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                }
+            }
+        } finally {
+            for (var capture : captures) {
+                PENDING_BYTES.addAndGet(-capture.snapshot.getSize());
+            }
+        }
+    }
+
+    /**
+     * @return how many bytes are taken by kept snapshots of all threads
+     */
+    static long getPendingBytes() {
+        return PENDING_BYTES.get();
+    }
+
+    private static final class Workers {
+
+        private static final ExecutorService EXECUTOR = newFixedThreadPool(getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("neptune-capture-worker-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+
+    private static final class PendingCapture<S> {
+
+        private final Captor<?, S> captor;
+        private final CaptureSnapshot<S> snapshot;
+        private final String step;
+        private final CompletableFuture<S> data;
+
+        private PendingCapture(Captor<?, S> captor, CaptureSnapshot<S> snapshot, String step, CompletableFuture<S> data) {
+            this.captor = captor;
+            this.snapshot = snapshot;
+            this.step = step;
+            this.data = data;
+        }
+
+        private void inject(boolean testFailed) {
+            if (data == null) {
+                if (testFailed) {
+                    captor.injectCapturedInStep(snapshot.produceData(), step);
+                }
+                return;
+            }
+
+            captor.injectCapturedInStep(data.join(), step);
+        }
+    }
+}
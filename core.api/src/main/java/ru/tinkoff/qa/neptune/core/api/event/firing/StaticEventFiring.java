@@ -1,18 +1,30 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
+import ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingModes;
 import ru.tinkoff.qa.neptune.core.api.utils.SPIUtil;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventLogging.ASYNC_EVENT_LOGGING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode.CAPTURING_MODE_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingModes.IMMEDIATE;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingModes.ON_FAILURE;
+import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.stringValueOfObjectOrArray;
 
 @SuppressWarnings("unchecked")
 public class StaticEventFiring {
     private static final ThreadLocal<List<Captor>> LIST_THREAD_LOCAL_CAPTORS = new ThreadLocal<>();
     private static final ThreadLocal<List<EventLogger>> LIST_THREAD_LOCAL_EVENT_LOGGERS = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<String>> STARTED_STEPS = ThreadLocal.withInitial(ArrayDeque::new);
 
     private static List<Captor> getCaptors() {
         return ofNullable(LIST_THREAD_LOCAL_CAPTORS.get()).orElseGet(() -> {
@@ -31,6 +43,7 @@ public class StaticEventFiring {
             return;
         }
 
+        var mode = CAPTURING_MODE_PROPERTY.get();
         getCaptors().stream().filter(captor -> {
             for (CaptorFilterByProducedType captorFilterByProducedType : captorFilters) {
                 if (captorFilterByProducedType.matches(captor)) {
@@ -38,7 +51,37 @@ public class StaticEventFiring {
                 }
             }
             return false;
-        }).forEach(captor -> ofNullable(captor.getCaptured(caught)).ifPresent(captor::capture));
+        }).forEach(captor -> capture((Captor<?, ?>) captor, caught, mode));
+    }
+
+    private static <T, S> void capture(Captor<T, S> captor, Object caught, CapturingModes mode) {
+        var captured = captor.getCaptured(caught);
+        if (captured == null) {
+            return;
+        }
+
+        if (mode == IMMEDIATE) {
+            captor.capture(captured);
+            return;
+        }
+
+        var snapshot = captor.takeSnapshot(captured);
+        if (!PendingCaptures.add(captor, snapshot, STARTED_STEPS.get().peek(), mode == ON_FAILURE)) {
+            captor.inject(snapshot.produceData());
+        }
+    }
+
+    /**
+     * Injects data of snapshots taken by current thread into log/report. It has sense when captures
+     * are deferred. Names of injected data contain descriptions of steps where objects were caught,
+     * because the steps are already finished. It is invoked by {@link #finishTest(TestOutcome)}.
+     *
+     * @param testFailed is the finished test failed or not. When value of the property {@code "CAPTURING_MODE"}
+     *                   is {@code ON_FAILURE} and the test is not failed then snapshots are discarded.
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode
+     */
+    public static void injectPendingCaptures(boolean testFailed) {
+        PendingCaptures.finish(testFailed);
     }
 
     private static List<EventLogger> initEventLoggersIfNecessary() {
@@ -50,22 +93,82 @@ public class StaticEventFiring {
                 });
     }
 
+    private static void fire(boolean async, Consumer<EventLogger> event) {
+        var loggers = initEventLoggersIfNecessary();
+        if (!async) {
+            loggers.forEach(event);
+            return;
+        }
+
+        for (var eventLogger : loggers) {
+            if (eventLogger.isThreadBound()) {
+                event.accept(eventLogger);
+            } else {
+                AsyncEventDispatcher.fire(() -> event.accept(eventLogger));
+            }
+        }
+    }
+
     public static void fireEventStarting(String message, Map<String, String> parameters) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireTheEventStarting(message, parameters));
+        STARTED_STEPS.get().push(message);
+        var async = ASYNC_EVENT_LOGGING_PROPERTY.get();
+        var params = async ? new LinkedHashMap<>(parameters) : parameters;
+        fire(async, eventLogger -> eventLogger.fireTheEventStarting(message, params));
     }
 
     public static void fireThrownException(Throwable throwable) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireThrownException(throwable));
+        fire(ASYNC_EVENT_LOGGING_PROPERTY.get(), eventLogger -> eventLogger.fireThrownException(throwable));
     }
 
+    /**
+     * Fires the returned value. When events are logged asynchronously, loggers that are not bound to current thread
+     * receive the string value which is formed by current thread. The returned object may be changed
+     * by the following steps before the event is logged.
+     *
+     * @param returned value that should be fired.
+     */
     public static void fireReturnedValue(Object returned) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireReturnedValue(returned));
+        var async = ASYNC_EVENT_LOGGING_PROPERTY.get();
+        if (!async) {
+            fire(false, eventLogger -> eventLogger.fireReturnedValue(returned));
+            return;
+        }
+
+        var stringValue = stringValueOfObjectOrArray(returned);
+        fire(true, eventLogger -> eventLogger.fireReturnedValue(eventLogger.isThreadBound() ? returned : stringValue));
     }
 
     public static void fireEventFinishing() {
-        initEventLoggersIfNecessary().forEach(EventLogger::fireEventFinishing);
+        fire(ASYNC_EVENT_LOGGING_PROPERTY.get(), EventLogger::fireEventFinishing);
+        STARTED_STEPS.get().poll();
+    }
+
+    /**
+     * Waits until all events fired by current thread are logged. It has sense when events are
+     * logged asynchronously. It is invoked by {@link #finishTest(TestOutcome)}.
+     *
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventLogging
+     */
+    public static void flushEvents() {
+        AsyncEventDispatcher.flush();
+    }
+
+    /**
+     * Completes the logging/reporting of a test which is performed by current thread. Pending captures
+     * are injected and then asynchronously logged events are flushed. Integrations with test runners should invoke it
+     * when each test/configuration method is finished. Otherwise deferred captures are never injected.
+     *
+     * @param outcome is an outcome of the finished test. Only {@link TestOutcome#FAILED} makes captures
+     *                of the mode {@code ON_FAILURE} injected.
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventLogging
+     */
+    public static void finishTest(TestOutcome outcome) {
+        checkNotNull(outcome);
+        try {
+            injectPendingCaptures(outcome == TestOutcome.FAILED);
+        } finally {
+            flushEvents();
+        }
     }
 }
@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+/**
+ * Outcome of a finished test. It is passed by integrations with test runners.
+ *
+ * @see StaticEventFiring#finishTest(TestOutcome)
+ */
+public enum TestOutcome {
+    /**
+     * The test is passed.
+     */
+    PASSED,
+    /**
+     * The test is failed.
+     */
+    FAILED,
+    /**
+     * The test is skipped. It is not considered failed.
+     */
+    SKIPPED
+}
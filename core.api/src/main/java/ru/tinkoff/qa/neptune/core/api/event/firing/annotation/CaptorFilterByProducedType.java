@@ -4,15 +4,22 @@ import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Set;
 
 import static java.util.Optional.ofNullable;
 
 public final class CaptorFilterByProducedType {
 
-    private final Class<?> classOfProducedValue;
+    private final Set<Class<?>> classesOfProducedValue;
 
-    public CaptorFilterByProducedType(Class<?> classOfProducedValue) {
-        this.classOfProducedValue = classOfProducedValue;
+    /**
+     * Creates a filter of captors.
+     *
+     * @param classesOfProducedValue classes of produced values. A captor matches the filter when it produces
+     *                               a value of any of these classes.
+     */
+    public CaptorFilterByProducedType(Class<?>... classesOfProducedValue) {
+        this.classesOfProducedValue = Set.of(classesOfProducedValue);
     }
 
     public boolean matches(Captor<?, ?> captor) {
@@ -34,7 +41,7 @@ public final class CaptorFilterByProducedType {
         }
 
         var parameter = (Class<?>) args[1];
-        return classOfProducedValue.isAssignableFrom(parameter);
+        return classesOfProducedValue.stream().anyMatch(c -> c.isAssignableFrom(parameter));
     }
 
 
@@ -42,7 +49,12 @@ public final class CaptorFilterByProducedType {
     public boolean equals(Object toBeEqual) {
         return ofNullable(toBeEqual)
                 .map(o -> CaptorFilterByProducedType.class.equals(o.getClass())
-                        && ((CaptorFilterByProducedType) o).classOfProducedValue.equals(classOfProducedValue))
+                        && ((CaptorFilterByProducedType) o).classesOfProducedValue.equals(classesOfProducedValue))
                 .orElse(false);
     }
+
+    @Override
+    public int hashCode() {
+        return classesOfProducedValue.hashCode();
+    }
 }
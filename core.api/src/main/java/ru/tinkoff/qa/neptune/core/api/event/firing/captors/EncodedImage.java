@@ -0,0 +1,76 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * An image which is kept encoded, e.g. bytes of a png screenshot. It is injected into log/report as is.
+ * The image is decoded only when {@link #decode()} is invoked.
+ */
+public final class EncodedImage {
+
+    private final byte[] bytes;
+    private final String format;
+
+    /**
+     * Creates an encoded image.
+     *
+     * @param bytes  are encoded bytes of the image. The array is not copied, so it should not be changed later.
+     * @param format is a format name/file extension of the image, e.g. {@code "png"}
+     */
+    public EncodedImage(byte[] bytes, String format) {
+        checkNotNull(bytes);
+        checkArgument(isNotBlank(format), "Format of an image should be defined");
+        this.bytes = bytes;
+        this.format = format;
+    }
+
+    /**
+     * @return encoded bytes of the image. The array is not copied, so it should not be changed.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return format name/file extension of the image
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return size of encoded image in bytes
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * @return new stream that reads encoded bytes of the image
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Decodes the image. It is supposed to be invoked when the image should be transformed or injected
+     * by an {@link CapturedImageInjector}. The image is decoded each time when the method is invoked.
+     *
+     * @return decoded image or {@code null} when bytes can't be decoded
+     */
+    public BufferedImage decode() {
+        try {
+            return ImageIO.read(toInputStream());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataInjector;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.utils.SPIUtil.loadSPI;
+
+/**
+ * Captures images which are kept encoded. They are injected into log/report without decoding/re-encoding.
+ *
+ * @param <T> is a type of an object to be caught
+ */
+public abstract class EncodedImageCaptor<T> extends Captor<T, EncodedImage> {
+
+    public EncodedImageCaptor(String message, List<? extends CapturedDataInjector<EncodedImage>> injectors) {
+        super(message, injectors);
+    }
+
+    /**
+     * Creates a captor that uses all found implementations of {@link CapturedEncodedImageInjector}.
+     * When there is no such implementation then implementations of {@link CapturedImageInjector} are used.
+     * Images are decoded for them.
+     *
+     * @param message is a message to be injected with an image
+     */
+    public EncodedImageCaptor(String message) {
+        this(message, defaultInjectors());
+    }
+
+    private static List<? extends CapturedDataInjector<EncodedImage>> defaultInjectors() {
+        var encodedImageInjectors = loadSPI(CapturedEncodedImageInjector.class);
+        if (!encodedImageInjectors.isEmpty()) {
+            return encodedImageInjectors;
+        }
+
+        return loadSPI(CapturedImageInjector.class)
+                .stream()
+                .map(DecodingInjector::new)
+                .collect(toList());
+    }
+
+    @Override
+    public abstract EncodedImage getData(T caught);
+
+    private static final class DecodingInjector implements CapturedDataInjector<EncodedImage> {
+
+        private final CapturedImageInjector injector;
+
+        private DecodingInjector(CapturedImageInjector injector) {
+            this.injector = injector;
+        }
+
+        @Override
+        public void inject(EncodedImage toBeInjected, String message) {
+            var image = toBeInjected.decode();
+            if (image != null) {
+                injector.inject(image, message);
+            }
+        }
+    }
+}
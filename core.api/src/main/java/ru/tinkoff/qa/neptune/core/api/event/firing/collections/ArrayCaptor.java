@@ -1,5 +1,7 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing.collections;
 
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
 import java.util.List;
 import java.util.Map;
 
@@ -9,6 +11,7 @@ import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.core.api.utils.IsLoggableUtil.isLoggable;
 import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.toArray;
 
+@Stateless
 public class ArrayCaptor extends IterableCaptor<List<?>> {
 
     public ArrayCaptor() {
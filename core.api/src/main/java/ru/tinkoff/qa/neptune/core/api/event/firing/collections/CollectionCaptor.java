@@ -1,5 +1,7 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing.collections;
 
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +10,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.core.api.utils.IsLoggableUtil.isLoggable;
 
+@Stateless
 public class CollectionCaptor extends IterableCaptor<List<?>> {
 
     public CollectionCaptor() {
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.event.firing.collections;
 
 import com.google.common.collect.Iterables;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -13,6 +14,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
 import static ru.tinkoff.qa.neptune.core.api.utils.IsLoggableUtil.isLoggable;
 
+@Stateless
 public class MapCaptor extends StringCaptor<Map<?, ?>> {
 
     private static final String LINE_SEPARATOR = lineSeparator();
@@ -51,4 +51,9 @@ public class DefaultConsoleEventLogger implements EventLogger {
         successful = true;
         steps.removeLast();
     }
+
+    @Override
+    public boolean isThreadBound() {
+        return false;
+    }
 }
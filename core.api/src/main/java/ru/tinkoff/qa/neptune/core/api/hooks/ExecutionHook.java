@@ -1,5 +1,7 @@
 package ru.tinkoff.qa.neptune.core.api.hooks;
 
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
+
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -9,6 +11,7 @@ import static ru.tinkoff.qa.neptune.core.api.hooks.KnownHooks.*;
  * Wraps common algorithms pre-executed before some methods.
  * This is designed to be used by Junit Rules or Testng Listeners.
  */
+@IndexSubclasses
 public interface ExecutionHook {
 
 
@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.hooks;
 
-import io.github.classgraph.ClassGraph;
-
 import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedList;
 import java.util.List;
@@ -10,6 +8,7 @@ import static java.lang.String.format;
 import static java.util.Map.Entry.comparingByValue;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
 
 final class KnownHooks {
 
@@ -17,10 +16,7 @@ final class KnownHooks {
     private static final List<ExecutionHook> HOOKS = new LinkedList<>();
 
     static void initHooks() {
-        new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(ExecutionHook.class.getName())
-                .loadClasses(ExecutionHook.class)
+        getSubclasses(ExecutionHook.class)
                 .stream()
                 .collect(toMap(executionHookClass -> executionHookClass, executionHookClass -> {
                     var cls = (Class<?>) executionHookClass;
@@ -0,0 +1,287 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.AnnotatedElement;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.classpath.ScanClasspath.SCAN_CLASSPATH_PROPERTY;
+
+/**
+ * Finds subclasses/implementations of classes and interfaces. It reads the index which is written by
+ * {@link ClassIndexProcessor} at compile time. Classpath entries which have no index, e.g. classes compiled
+ * without the processor, are scanned and found classes are merged with indexed ones. The whole classpath is scanned
+ * only when there is no index or a class has no supertype annotated by {@link IndexSubclasses}.
+ * Each kind of the scanning is performed only once.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.classpath.ScanClasspath
+ */
+public final class ClassIndex {
+
+    static final String INDEX_DIRECTORY = "META-INF/neptune/index/";
+    static final String INDEX_MARKER = INDEX_DIRECTORY + "neptune.index";
+
+    private static final ConcurrentHashMap<Class<?>, List<? extends Class<?>>> SUBCLASSES = new ConcurrentHashMap<>();
+    private static final ClasspathScan CLASSPATH_SCAN = new ClasspathScan(null);
+
+    private ClassIndex() {
+        super();
+    }
+
+    /**
+     * Returns subclasses of a class or classes implementing an interface. Abstract classes are included,
+     * interfaces are not.
+     *
+     * @param cls is a class or an interface to find subclasses/implementations of
+     * @param <T> is a type of the class
+     * @return an unmodifiable list of found classes. The given class is not included.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<Class<? extends T>> getSubclasses(Class<T> cls) {
+        checkNotNull(cls);
+        var result = SUBCLASSES.get(cls);
+        if (result == null) {
+            result = SUBCLASSES.computeIfAbsent(cls, c -> findSubclasses(c, getClassLoader(), CLASSPATH_SCAN));
+        }
+        return (List<Class<? extends T>>) result;
+    }
+
+    static <T> List<Class<? extends T>> findSubclasses(Class<T> cls, ClassLoader loader, ClasspathScan scan) {
+        if (SCAN_CLASSPATH_PROPERTY.get() || loader.getResource(INDEX_MARKER) == null) {
+            return scanClasspath(cls, scan.getAll());
+        }
+
+        var indexedSupertypes = new LinkedHashSet<Class<?>>();
+        collectIndexedSupertypes(cls, indexedSupertypes);
+        if (indexedSupertypes.isEmpty()) {
+            return scanClasspath(cls, scan.getAll());
+        }
+
+        var names = new TreeSet<String>();
+        for (var supertype : indexedSupertypes) {
+            names.addAll(readIndex(loader, supertype));
+        }
+        names.addAll(scanNotIndexed(cls, loader, scan.getNotIndexed(loader)));
+
+        var result = new ArrayList<Class<? extends T>>();
+        for (var name : names) {
+            var found = load(name, loader);
+            if (found != null
+                    && !found.isInterface()
+                    && cls.isAssignableFrom(found)
+                    && !cls.equals(found)) {
+                result.add(found.asSubclass(cls));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static Class<?> load(String name, ClassLoader loader) {
+        try {
+            return Class.forName(name, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            //the index may contain classes which are not available at runtime
+            return null;
+        }
+    }
+    private static void collectIndexedSupertypes(Class<?> cls, Set<Class<?>> result) {
+        if (cls == null) {
+            return;
+        }
+
+        if (isIndexed(cls)) {
+            result.add(cls);
+        }
+
+        collectIndexedSupertypes(cls.getSuperclass(), result);
+        for (var i : cls.getInterfaces()) {
+            collectIndexedSupertypes(i, result);
+        }
+    }
+
+    private static boolean isIndexed(AnnotatedElement element) {
+        return element.getAnnotation(IndexSubclasses.class) != null;
+    }
+
+    private static Set<String> readIndex(ClassLoader loader, Class<?> indexed) {
+        var result = new TreeSet<String>();
+        try {
+            var resources = loader.getResources(INDEX_DIRECTORY + indexed.getName());
+            while (resources.hasMoreElements()) {
+                try (var reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            result.add(line.trim());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    private static <T> List<Class<? extends T>> scanClasspath(Class<T> cls, ScanResult scanResult) {
+        var classes = cls.isInterface()
+                ? scanResult.getClassesImplementing(cls.getName())
+                : scanResult.getSubclasses(cls.getName());
+        var loaded = classes.filter(classInfo -> !classInfo.isInterface() && !classInfo.isAnnotation())
+                .loadClasses(cls);
+        return List.copyOf(loaded);
+    }
+
+    /**
+     * Finds classes of entries which have no index. Their supertypes may belong to indexed entries which are not
+     * scanned. Such supertypes are loaded to check them.
+     */
+    private static Set<String> scanNotIndexed(Class<?> cls, ClassLoader loader, ScanResult scanResult) {
+        var result = new TreeSet<String>();
+        var notScanned = new HashMap<String, Boolean>();
+        for (var classInfo : scanResult.getAllStandardClasses()) {
+            if (!classInfo.isExternalClass() && isSubtype(classInfo, cls, loader, notScanned)) {
+                result.add(classInfo.getName());
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSubtype(ClassInfo classInfo, Class<?> cls, ClassLoader loader, Map<String, Boolean> notScanned) {
+        var supertypes = new ArrayList<ClassInfo>(classInfo.getSuperclasses());
+        supertypes.addAll(classInfo.getInterfaces());
+        for (var supertype : supertypes) {
+            var name = supertype.getName();
+            if (name.equals(cls.getName())) {
+                return true;
+            }
+
+            if (supertype.isExternalClass() && notScanned.computeIfAbsent(name, n -> {
+                var loaded = load(n, loader);
+                return loaded != null && cls.isAssignableFrom(loaded);
+            })) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ClassLoader getClassLoader() {
+        return ofNullable(currentThread().getContextClassLoader()).orElseGet(ClassLoader::getSystemClassLoader);
+    }
+
+    /**
+     * Root of a classpath entry which contains the resource, e.g. a directory or a jar file.
+     * It returns {@code null} when it is not possible to define.
+     */
+    private static Path toEntryPath(String url) {
+        var path = url;
+        if (path.startsWith("jar:")) {
+            path = path.substring("jar:".length());
+            var separator = path.indexOf("!/");
+            if (separator >= 0) {
+                path = path.substring(0, separator);
+            }
+        }
+
+        try {
+            return Paths.get(new URI(path)).toAbsolutePath().normalize();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Results of the scanning of the classpath. They are produced lazily and only once.
+     */
+    static final class ClasspathScan {
+
+        private final ClassLoader classLoader;
+        private volatile ScanResult all;
+        private volatile ScanResult notIndexed;
+
+        /**
+         * @param classLoader is a class loader to scan. Default class loaders are scanned when it is {@code null}
+         */
+        ClasspathScan(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        private ClassGraph classGraph() {
+            var classGraph = new ClassGraph()
+                    .enableClassInfo()
+                    .ignoreClassVisibility();
+            return classLoader == null ? classGraph : classGraph.overrideClassLoaders(classLoader);
+        }
+
+        ScanResult getAll() {
+            var result = all;
+            if (result == null) {
+                synchronized (this) {
+                    result = all;
+                    if (result == null) {
+                        all = result = classGraph().scan();
+                    }
+                }
+            }
+            return result;
+        }
+
+        ScanResult getNotIndexed(ClassLoader loader) {
+            var result = notIndexed;
+            if (result == null) {
+                synchronized (this) {
+                    result = notIndexed;
+                    if (result == null) {
+                        var indexed = getIndexedEntries(loader);
+                        notIndexed = result = classGraph()
+                                .enableExternalClasses()
+                                .filterClasspathElementsByURL(url -> {
+                                    var entry = toEntryPath(url.toString());
+                                    return entry == null || !indexed.contains(entry);
+                                })
+                                .scan();
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Set<Path> getIndexedEntries(ClassLoader loader) {
+            var result = new HashSet<Path>();
+            try {
+                var markers = loader.getResources(INDEX_MARKER);
+                while (markers.hasMoreElements()) {
+                    var marker = markers.nextElement().toString();
+                    ofNullable(toEntryPath(marker.substring(0, marker.length() - INDEX_MARKER.length())))
+                            .ifPresent(result::add);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result;
+        }
+    }
+}
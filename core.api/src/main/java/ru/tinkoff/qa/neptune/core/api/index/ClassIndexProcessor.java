@@ -0,0 +1,136 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.FileObject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.lang.model.element.ElementKind.ENUM;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.INDEX_DIRECTORY;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.INDEX_MARKER;
+
+/**
+ * Writes the class index. Each compiled class which extends/implements a type annotated by {@link IndexSubclasses}
+ * is written to the file {@code META-INF/neptune/index/<name of the annotated type>}.
+ * <p>
+ * It is registered as a service, so javac finds it on the class path automatically. Gradle builds should
+ * declare it explicitly, e.g. {@code annotationProcessor 'ru.tinkoff.qa.neptune:core.api:<version>'}.
+ */
+@SupportedAnnotationTypes("*")
+public final class ClassIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (var element : roundEnv.getRootElements()) {
+            indexType(element);
+        }
+        return false;
+    }
+
+    private void indexType(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        var type = (TypeElement) element;
+        if (type.getKind() == CLASS || type.getKind() == ENUM) {
+            var name = processingEnv.getElementUtils().getBinaryName(type).toString();
+            var indexedSupertypes = new HashSet<String>();
+            collectIndexedSupertypes(type.asType(), indexedSupertypes);
+            indexedSupertypes.forEach(s -> index.computeIfAbsent(s, k -> new TreeSet<>()).add(name));
+        }
+
+        for (var enclosed : type.getEnclosedElements()) {
+            indexType(enclosed);
+        }
+    }
+
+    private void collectIndexedSupertypes(TypeMirror type, Set<String> result) {
+        for (var supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (!(supertype instanceof DeclaredType)) {
+                continue;
+            }
+
+            var element = (TypeElement) ((DeclaredType) supertype).asElement();
+            if (element.getAnnotation(IndexSubclasses.class) != null) {
+                result.add(processingEnv.getElementUtils().getBinaryName(element).toString());
+            }
+            collectIndexedSupertypes(supertype, result);
+        }
+    }
+
+    private void writeIndex() {
+        var filer = processingEnv.getFiler();
+        try {
+            for (var entry : index.entrySet()) {
+                var path = INDEX_DIRECTORY + entry.getKey();
+                //classes that were compiled previously are kept when compilation is incremental
+                var names = readExisting(path);
+                names.addAll(entry.getValue());
+                write(filer.createResource(CLASS_OUTPUT, "", path), names);
+            }
+            write(filer.createResource(CLASS_OUTPUT, "", INDEX_MARKER), Set.of());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(WARNING, format("Class index was not written: %s", e.getMessage()));
+        }
+    }
+
+    private Set<String> readExisting(String path) {
+        var result = new TreeSet<String>();
+        try {
+            var resource = processingEnv.getFiler().getResource(CLASS_OUTPUT, "", path);
+            try (var reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank() && processingEnv.getElementUtils().getTypeElement(line.replace('$', '.')) != null) {
+                        result.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            //there is no index written previously
+        }
+        return result;
+    }
+
+    private static void write(FileObject file, Set<String> names) throws IOException {
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), UTF_8)) {
+            for (var name : names) {
+                writer.write(name);
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a class or an interface which subclasses/implementations should be indexed at compile time.
+ * The index is written by {@link ClassIndexProcessor} and it is read by {@link ClassIndex}.
+ *
+ * @see ClassIndex#getSubclasses(Class)
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface IndexSubclasses {
+}
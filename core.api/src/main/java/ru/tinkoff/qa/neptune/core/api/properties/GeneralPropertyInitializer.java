@@ -191,6 +191,7 @@ public final class GeneralPropertyInitializer {
     public static synchronized void refreshProperties() {
         ofNullable(getAllProperties()).ifPresent(GeneralPropertyInitializer::setUpProperties);
         arePropertiesRead = true;
+        PropertyValueCache.invalidate();
     }
 
     static boolean arePropertiesRead() {
@@ -0,0 +1,129 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Keeps metadata of property suppliers and values they have parsed. Name and default value of a property
+ * are resolved only once for each supplier. A parsed value is reused while the raw string value of the property
+ * is the same and there was no invalidation.
+ *
+ * @see PropertySupplier#accept(String)
+ * @see GeneralPropertyInitializer#refreshProperties()
+ */
+final class PropertyValueCache {
+
+    private static final ConcurrentMap<PropertySupplier<?>, Entry> ENTRIES = newBuilder()
+            .weakKeys()
+            .<PropertySupplier<?>, Entry>build()
+            .asMap();
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private PropertyValueCache() {
+        super();
+    }
+
+    private static Entry entryOf(PropertySupplier<?> supplier) {
+        var entry = ENTRIES.get(supplier);
+        if (entry != null) {
+            return entry;
+        }
+        return ENTRIES.computeIfAbsent(supplier, Entry::new);
+    }
+
+    /**
+     * Makes all cached values out of date. They are parsed again at the next reading.
+     */
+    static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
+    static String nameOf(PropertySupplier<?> supplier) {
+        var name = entryOf(supplier).name;
+        if (name != null) {
+            return name;
+        }
+
+        var clz = getSupplierClass(supplier);
+        if (!clz.isEnum()) {
+            throw new IllegalArgumentException(format("The class %s is not annotated by %s",
+                    clz.getSimpleName(),
+                    PropertyName.class.getSimpleName()));
+        }
+
+        throw new IllegalArgumentException(format("The field %s the enum %s is not annotated by %s",
+                ((Enum<?>) supplier).name(),
+                clz.getSimpleName(),
+                PropertyName.class.getSimpleName()));
+    }
+
+    static String defaultValueOf(PropertySupplier<?> supplier) {
+        return entryOf(supplier).defaultValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T parse(PropertySupplier<T> supplier, String value) {
+        var entry = entryOf(supplier);
+        var generation = GENERATION.get();
+        var parsed = entry.parsed;
+        if (parsed != null && parsed.generation == generation && parsed.value.equals(value)) {
+            return (T) parsed.result;
+        }
+
+        var result = supplier.parse(value);
+        entry.parsed = new ParsedValue(generation, value, result);
+        return result;
+    }
+
+    private static Class<?> getSupplierClass(PropertySupplier<?> supplier) {
+        return supplier.getClass().isAnonymousClass() ? supplier.getClass().getSuperclass() : supplier.getClass();
+    }
+
+    private static <A extends Annotation> A getAnnotation(PropertySupplier<?> supplier, Class<A> annotation) {
+        var clz = getSupplierClass(supplier);
+        if (clz.isEnum()) {
+            try {
+                return clz.getDeclaredField(((Enum<?>) supplier).name()).getAnnotation(annotation);
+            } catch (NoSuchFieldException e) {
+                throw new RuntimeException(e);
+            }
+        } else {
+            return clz.getAnnotation(annotation);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private final String defaultValue;
+        private volatile ParsedValue parsed;
+
+        private Entry(PropertySupplier<?> supplier) {
+            name = ofNullable(getAnnotation(supplier, PropertyName.class))
+                    .map(PropertyName::value)
+                    .orElse(null);
+            defaultValue = ofNullable(getAnnotation(supplier, PropertyDefaultValue.class))
+                    .map(PropertyDefaultValue::value)
+                    .orElse(null);
+        }
+    }
+
+    private static final class ParsedValue {
+
+        private final long generation;
+        private final String value;
+        private final Object result;
+
+        private ParsedValue(long generation, String value, Object result) {
+            this.generation = generation;
+            this.value = value;
+            this.result = result;
+        }
+    }
+}
@@ -10,7 +10,7 @@ import static com.google.common.reflect.TypeToken.of;
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 import static java.util.stream.Collectors.toMap;
 
 /**
@@ -46,7 +46,7 @@ public interface MultipleEnumPropertySuppler<T extends Enum<?>> extends Property
                 .map(s -> ofNullable(valueMap.get(s)).orElseThrow(() ->
                         new IllegalArgumentException(format("Unknown constant %s from enum %s", s, enumType.getName()))))
                 .distinct()
-                .collect(toList());
+                .collect(toUnmodifiableList());
 
         if (result.size() == 0) {
             return null;
@@ -0,0 +1,29 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.classpath;
+
+import ru.tinkoff.qa.neptune.core.api.index.ClassIndex;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+/**
+ * Should the classpath be scanned instead of reading of the class index or not.
+ *
+ * @see ClassIndex
+ */
+@PropertyDescription(description = {
+        "Is it necessary to scan the classpath to find hooks, contexts, widgets etc.",
+        "By default the index written at compile time is read. The classpath is scanned when there is no index.",
+        "It is useful when some classes are compiled without the annotation processor of Neptune"},
+        section = "General properties. Classpath")
+@PropertyName("SCAN_CLASSPATH")
+public final class ScanClasspath implements BooleanValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final ScanClasspath SCAN_CLASSPATH_PROPERTY = new ScanClasspath();
+
+    private ScanClasspath() {
+        super();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+/**
+ * Should events be passed to {@link EventLogger} asynchronously or not.
+ *
+ * @see EventLogger#isThreadBound()
+ */
+@PropertyDescription(description = {
+        "Is it necessary to log events asynchronously.",
+        "Loggers that are bound to the thread where steps are performed, e.g. Allure, are invoked synchronously anyway"},
+        section = "General properties. Event logging")
+@PropertyName("ASYNC_EVENT_LOGGING")
+public final class AsyncEventLogging implements BooleanValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final AsyncEventLogging ASYNC_EVENT_LOGGING_PROPERTY = new AsyncEventLogging();
+
+    private AsyncEventLogging() {
+        super();
+    }
+}
@@ -0,0 +1,25 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+
+@PropertyDescription(description = {
+        "Defines when log attachments are produced and injected",
+        "Available values: IMMEDIATE, DEFERRED, ON_FAILURE",
+        "DEFERRED and ON_FAILURE have sense when the test runner notifies the end of each test"},
+        section = "General properties. Report captures/Attachments")
+@PropertyName("CAPTURING_MODE")
+@PropertyDefaultValue("IMMEDIATE")
+public final class CapturingMode implements EnumPropertySuppler<CapturingModes> {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final CapturingMode CAPTURING_MODE_PROPERTY = new CapturingMode();
+
+    private CapturingMode() {
+        super();
+    }
+}
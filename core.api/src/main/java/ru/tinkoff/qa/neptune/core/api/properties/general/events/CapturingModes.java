@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+/**
+ * Defines when data for the logging/reporting are produced and injected.
+ */
+public enum CapturingModes {
+    /**
+     * Data are produced and injected at once.
+     */
+    IMMEDIATE,
+    /**
+     * Captors take snapshots of caught objects. Data are produced from snapshots by background threads
+     * and they are injected when the test is finished.
+     */
+    DEFERRED,
+    /**
+     * Captors take snapshots of caught objects. Data are produced and injected only when the test is failed.
+     * Snapshots are discarded otherwise.
+     */
+    ON_FAILURE
+}
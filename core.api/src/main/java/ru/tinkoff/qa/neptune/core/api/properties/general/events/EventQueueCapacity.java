@@ -0,0 +1,25 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Defines how many events may wait for the asynchronous logging.",
+        "A thread that fires an event waits when the queue is full.",
+        "It has sense when value of the property 'ASYNC_EVENT_LOGGING' is 'true'"},
+        section = "General properties. Event logging")
+@PropertyName("EVENT_QUEUE_CAPACITY")
+@PropertyDefaultValue("4096")
+public final class EventQueueCapacity implements IntValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final EventQueueCapacity EVENT_QUEUE_CAPACITY_PROPERTY = new EventQueueCapacity();
+
+    private EventQueueCapacity() {
+        super();
+    }
+}
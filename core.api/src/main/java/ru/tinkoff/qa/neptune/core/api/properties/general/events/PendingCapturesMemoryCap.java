@@ -0,0 +1,25 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.longs.LongValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Defines how many bytes may be taken by snapshots which wait for the injecting into log/report.",
+        "When the limit is reached, attachments are produced and injected at once.",
+        "It has sense when value of the property 'CAPTURING_MODE' is 'DEFERRED' or 'ON_FAILURE'"},
+        section = "General properties. Report captures/Attachments")
+@PropertyName("PENDING_CAPTURES_MEMORY_CAP")
+@PropertyDefaultValue("67108864")
+public final class PendingCapturesMemoryCap implements LongValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final PendingCapturesMemoryCap PENDING_CAPTURES_MEMORY_CAP_PROPERTY = new PendingCapturesMemoryCap();
+
+    private PendingCapturesMemoryCap() {
+        super();
+    }
+}
@@ -0,0 +1,25 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.waiting;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.PollingStrategies;
+
+@PropertyDescription(description = {
+        "Defines how long to sleep between attempts to get some valuable result",
+        "Available values: FIXED, EXPONENTIAL_BACKOFF, JITTERED_BACKOFF"},
+        section = "General properties. Waiting")
+@PropertyName("WAITING_POLLING_STRATEGY")
+@PropertyDefaultValue("FIXED")
+public final class PollingStrategyProperty implements EnumPropertySuppler<PollingStrategies> {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final PollingStrategyProperty POLLING_STRATEGY_PROPERTY = new PollingStrategyProperty();
+
+    private PollingStrategyProperty() {
+        super();
+    }
+}
@@ -27,6 +27,16 @@ import static java.util.stream.Collectors.toList;
 @SuppressWarnings("unchecked")
 public interface MultipleObjectPropertySupplier<T extends Supplier<?>> extends PropertySupplier<List<T>> {
 
+    /**
+     * Each invocation of {@link #get()} creates new objects.
+     *
+     * @return {@code false}
+     */
+    @Override
+    default boolean isValueReusable() {
+        return false;
+    }
+
     @Override
     default List<T> parse(String s) {
         return stream(s.split(",")).map(s1 -> {
@@ -24,6 +24,16 @@ import static java.lang.String.format;
 @SuppressWarnings("unchecked")
 public interface ObjectPropertySupplier<T extends Supplier<?>> extends PropertySupplier<T> {
 
+    /**
+     * Each invocation of {@link #get()} creates a new object.
+     *
+     * @return {@code false}
+     */
+    @Override
+    default boolean isValueReusable() {
+        return false;
+    }
+
     @Override
     default T parse(String s) {
         try {
@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.core.api.properties.url;
 
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
 import ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier;
 
 import java.net.MalformedURLException;
@@ -8,6 +9,7 @@ import java.net.URL;
 /**
  * This interface is designed to read properties and return an URL.
  */
+@IndexSubclasses
 public interface URLValuePropertySupplier extends PropertySupplier<URL> {
 
     @Override
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.MakesCapturesOnFinishing;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
 import ru.tinkoff.qa.neptune.core.api.steps.parameters.StepParameterPojo;
 
 import java.awt.image.BufferedImage;
@@ -167,7 +168,8 @@ public abstract class SequentialActionSupplier<T, R, THIS extends SequentialActi
      *
      * <p>NOTE 1</p>
      * This image is produced if there is any subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor}
-     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}.
+     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}
+     * or an {@link EncodedImage}.
      *
      * <p>NOTE 2</p>
      * A subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor} or
@@ -178,7 +180,7 @@ public abstract class SequentialActionSupplier<T, R, THIS extends SequentialActi
      */
     @Override
     public THIS makeImageCaptureOnFinish() {
-        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class));
+        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class));
         return (THIS) this;
     }
 
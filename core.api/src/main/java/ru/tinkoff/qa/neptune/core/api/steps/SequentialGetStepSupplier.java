@@ -3,6 +3,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.MakesCapturesOnFinishing;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
@@ -240,7 +241,8 @@ public abstract class SequentialGetStepSupplier<T, R, M, P, THIS extends Sequent
      *
      * <p>NOTE 1</p>
      * This image is produced if there is any subclass of {@link ImageCaptor}
-     * or {@link Captor} that may produce a {@link java.awt.image.BufferedImage}.
+     * or {@link Captor} that may produce a {@link java.awt.image.BufferedImage}
+     * or an {@link EncodedImage}.
      *
      * <p>NOTE 2</p>
      * A subclass of {@link ImageCaptor} or
@@ -251,7 +253,7 @@ public abstract class SequentialGetStepSupplier<T, R, M, P, THIS extends Sequent
      */
     @Override
     public THIS makeImageCaptureOnFinish() {
-        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class));
+        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class));
         return (THIS) this;
     }
 
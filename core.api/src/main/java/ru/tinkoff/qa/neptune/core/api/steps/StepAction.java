@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.MakesCapturesOnFinishing;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
 import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
 
 import java.awt.image.BufferedImage;
@@ -83,7 +84,8 @@ public class StepAction<T> implements MakesCapturesOnFinishing<StepAction<T>> {
      *
      * <p>NOTE 1</p>
      * This image is produced if there is any subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor}
-     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}.
+     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}
+     * or an {@link EncodedImage}.
      *
      * <p>NOTE 2</p>
      * A subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor} or
@@ -94,7 +96,7 @@ public class StepAction<T> implements MakesCapturesOnFinishing<StepAction<T>> {
      */
     @Override
     public StepAction<T> makeImageCaptureOnFinish() {
-        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class));
+        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class));
         return this;
     }
 
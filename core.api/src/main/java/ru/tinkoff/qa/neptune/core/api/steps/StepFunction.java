@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
 import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.MakesCapturesOnFinishing;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -28,6 +29,14 @@ public class StepFunction<T, R> implements Function<T, R>,
     Function<Object, Object> function;
     private boolean toReport = true;
     private final Set<Class<? extends Throwable>> ignored = new HashSet<>();
+    /**
+     * Classes of ignored exceptions which are copied from {@link #ignored} to check them faster.
+     */
+    private Class<?>[] ignoredClasses = new Class<?>[0];
+    /**
+     * Should values be caught for the logging/reporting. It is calculated when the function is built.
+     */
+    boolean toCatchValues;
     private final Set<CaptorFilterByProducedType> captorFilters = new HashSet<>();
     private Map<String, String> parameters = emptyMap();
 
@@ -36,6 +45,7 @@ public class StepFunction<T, R> implements Function<T, R>,
         checkArgument(!isBlank(description), "Description should not be empty string or null value");
         this.description = description;
         this.function = (Function<Object, Object>) function;
+        compile();
     }
 
     StepFunction() {
@@ -58,9 +68,18 @@ public class StepFunction<T, R> implements Function<T, R>,
     }
 
 
+    /**
+     * Calculates everything that can be calculated before the function is applied.
+     * It is invoked each time when the function is changed.
+     */
+    void compile() {
+        toCatchValues = !(function instanceof StepFunction);
+    }
+
     private boolean shouldBeThrowableIgnored(Throwable toBeIgnored) {
-        for (var throwableClass: ignored) {
-            if (throwableClass.isAssignableFrom(toBeIgnored.getClass())) {
+        var thrownClass = toBeIgnored.getClass();
+        for (var throwableClass : ignoredClasses) {
+            if (throwableClass.isAssignableFrom(thrownClass)) {
                 return true;
             }
         }
@@ -75,45 +94,46 @@ public class StepFunction<T, R> implements Function<T, R>,
 
     @Override
     public R apply(T t) {
-        var thisClass = this.getClass();
-        var isComplex = (SequentialStepFunction.class.isAssignableFrom(thisClass)
-                && ((SequentialStepFunction<?, ?>) this).sequence.size() > 1);
+        if (!toReport) {
+            return applyWithoutReporting(t);
+        }
+
         try {
-            if (toReport) {
-                fireEventStarting("Get: " + description, parameters);
-            }
+            fireEventStarting("Get: " + description, parameters);
             R result = (R) function.apply(t);
-            if (toReport) {
-                fireReturnedValueIfNecessary(result);
-            }
-            if (catchSuccessEvent() && toReport && !isComplex &&
-                    !StepFunction.class.isAssignableFrom(function.getClass())) {
+            fireReturnedValueIfNecessary(result);
+            if (toCatchValues && catchSuccessEvent()) {
                 catchValue(result, captorFilters);
             }
             return result;
         }
         catch (Throwable thrown) {
             if (!shouldBeThrowableIgnored(thrown)) {
-                if (toReport) {
-                    fireThrownException(thrown);
-                }
-                if (catchFailureEvent() && toReport && !isComplex &&
-                        !StepFunction.class.isAssignableFrom(function.getClass())) {
+                fireThrownException(thrown);
+                if (toCatchValues && catchFailureEvent()) {
                     catchValue(t, captorFilters);
                 }
                 throw thrown;
             }
             else {
-                if (toReport) {
-                    fireReturnedValueIfNecessary(null);
-                }
+                fireReturnedValueIfNecessary(null);
                 return null;
             }
         }
         finally {
-            if (toReport) {
-                fireEventFinishing();
+            fireEventFinishing();
+        }
+    }
+
+    private R applyWithoutReporting(T t) {
+        try {
+            return (R) function.apply(t);
+        }
+        catch (Throwable thrown) {
+            if (!shouldBeThrowableIgnored(thrown)) {
+                throw thrown;
             }
+            return null;
         }
     }
 
@@ -134,6 +154,7 @@ public class StepFunction<T, R> implements Function<T, R>,
             var result = before.apply((V) o);
             return ofNullable(result).map(after).orElse(null);
         };
+        compile();
         return (StepFunction<V, R>) this;
     }
 
@@ -144,11 +165,13 @@ public class StepFunction<T, R> implements Function<T, R>,
 
     StepFunction<T, R> addIgnored(Collection<Class<? extends Throwable>> toBeIgnored) {
         ignored.addAll(toBeIgnored);
+        ignoredClasses = ignored.toArray(new Class<?>[0]);
         return this;
     }
 
     StepFunction<T, R> addIgnored(Class<? extends Throwable> toBeIgnored) {
         ignored.add(toBeIgnored);
+        ignoredClasses = ignored.toArray(new Class<?>[0]);
         return this;
     }
 
@@ -167,7 +190,8 @@ public class StepFunction<T, R> implements Function<T, R>,
      *
      * <p>NOTE 1</p>
      * This image is produced if there is any subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor}
-     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}.
+     * or {@link ru.tinkoff.qa.neptune.core.api.event.firing.Captor} that may produce a {@link java.awt.image.BufferedImage}
+     * or an {@link EncodedImage}.
      *
      * <p>NOTE 2</p>
      * A subclass of {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor} or
@@ -178,7 +202,7 @@ public class StepFunction<T, R> implements Function<T, R>,
      */
     @Override
     public StepFunction<T, R> makeImageCaptureOnFinish() {
-        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class));
+        captorFilters.add(new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class));
         return this;
     }
 
@@ -281,6 +305,10 @@ public class StepFunction<T, R> implements Function<T, R>,
     static final class SequentialStepFunction<T, R> extends StepFunction<T, R> {
 
         final LinkedList<Function<Object, Object>> sequence = new LinkedList<>();
+        /**
+         * Functions of the {@link #sequence} which are copied to the flat array to apply them faster.
+         */
+        private Function<Object, Object>[] steps;
         private static final Consumer<StepFunction<?, ?>> REPORT_TURN_ON = StepFunction::turnReportingOn;
         private static final Consumer<StepFunction<?, ?>> REPORT_TURN_OFF = StepFunction::turnReportingOff;
         private static final String NOT_DESCRIBED = "<not described value>";
@@ -298,7 +326,7 @@ public class StepFunction<T, R> implements Function<T, R>,
 
             function = t -> {
                 Object result = t;
-                for (Function<Object, Object> f : sequence) {
+                for (var f : steps) {
                     result = f.apply(result);
                     if (result == null) {
                         return null;
@@ -321,6 +349,22 @@ public class StepFunction<T, R> implements Function<T, R>,
             } else {
                 sequence.addLast((Function<Object, Object>) stepAfter);
             }
+            compile();
+        }
+
+        @Override
+        void compile() {
+            steps = toArray(sequence);
+            toCatchValues = steps.length <= 1;
+        }
+
+        /**
+         * Java can't create an array of a generic type. The array is created of the raw type and it never leaves
+         * the function, so it contains only elements of the {@link #sequence}.
+         */
+        private static Function<Object, Object>[] toArray(List<Function<Object, Object>> sequence) {
+            Function<Object, Object>[] array = new Function[sequence.size()];
+            return sequence.toArray(array);
         }
 
         private static <T, R> StepFunction<T, R> getStepFunction(Function<T, R> function) {
@@ -339,6 +383,7 @@ public class StepFunction<T, R> implements Function<T, R>,
                 return new SequentialStepFunction<>(before, this);
             }
             this.sequence.addFirst((Function<Object, Object>) before);
+            compile();
             return (StepFunction<V, R>) this;
         }
 
@@ -0,0 +1,49 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import static java.lang.Math.min;
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+/**
+ * Built-in strategies of the polling.
+ */
+public enum PollingStrategies implements PollingStrategy {
+    /**
+     * Sleeps the polling interval after each failed attempt.
+     */
+    FIXED {
+        @Override
+        public long nextSleepNanos(int attempt, long pollingIntervalNanos) {
+            return pollingIntervalNanos;
+        }
+    },
+    /**
+     * Doubles time of the sleeping after each failed attempt. It starts from the polling interval
+     * and it is limited by 16 polling intervals.
+     */
+    EXPONENTIAL_BACKOFF {
+        @Override
+        public long nextSleepNanos(int attempt, long pollingIntervalNanos) {
+            return backOff(attempt, pollingIntervalNanos);
+        }
+    },
+    /**
+     * The same as {@link #EXPONENTIAL_BACKOFF} but time of each sleeping is a random value between
+     * a half and a whole of the calculated backoff. It prevents parallel threads from polling the same resource
+     * simultaneously.
+     */
+    JITTERED_BACKOFF {
+        @Override
+        public long nextSleepNanos(int attempt, long pollingIntervalNanos) {
+            var backOff = backOff(attempt, pollingIntervalNanos);
+            var half = backOff / 2;
+            return half + current().nextLong(backOff - half + 1);
+        }
+    };
+
+    private static final int MAX_MULTIPLIER_POWER = 4;
+
+    private static long backOff(int attempt, long pollingIntervalNanos) {
+        var power = min(attempt - 1, MAX_MULTIPLIER_POWER);
+        return pollingIntervalNanos << power;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+/**
+ * Defines time of the sleeping between attempts to get some valuable result.
+ */
+public interface PollingStrategy {
+
+    /**
+     * Calculates time of the sleeping after a failed attempt.
+     *
+     * @param attempt             is a number of the failed attempt. It starts from 1.
+     * @param pollingIntervalNanos is a polling interval defined by a step, in nanoseconds
+     * @return time to sleep in nanoseconds before the next attempt
+     */
+    long nextSleepNanos(int attempt, long pollingIntervalNanos);
+}
@@ -0,0 +1,59 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+
+/**
+ * Lets a source of data signal that new data is ready. Threads which are sleeping between attempts to get
+ * some valuable result are woken up and make next attempts immediately instead of the waiting for the end of
+ * the polling interval.
+ */
+public final class ReadinessSignals {
+
+    private static final Set<Thread> SLEEPING = newKeySet();
+
+    private ReadinessSignals() {
+        super();
+    }
+
+    /**
+     * Wakes up all threads which are sleeping between attempts to get some valuable result.
+     */
+    public static void signalReadiness() {
+        SLEEPING.forEach(LockSupport::unpark);
+    }
+
+    /**
+     * Wakes up the thread if it is sleeping between attempts to get some valuable result. If the thread
+     * is not sleeping at the moment then its next sleeping is skipped.
+     *
+     * @param thread is a thread to wake up
+     */
+    public static void signalReadiness(Thread thread) {
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Makes current thread sleep until time is out or readiness is signaled.
+     *
+     * @param nanos is time of the sleeping in nanoseconds
+     */
+    static void sleep(long nanos) {
+        var thread = currentThread();
+        SLEEPING.add(thread);
+        try {
+            parkNanos(nanos);
+        } finally {
+            SLEEPING.remove(thread);
+        }
+
+        if (Thread.interrupted()) {
+            thread.interrupt();
+            throw new RuntimeException(new InterruptedException());
+        }
+    }
+}
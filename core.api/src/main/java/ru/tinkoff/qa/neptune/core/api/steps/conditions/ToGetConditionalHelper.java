@@ -1,5 +1,7 @@
 package ru.tinkoff.qa.neptune.core.api.steps.conditions;
 
+import ru.tinkoff.qa.neptune.core.api.properties.general.waiting.PollingStrategyProperty;
+
 import javax.annotation.Nullable;
 import java.time.Duration;
 import java.util.Collection;
@@ -9,12 +11,13 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.System.currentTimeMillis;
-import static java.lang.Thread.currentThread;
-import static java.lang.Thread.sleep;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
 import static java.time.Duration.ofMillis;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.waiting.PollingStrategyProperty.POLLING_STRATEGY_PROPERTY;
 
 /**
  * This is the util which helps to crate function with given conditions.
@@ -81,42 +84,60 @@ final class ToGetConditionalHelper {
                 .anyMatch(aClass -> aClass.isAssignableFrom(cls));
     }
 
+    /**
+     * Creates a function that makes attempts to get a valuable result until it is got or time is out.
+     * There is no sleeping after the valuable result is got. Time of the sleeping between attempts is defined by
+     * {@link PollingStrategy} which is read from {@link PollingStrategyProperty#POLLING_STRATEGY_PROPERTY}.
+     * A sleeping thread may be woken up by {@link ReadinessSignals}. Metrics of each waiting are recorded
+     * by {@link WaitingMetrics}.
+     */
     static <T, F> Function<T, F> fluentWaitFunction(Function<T, F> originalFunction,
                                                     @Nullable Duration waitingTime,
                                                     @Nullable Duration sleepingTime,
                                                     Predicate<F> till,
                                                     @Nullable Supplier<? extends RuntimeException> exceptionOnTimeOut,
                                                     Collection<Class<? extends Throwable>> toIgnore) {
-        var timeOut = ofNullable(waitingTime).orElseGet(() -> ofMillis(0));
-        var sleeping = ofNullable(sleepingTime).orElseGet(() -> ofMillis(50));
+        var timeOutNanos = ofNullable(waitingTime).orElseGet(() -> ofMillis(0)).toNanos();
+        var sleepingNanos = ofNullable(sleepingTime).orElseGet(() -> ofMillis(50)).toNanos();
+        var strategy = POLLING_STRATEGY_PROPERTY.get();
 
         return t -> {
-            var currentMillis = currentTimeMillis();
-            var endMillis = currentMillis + timeOut.toMillis() + 100;
-            F f = null;
+            var start = nanoTime();
+            //it is not reasonable to finish the waiting before the first sleeping is over
+            var deadline = timeOutNanos > 0 ? start + max(timeOutNanos, sleepingNanos) : start;
+            F f;
+            var attempts = 0;
+            var sleptNanos = 0L;
             var suitable = false;
-            while (currentTimeMillis() < endMillis && !(suitable)) {
-                try {
-                    f = originalFunction.apply(t);
-                } catch (Throwable throwable) {
-                    if (toBeIgnored(throwable, toIgnore)) {
-                        f = null;
-                    } else {
-                        throw throwable;
+            try {
+                while (true) {
+                    attempts++;
+                    try {
+                        f = originalFunction.apply(t);
+                    } catch (Throwable throwable) {
+                        if (toBeIgnored(throwable, toIgnore)) {
+                            f = null;
+                        } else {
+                            throw throwable;
+                        }
                     }
-                }
 
-                suitable = till.test(f);
-                try {
-                    sleep(sleeping.toMillis());
-                } catch (InterruptedException e) {
-                    currentThread().interrupt();
-                    throw new RuntimeException(e);
-                }
-            }
+                    suitable = till.test(f);
+                    if (suitable) {
+                        return f;
+                    }
+
+                    var beforeSleeping = nanoTime();
+                    var remaining = deadline - beforeSleeping;
+                    if (remaining <= 0) {
+                        break;
+                    }
 
-            if (suitable) {
-                return f;
+                    ReadinessSignals.sleep(min(strategy.nextSleepNanos(attempts, sleepingNanos), remaining));
+                    sleptNanos += nanoTime() - beforeSleeping;
+                }
+            } finally {
+                WaitingMetrics.record(suitable, attempts, nanoTime() - start, sleptNanos);
             }
 
             return (F) ofNullable(exceptionOnTimeOut).map(exceptionSupplier1 -> {
@@ -0,0 +1,135 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+import static java.time.Duration.ofNanos;
+
+/**
+ * Metrics of the waiting for some valuable result.
+ */
+public final class WaitingMetrics {
+
+    private static final ThreadLocal<LastWaiting> LAST = ThreadLocal.withInitial(LastWaiting::new);
+
+    private static final LongAdder WAITINGS = new LongAdder();
+    private static final LongAdder SUCCEEDED = new LongAdder();
+    private static final LongAdder ATTEMPTS = new LongAdder();
+    private static final LongAdder ELAPSED = new LongAdder();
+    private static final LongAdder SLEPT = new LongAdder();
+
+    private final long waitings;
+    private final long succeeded;
+    private final long attempts;
+    private final long elapsedNanos;
+    private final long sleptNanos;
+
+    private WaitingMetrics(long waitings, long succeeded, long attempts, long elapsedNanos, long sleptNanos) {
+        this.waitings = waitings;
+        this.succeeded = succeeded;
+        this.attempts = attempts;
+        this.elapsedNanos = elapsedNanos;
+        this.sleptNanos = sleptNanos;
+    }
+
+    static void record(boolean succeeded, int attempts, long elapsedNanos, long sleptNanos) {
+        LAST.get().set(succeeded, attempts, elapsedNanos, sleptNanos);
+        WAITINGS.increment();
+        if (succeeded) {
+            SUCCEEDED.increment();
+        }
+        ATTEMPTS.add(attempts);
+        ELAPSED.add(elapsedNanos);
+        SLEPT.add(sleptNanos);
+    }
+
+    /**
+     * @return metrics of the last waiting performed by current thread. Returns {@code null} when
+     * current thread has not performed any waiting yet.
+     */
+    public static WaitingMetrics last() {
+        return LAST.get().snapshot();
+    }
+
+    /**
+     * @return metrics of all waitings performed by all threads
+     */
+    public static WaitingMetrics total() {
+        return new WaitingMetrics(WAITINGS.sum(), SUCCEEDED.sum(), ATTEMPTS.sum(), ELAPSED.sum(), SLEPT.sum());
+    }
+
+    /**
+     * @return count of waitings
+     */
+    public long getWaitings() {
+        return waitings;
+    }
+
+    /**
+     * @return count of waitings that have got valuable results
+     */
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return count of attempts to get valuable result
+     */
+    public long getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return time of the waiting
+     */
+    public Duration getElapsedTime() {
+        return ofNanos(elapsedNanos);
+    }
+
+    /**
+     * @return time that was spent on the sleeping between attempts. It is the time that could be wasted
+     * when a valuable result is available before the next attempt.
+     */
+    public Duration getWastedTime() {
+        return ofNanos(sleptNanos);
+    }
+
+    @Override
+    public String toString() {
+        return format("waitings: %s, succeeded: %s, attempts: %s, elapsed: %s, wasted on sleeping: %s",
+                waitings,
+                succeeded,
+                attempts,
+                getElapsedTime(),
+                getWastedTime());
+    }
+
+    /**
+     * Mutable metrics of the last waiting of a thread. It is created once per thread and overwritten
+     * by each waiting, so the recording does not allocate anything.
+     */
+    private static final class LastWaiting {
+
+        private boolean recorded;
+        private boolean succeeded;
+        private int attempts;
+        private long elapsedNanos;
+        private long sleptNanos;
+
+        private void set(boolean succeeded, int attempts, long elapsedNanos, long sleptNanos) {
+            this.recorded = true;
+            this.succeeded = succeeded;
+            this.attempts = attempts;
+            this.elapsedNanos = elapsedNanos;
+            this.sleptNanos = sleptNanos;
+        }
+
+        private WaitingMetrics snapshot() {
+            if (!recorded) {
+                return null;
+            }
+            return new WaitingMetrics(1, succeeded ? 1 : 0, attempts, elapsedNanos, sleptNanos);
+        }
+    }
+}
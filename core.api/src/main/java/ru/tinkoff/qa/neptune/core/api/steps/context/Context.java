@@ -1,14 +1,11 @@
 package ru.tinkoff.qa.neptune.core.api.steps.context;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
-import net.bytebuddy.dynamic.loading.InjectionClassLoader;
-import org.objenesis.ObjenesisStd;
+import ru.tinkoff.qa.neptune.core.api.concurrency.ContextCheckOut;
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
+import ru.tinkoff.qa.neptune.core.api.steps.proxy.ContextProxyClasses;
 import ru.tinkoff.qa.neptune.core.api.steps.proxy.MethodInterceptor;
-import ru.tinkoff.qa.neptune.core.api.steps.proxy.ProxyCreationFailureException;
 
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
@@ -20,8 +17,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.List.of;
-import static net.bytebuddy.implementation.MethodDelegation.to;
-import static net.bytebuddy.matcher.ElementMatchers.any;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.CONTEXT_POOL;
 import static ru.tinkoff.qa.neptune.core.api.steps.Absence.absence;
 import static ru.tinkoff.qa.neptune.core.api.steps.Presence.presence;
 
@@ -34,6 +30,7 @@ import static ru.tinkoff.qa.neptune.core.api.steps.Presence.presence;
  *
  * @param <THIS> is a type of a class that extends {@link Context}
  */
+@IndexSubclasses
 @SuppressWarnings("unchecked")
 public abstract class Context<THIS extends Context<THIS>> {
 
@@ -45,9 +42,27 @@ public abstract class Context<THIS extends Context<THIS>> {
      * @param toInstantiate is a class to create instance of
      * @param <T>           is a type that extends {@link Context}
      * @return a new proxy-instance
+     * @see ContextProxyClasses
      */
     protected static <T extends Context<?>> T getInstance(Class<T> toInstantiate) {
+        return getInstance(toInstantiate, CONTEXT_POOL);
+    }
+
+    /**
+     * This is the utility method that helps to create a thread-safe proxy instance with byte-buddy tools.
+     * <p>IT IS IMPORTANT</p>
+     * It is required for a class to have the default constructor or to be annotated by {@link CreateWith}
+     *
+     * @param toInstantiate   is a class to create instance of
+     * @param contextCheckOut finds a free context for a thread which invokes a method of the proxy
+     *                        for the first time
+     * @param <T>             is a type that extends {@link Context}
+     * @return a new proxy-instance
+     * @see ContextProxyClasses
+     */
+    protected static <T extends Context<?>> T getInstance(Class<T> toInstantiate, ContextCheckOut contextCheckOut) {
         checkNotNull(toInstantiate);
+        checkNotNull(contextCheckOut);
 
         var createWith = toInstantiate.getAnnotation(CreateWith.class);
         Class<? extends ParameterProvider> provider;
@@ -73,23 +88,7 @@ public abstract class Context<THIS extends Context<THIS>> {
             throw new RuntimeException(e);
         }
 
-        var builder = new ByteBuddy().subclass(toInstantiate);
-        var interceptor = new MethodInterceptor<>(toInstantiate, parameters);
-
-        Class<? extends T> proxyClass;
-        try {
-            proxyClass = builder.method(any())
-                    .intercept(to(interceptor))
-                    .make()
-                    .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
-                            .privateLookupIn(toInstantiate, MethodHandles.lookup())))
-                    .getLoaded();
-        } catch (Throwable e) {
-            throw new ProxyCreationFailureException(e.getMessage(), e);
-        }
-
-        var objenesis = new ObjenesisStd();
-        return objenesis.newInstance(proxyClass);
+        return ContextProxyClasses.newProxy(toInstantiate, new MethodInterceptor<>(toInstantiate, parameters, contextCheckOut));
     }
 
     private static List<Class<? extends Throwable>> ignoredExceptions(Class<? extends Throwable>... toIgnore) {
@@ -0,0 +1,148 @@
+package ru.tinkoff.qa.neptune.core.api.steps.proxy;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.InjectionClassLoader;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofNanos;
+import static java.util.List.copyOf;
+import static net.bytebuddy.description.modifier.Visibility.PRIVATE;
+import static net.bytebuddy.implementation.MethodDelegation.toField;
+import static net.bytebuddy.matcher.ElementMatchers.any;
+
+/**
+ * Generates proxy classes of contexts. Each class is generated only once and then it is reused.
+ * A generated class delegates invocations to an instance of {@link MethodInterceptor} which
+ * is kept by a field of each proxy-object.
+ */
+public final class ContextProxyClasses {
+
+    private static final String INTERCEPTOR_FIELD = "neptune$interceptor";
+    private static final ObjenesisStd OBJENESIS = new ObjenesisStd(true);
+    /**
+     * Proxy classes are kept by proxied classes. They don't prevent class loaders from being collected.
+     * Two threads may generate a proxy class of the same class at the same time. Only one of them is used then.
+     */
+    private static final ClassValue<ProxyClass<?>> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected ProxyClass<?> computeValue(Class<?> type) {
+            return generate(type);
+        }
+    };
+    private static final List<GenerationRecord> REPORT = new CopyOnWriteArrayList<>();
+
+    private ContextProxyClasses() {
+        super();
+    }
+
+    /**
+     * Creates a new proxy-object.
+     *
+     * @param toInstantiate is a class to create proxy of
+     * @param interceptor   is an interceptor of invocations of the proxy-object
+     * @param <T>           is a type of the proxied class
+     * @return a new proxy-object
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T newProxy(Class<T> toInstantiate, MethodInterceptor<T> interceptor) {
+        var proxyClass = (ProxyClass<T>) PROXY_CLASSES.get(toInstantiate);
+        return proxyClass.newInstance(interceptor);
+    }
+
+    /**
+     * Returns records about all generated proxy classes.
+     *
+     * @return list of records in order of generation
+     */
+    public static List<GenerationRecord> getGenerationRecords() {
+        return copyOf(REPORT);
+    }
+
+    private static <T> ProxyClass<T> generate(Class<T> toInstantiate) {
+        var start = nanoTime();
+        Class<? extends T> proxyClass;
+        Field interceptorField;
+        try {
+            proxyClass = new ByteBuddy().subclass(toInstantiate)
+                    .defineField(INTERCEPTOR_FIELD, MethodInterceptor.class, PRIVATE)
+                    .method(any())
+                    .intercept(toField(INTERCEPTOR_FIELD))
+                    .make()
+                    .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+                            .privateLookupIn(toInstantiate, MethodHandles.lookup())))
+                    .getLoaded();
+            interceptorField = proxyClass.getDeclaredField(INTERCEPTOR_FIELD);
+            interceptorField.setAccessible(true);
+        } catch (Throwable e) {
+            throw new ProxyCreationFailureException(e.getMessage(), e);
+        }
+
+        var result = new ProxyClass<T>(OBJENESIS.getInstantiatorOf(proxyClass), interceptorField);
+        REPORT.add(new GenerationRecord(toInstantiate.getName(), ofNanos(nanoTime() - start)));
+        return result;
+    }
+
+    private static final class ProxyClass<T> {
+
+        private final ObjectInstantiator<? extends T> instantiator;
+        private final Field interceptorField;
+
+        private ProxyClass(ObjectInstantiator<? extends T> instantiator, Field interceptorField) {
+            this.instantiator = instantiator;
+            this.interceptorField = interceptorField;
+        }
+
+        private T newInstance(MethodInterceptor<T> interceptor) {
+            var result = instantiator.newInstance();
+            try {
+                interceptorField.set(result, interceptor);
+            } catch (IllegalAccessException e) {
+                throw new ProxyCreationFailureException(e.getMessage(), e);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Record about generated proxy class
+     */
+    public static final class GenerationRecord {
+
+        private final String proxied;
+        private final Duration generationTime;
+
+        private GenerationRecord(String proxied, Duration generationTime) {
+            this.proxied = proxied;
+            this.generationTime = generationTime;
+        }
+
+        /**
+         * @return name of a class which was proxied
+         */
+        public String getProxied() {
+            return proxied;
+        }
+
+        /**
+         * @return how long the generation took
+         */
+        public Duration getGenerationTime() {
+            return generationTime;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s: %s ms", proxied, generationTime.toMillis());
+        }
+    }
+}
@@ -5,79 +5,125 @@ import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
+import ru.tinkoff.qa.neptune.core.api.concurrency.ContextCheckOut;
 import ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer;
 import ru.tinkoff.qa.neptune.core.api.steps.context.ConstructorParameters;
 import ru.tinkoff.qa.neptune.core.api.utils.ConstructorUtil;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.CONTEXT_POOL;
 
 public class MethodInterceptor<T> {
 
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
     private final Class<T> classToInstantiate;
     private final ConstructorParameters constructorParameters;
     private final ThreadLocal<ObjectContainer<T>> threadLocal;
+    private final ContextCheckOut contextCheckOut;
+    /**
+     * Methods which are resolved to handles {@code (Object target, Object[] args) -> Object}.
+     * Each intercepted method is resolved only once.
+     */
+    private final ConcurrentHashMap<Method, MethodHandle> handles = new ConcurrentHashMap<>();
 
     public MethodInterceptor(Class<T> classToInstantiate, ConstructorParameters constructorParameters) {
+        this(classToInstantiate, constructorParameters, CONTEXT_POOL);
+    }
+
+    /**
+     * Creates an interceptor.
+     *
+     * @param classToInstantiate    is a class of contexts to be created
+     * @param constructorParameters are parameters to create a new context
+     * @param contextCheckOut       finds free contexts when a thread invokes a method for the first time.
+     *                              A new context is created when no free context is found.
+     */
+    public MethodInterceptor(Class<T> classToInstantiate,
+                             ConstructorParameters constructorParameters,
+                             ContextCheckOut contextCheckOut) {
+        checkNotNull(contextCheckOut);
         this.classToInstantiate = classToInstantiate;
         this.constructorParameters = constructorParameters;
+        this.contextCheckOut = contextCheckOut;
         threadLocal = new ThreadLocal<>();
     }
 
-    @RuntimeType
-    @SuppressWarnings("unused")
-    public Object intercept(@This Object obj, @Origin Method method, @AllArguments Object[] args) throws Throwable {
-        T target;
+    private static MethodHandle toHandle(Method method) {
+        method.setAccessible(true);
         try {
-            target = ofNullable(threadLocal.get()).map(ObjectContainer::getWrappedObject).orElseGet(() ->
-                    ofNullable(ObjectContainer.setObjectBusy(classToInstantiate)).map(tObjectContainer -> {
-                        threadLocal.set(tObjectContainer);
-                        return tObjectContainer.getWrappedObject();
-                    }).orElseGet(() -> {
-                        var params = constructorParameters.getParameterValues();
-                        Constructor<T> c;
-
-                        try {
-                            c = ConstructorUtil.findSuitableConstructor(classToInstantiate, params);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        c.setAccessible(true);
-
-                        T t;
-                        try {
-                            t = c.newInstance(constructorParameters.getParameterValues());
-                            if (Stoppable.class.isAssignableFrom(t.getClass())) {
-                                getRuntime().addShutdownHook(new Thread(((Stoppable) t)::stop));
-                            }
-                            var container = new ObjectContainer<>(t);
-                            threadLocal.set(container);
-                        } catch (InstantiationException | IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        } catch (InvocationTargetException e) {
-                            throw new RuntimeException(e.getCause());
-                        }
-                        return t;
-                    }));
-        } catch (RuntimeException e) {
-            throw ofNullable(e.getCause()).orElse(e);
+            //varargs are passed as an array which is already built by the caller
+            return lookup().unreflect(method)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(DISPATCH_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ProxyCreationFailureException(e.getMessage(), e);
+        }
+    }
+
+    private T getTarget() throws Throwable {
+        var container = threadLocal.get();
+        if (container != null) {
+            return container.getWrappedObject();
         }
 
-        method.setAccessible(true);
+        container = contextCheckOut.checkOut(classToInstantiate, currentThread());
+        if (container != null) {
+            threadLocal.set(container);
+            return container.getWrappedObject();
+        }
+
+        var params = constructorParameters.getParameterValues();
+        Constructor<T> c = ConstructorUtil.findSuitableConstructor(classToInstantiate, params);
+        c.setAccessible(true);
 
+        T t;
         try {
-            return ofNullable(method.invoke(target, args)).map(o -> {
-                if (o.getClass().equals(classToInstantiate)) {
-                    return obj;
-                }
-                return o;
-            }).orElse(null);
+            t = c.newInstance(constructorParameters.getParameterValues());
         } catch (InvocationTargetException e) {
             throw ofNullable(e.getCause()).orElse(e);
         }
+
+        if (Stoppable.class.isAssignableFrom(t.getClass())) {
+            getRuntime().addShutdownHook(new Thread(((Stoppable) t)::stop));
+        }
+        threadLocal.set(new ObjectContainer<>(t));
+        return t;
+    }
+
+    /**
+     * Invokes the method of the context which is taken by the current thread.
+     * <p>
+     * Arguments come as an array which byte-buddy creates for every invocation. It is not avoided on purpose:
+     * one interceptor serves all methods of all contexts and the array is passed to the cached handle as is.
+     * Getting rid of it would require to generate a separate delegation for each method of each context class.
+     * </p>
+     */
+    @RuntimeType
+    @SuppressWarnings("unused")
+    public Object intercept(@This Object obj, @Origin Method method, @AllArguments Object[] args) throws Throwable {
+        var target = getTarget();
+        var handle = handles.get(method);
+        if (handle == null) {
+            handle = handles.computeIfAbsent(method, MethodInterceptor::toHandle);
+        }
+
+        var result = (Object) handle.invokeExact((Object) target, args);
+        if (result != null && result.getClass() == classToInstantiate) {
+            return obj;
+        }
+        return result;
     }
 }
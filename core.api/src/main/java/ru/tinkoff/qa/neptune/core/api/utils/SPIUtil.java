@@ -1,26 +1,68 @@
 package ru.tinkoff.qa.neptune.core.api.utils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import static java.util.stream.Collectors.toList;
+import static java.lang.Thread.currentThread;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 public final class SPIUtil {
 
+    /**
+     * Providers found by {@link ServiceLoader} for each class loader and service class.
+     */
+    private static final ConcurrentMap<ClassLoader, ConcurrentMap<Class<?>, List<ServiceLoader.Provider<?>>>> PROVIDERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Instances of classes marked by {@link Stateless}.
+     */
+    private static final ConcurrentMap<Class<?>, Object> SHARED = new ConcurrentHashMap<>();
+
     private SPIUtil() {
         super();
     }
 
+    private static List<ServiceLoader.Provider<?>> getProviders(Class<?> classToLoad) {
+        var classLoader = ofNullable(currentThread().getContextClassLoader()).orElseGet(ClassLoader::getSystemClassLoader);
+        return PROVIDERS.computeIfAbsent(classLoader, cl -> new ConcurrentHashMap<>())
+                .computeIfAbsent(classToLoad, cls -> ServiceLoader.load(cls, classLoader)
+                        .stream()
+                        .collect(toUnmodifiableList()));
+    }
+
+    private static Object getInstance(ServiceLoader.Provider<?> provider) {
+        var type = provider.type();
+        if (!type.isAnnotationPresent(Stateless.class)) {
+            return provider.get();
+        }
+
+        var shared = SHARED.get(type);
+        if (shared != null) {
+            return shared;
+        }
+        return SHARED.computeIfAbsent(type, t -> provider.get());
+    }
+
     /**
-     * Creates an object list for the given type using SPI engines.
+     * Creates an object list for the given type using SPI engines. Classes of implementations are found only once.
+     * Implementations marked by {@link Stateless} are instantiated only once too, then these objects are shared.
      *
      * @param classToLoad is a service class that should be instantiated.
      * @param <T> is type of a list that should be returned.
      * @return list of objects.
      */
+    @SuppressWarnings("unchecked")
     public static <T> List<T> loadSPI(Class<T> classToLoad) {
-        return ServiceLoader.load(classToLoad)
-                .stream()
-                .map(ServiceLoader.Provider::get).collect(toList());
+        var providers = getProviders(classToLoad);
+        var result = new ArrayList<T>(providers.size());
+        for (var provider : providers) {
+            result.add((T) getInstance(provider));
+        }
+        return result;
     }
 }
@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.utils;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks an implementation of a service loaded by {@link SPIUtil} or an implementation of
+ * {@link ru.tinkoff.qa.neptune.core.api.dependency.injection.DependencyInjector} which keeps no state.
+ * Only one instance of such class is created and it is shared by all threads. Instances of
+ * classes which are not marked by this annotation are created each time when they are loaded/used.
+ *
+ * <p>NOTE</p>
+ * The annotation is not inherited. Each subclass should be marked separately.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Stateless {
+}
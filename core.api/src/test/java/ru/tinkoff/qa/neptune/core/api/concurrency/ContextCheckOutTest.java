@@ -0,0 +1,67 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.Thread.currentThread;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ContextCheckOutTest {
+
+    @Test
+    public void customCheckOutIsUsedOncePerThread() throws Exception {
+        NotPooledContext.ASKED_BY.clear();
+        var context = NotPooledContext.getContext();
+        context.getThread();
+        context.getThread();
+
+        var thread = new Thread(context::getThread);
+        thread.start();
+        thread.join();
+
+        assertThat(NotPooledContext.ASKED_BY, contains(currentThread(), thread));
+    }
+
+    @Test
+    public void newContextIsCreatedWhenCheckOutFindsNothing() throws Exception {
+        var context = NotPooledContext.getContext();
+        var created = new CopyOnWriteArrayList<Thread>();
+
+        for (int i = 0; i < 2; i++) {
+            //the previous thread is finished, but its context is not reused
+            var thread = new Thread(() -> created.add(context.getThread()));
+            thread.start();
+            thread.join();
+        }
+
+        assertThat(created, hasSize(2));
+        assertThat(created.get(0), not(sameInstance(created.get(1))));
+    }
+
+    public static class NotPooledContext extends Context<NotPooledContext> {
+
+        private static final List<Thread> ASKED_BY = new CopyOnWriteArrayList<>();
+
+        private static final NotPooledContext context = getInstance(NotPooledContext.class, new ContextCheckOut() {
+            @Override
+            public <T> ObjectContainer<T> checkOut(Class<T> tClass, Thread thread) {
+                ASKED_BY.add(thread);
+                return null;
+            }
+        });
+
+        private final Thread createdBy = currentThread();
+
+        static NotPooledContext getContext() {
+            return context;
+        }
+
+        public Thread getThread() {
+            return createdBy;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextOwnershipMonitor.getMetrics;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer.containers;
+
+public class ContextOwnershipMonitorTest {
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        var end = currentTimeMillis() + SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (currentTimeMillis() > end) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    @Test
+    public void metricsTest() throws Exception {
+        var releasedBefore = getMetrics().getReleasedContainers();
+        var returnedBefore = ContextPool.getMetrics().getReturned();
+
+        var taken = new CountDownLatch(1);
+        var toFinish = new CountDownLatch(1);
+        var owner = new Thread(() -> {
+            MonitoredContext.getContext().doSomething();
+            taken.countDown();
+            try {
+                toFinish.await();
+            } catch (InterruptedException e) {
+                currentThread().interrupt();
+            }
+        });
+        owner.start();
+
+        assertThat(taken.await(5, SECONDS), is(true));
+        var container = containers.stream()
+                .filter(c -> c.getBusyBy() == owner)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("A container taken by the owner was not found"));
+        assertThat(getMetrics().getBusyContainers(), greaterThanOrEqualTo(1L));
+
+        toFinish.countDown();
+        owner.join(SECONDS.toMillis(5));
+        assertThat(owner.isAlive(), is(false));
+        assertThat(waitFor(() -> getMetrics().getReleasedContainers() > releasedBefore), is(true));
+
+        var metrics = getMetrics();
+        assertThat(container.isBusy(), is(false));
+        assertThat(ContextPool.getMetrics().getReturned(), greaterThan(returnedBefore));
+        assertThat(metrics.getFreeContainers(), greaterThanOrEqualTo(1L));
+        assertThat(metrics.getMaxReleaseLatency().toMillis(), lessThan(1000L));
+    }
+
+    public static class MonitoredContext extends Context<MonitoredContext> {
+
+        private static final MonitoredContext context = getInstance(MonitoredContext.class);
+
+        static MonitoredContext getContext() {
+            return context;
+        }
+
+        public void doSomething() {
+            //there is nothing to do
+        }
+    }
+}
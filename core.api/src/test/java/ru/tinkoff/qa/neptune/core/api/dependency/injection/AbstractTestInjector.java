@@ -0,0 +1,11 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import java.lang.reflect.Field;
+
+public abstract class AbstractTestInjector implements DependencyInjector {
+
+    @Override
+    public boolean toSet(Field field) {
+        return field.getName().startsWith("stateless") || field.getName().startsWith("stateful");
+    }
+}
@@ -0,0 +1,160 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import io.github.classgraph.ClassGraph;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.dependency.injection.DependencyInjector.injectValues;
+
+public class InjectionPlanTest {
+
+    /**
+     * Fills fields the same way as it was done before the plans were introduced.
+     */
+    private static void injectByScanning(Object o) throws Exception {
+        var fields = new ArrayList<Field>();
+        var clz = o.getClass();
+        while (!clz.equals(Object.class)) {
+            fields.addAll(List.of(clz.getDeclaredFields()));
+            clz = clz.getSuperclass();
+        }
+
+        try (var scanResult = new ClassGraph().enableClassInfo().scan()) {
+            for (var cls : scanResult.getClassesImplementing(DependencyInjector.class.getName())
+                    .loadClasses(DependencyInjector.class)) {
+                if (isAbstract(cls.getModifiers())) {
+                    continue;
+                }
+
+                var injector = cls.getConstructor().newInstance();
+                for (var f : fields) {
+                    var m = f.getModifiers();
+                    f.setAccessible(true);
+                    if (!isStatic(m) && !isFinal(m) && injector.toSet(f)
+                            && (f.getType().isPrimitive() || f.get(o) == null)) {
+                        f.set(o, injector.getValueToSet(f));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Object> valuesOf(Object o) throws IllegalAccessException {
+        var result = new ArrayList<>();
+        var clz = o.getClass();
+        while (!clz.equals(Object.class)) {
+            for (var f : clz.getDeclaredFields()) {
+                f.setAccessible(true);
+                result.add(f.get(o));
+            }
+            clz = clz.getSuperclass();
+        }
+        return result;
+    }
+
+    @BeforeMethod
+    public void prepare() {
+        StatelessTestInjector.USED.clear();
+        StatefulTestInjector.USED.clear();
+    }
+
+    @Test
+    public void sameInjectorsAsBeforeTest() throws Exception {
+        try (var scanResult = new ClassGraph().enableClassInfo().scan()) {
+            var scanned = scanResult.getClassesImplementing(DependencyInjector.class.getName())
+                    .filter(classInfo -> !classInfo.isAbstract())
+                    .getNames();
+            var planned = InjectionPlan.getInjectorClasses().stream().map(Class::getName).collect(toList());
+
+            assertThat(planned, containsInAnyOrder(scanned.toArray()));
+            assertThat(planned, hasItems(StatelessTestInjector.class.getName(), StatefulTestInjector.class.getName()));
+            assertThat(planned, not(hasItem(AbstractTestInjector.class.getName())));
+        }
+    }
+
+    @Test
+    public void sameValuesAsBeforeTest() throws Exception {
+        var planned = new InjectedChild();
+        var scanned = new InjectedChild();
+        injectValues(planned);
+        injectByScanning(scanned);
+
+        assertThat(valuesOf(planned), contains(valuesOf(scanned).toArray()));
+        assertThat(planned.statelessChild, is("statelessChild"));
+        assertThat(planned.statelessPrimitive, is(1));
+        assertThat(planned.statelessFilled, is("filled"));
+        assertThat(planned.notInjected, nullValue());
+        assertThat(planned.getStatelessParent(), is("statelessParent"));
+        assertThat(InjectedParent.statelessStatic, nullValue());
+    }
+
+    @Test
+    public void statelessInjectorIsSharedTest() throws Exception {
+        injectValues(new InjectedChild());
+        injectValues(new InjectedChild());
+
+        var thread = new Thread(() -> injectValues(new InjectedChild()));
+        thread.start();
+        thread.join();
+
+        assertThat(StatelessTestInjector.USED, hasSize(1));
+    }
+
+    @Test
+    public void notStatelessInjectorIsNotSharedTest() throws Exception {
+        var object1 = new InjectedChild();
+        var object2 = new InjectedChild();
+        injectValues(object1);
+        injectValues(object2);
+
+        var object3 = new AtomicReference<InjectedChild>();
+        var thread = new Thread(() -> {
+            var o = new InjectedChild();
+            injectValues(o);
+            object3.set(o);
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(StatefulTestInjector.USED, hasSize(3));
+        for (var o : List.of(object1, object2, object3.get())) {
+            assertThat(List.of(o.statefulChild, o.getStatefulParent()), containsInAnyOrder("call 1", "call 2"));
+        }
+    }
+
+    private static class InjectedParent {
+
+        private static String statelessStatic;
+        private final String statelessFinal = null;
+        private String statelessParent;
+        private String statefulParent;
+
+        String getStatelessParent() {
+            return statelessParent;
+        }
+
+        String getStatefulParent() {
+            return statefulParent;
+        }
+    }
+
+    private static class InjectedChild extends InjectedParent {
+
+        private String statelessChild;
+        private int statelessPrimitive;
+        private String statelessFilled = "filled";
+        private String statefulChild;
+        private Object notInjected;
+    }
+}
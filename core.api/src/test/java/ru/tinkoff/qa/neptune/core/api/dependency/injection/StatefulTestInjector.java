@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StatefulTestInjector implements DependencyInjector {
+
+    static final Set<DependencyInjector> USED = ConcurrentHashMap.newKeySet();
+    private int calls;
+
+    @Override
+    public boolean toSet(Field field) {
+        return field.getName().startsWith("stateful");
+    }
+
+    @Override
+    public Object getValueToSet(Field field) {
+        USED.add(this);
+        return "call " + ++calls;
+    }
+}
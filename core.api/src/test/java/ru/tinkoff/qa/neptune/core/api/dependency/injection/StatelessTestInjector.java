@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Stateless
+public class StatelessTestInjector implements DependencyInjector {
+
+    static final Set<DependencyInjector> USED = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean toSet(Field field) {
+        return field.getName().startsWith("stateless");
+    }
+
+    @Override
+    public Object getValueToSet(Field field) {
+        USED.add(this);
+        return field.getType().equals(int.class) ? (Object) 1 : field.getName();
+    }
+}
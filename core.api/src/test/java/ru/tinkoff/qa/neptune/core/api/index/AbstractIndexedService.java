@@ -0,0 +1,4 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+public abstract class AbstractIndexedService implements IndexedService {
+}
@@ -0,0 +1,104 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+import ru.tinkoff.qa.neptune.core.api.hooks.*;
+import ru.tinkoff.qa.neptune.core.api.steps.TestCaptor;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.System.getProperty;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.findSubclasses;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
+
+public class ClassIndexTest {
+
+    private Path notIndexed;
+    private URLClassLoader loader;
+
+    private void compile(String className, String source) throws IOException {
+        var file = notIndexed.resolve(className + ".java");
+        Files.writeString(file, source);
+        var result = ToolProvider.getSystemJavaCompiler().run(null, null, null,
+                "-proc:none",
+                "-classpath", getProperty("java.class.path"),
+                "-d", notIndexed.toString(),
+                file.toString());
+        assertThat(result, is(0));
+    }
+
+    @BeforeClass
+    public void compileNotIndexedClasses() throws IOException {
+        notIndexed = Files.createTempDirectory("not-indexed");
+        compile("DirectService", "package not.indexed;"
+                + "public class DirectService implements ru.tinkoff.qa.neptune.core.api.index.IndexedService {}");
+        compile("InheritedService", "package not.indexed;"
+                + "public class InheritedService extends ru.tinkoff.qa.neptune.core.api.index.AbstractIndexedService {}");
+        loader = new URLClassLoader(new URL[]{notIndexed.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteNotIndexedClasses() throws IOException {
+        loader.close();
+        try (var files = Files.walk(notIndexed)) {
+            for (var file : files.sorted((p1, p2) -> p2.compareTo(p1)).collect(toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void indexedSubclassesTest() {
+        assertThat(getSubclasses(ExecutionHook.class),
+                hasItems(Hook1.class, Hook2.class, Hook3.class, Hook4.class, Hook5.class));
+    }
+
+    @Test
+    public void notIndexedSubclassesTest() {
+        var captors = getSubclasses(Captor.class);
+        assertThat(captors, hasItem(TestCaptor.class));
+        assertThat(captors, not(hasItem(Captor.class)));
+    }
+
+    @Test
+    public void subclassesAreFoundOnceTest() {
+        assertThat(getSubclasses(ExecutionHook.class), sameInstance(getSubclasses(ExecutionHook.class)));
+    }
+
+    @Test
+    public void classesOfNotIndexedEntriesAreMergedTest() {
+        var found = findSubclasses(IndexedService.class, loader, new ClassIndex.ClasspathScan(loader))
+                .stream()
+                .map(Class::getName)
+                .collect(toList());
+
+        assertThat(found, containsInAnyOrder(AbstractIndexedService.class.getName(),
+                IndexedServiceImpl.class.getName(),
+                "not.indexed.DirectService",
+                "not.indexed.InheritedService"));
+    }
+
+    @Test
+    public void notIndexedEntriesOnlyAreScannedTest() throws IOException {
+        var indexedEntry = Path.of(ClassIndexTest.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+        assertThat(Files.exists(indexedEntry.resolve(ClassIndex.INDEX_MARKER)), is(true));
+
+        var scanned = new ClassIndex.ClasspathScan(loader)
+                .getNotIndexed(loader)
+                .getAllStandardClasses()
+                .filter(classInfo -> !classInfo.isExternalClass())
+                .getNames();
+        assertThat(scanned, hasItems("not.indexed.DirectService", "not.indexed.InheritedService"));
+        assertThat(scanned, not(hasItem(IndexedServiceImpl.class.getName())));
+    }
+}
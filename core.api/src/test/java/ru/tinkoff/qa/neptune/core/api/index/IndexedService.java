@@ -0,0 +1,5 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+@IndexSubclasses
+public interface IndexedService {
+}
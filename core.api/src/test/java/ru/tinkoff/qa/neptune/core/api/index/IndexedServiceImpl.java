@@ -0,0 +1,4 @@
+package ru.tinkoff.qa.neptune.core.api.index;
+
+public class IndexedServiceImpl extends AbstractIndexedService {
+}
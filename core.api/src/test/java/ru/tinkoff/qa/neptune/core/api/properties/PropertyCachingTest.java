@@ -0,0 +1,68 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.properties.object.suppliers.ObjectSupplier1;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.TestObjectSupplier.TEST_OBJECT_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.TestURLValuePropertySupplier.TEST_URL_PROPERTY;
+
+public class PropertyCachingTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearProperties() {
+        clearProperty(TEST_URL_PROPERTY);
+        clearProperty(TEST_OBJECT_PROPERTY);
+    }
+
+    @Test
+    public void parsedValueIsReusedTest() {
+        var supplier = new TestURLValuePropertySupplier();
+        setProperty(TEST_URL_PROPERTY, "https://www.google.com");
+
+        var url = supplier.get();
+        assertThat(supplier.get(), sameInstance(url));
+    }
+
+    @Test
+    public void changedValueIsParsedAgainTest() {
+        var supplier = new TestURLValuePropertySupplier();
+        setProperty(TEST_URL_PROPERTY, "https://www.google.com");
+        var url = supplier.get();
+
+        setProperty(TEST_URL_PROPERTY, "https://github.com");
+        assertThat(supplier.get().toString(), is("https://github.com"));
+
+        clearProperty(TEST_URL_PROPERTY);
+        assertThat(supplier.get(), nullValue());
+
+        setProperty(TEST_URL_PROPERTY, "https://www.google.com");
+        assertThat(supplier.get(), not(sameInstance(url)));
+    }
+
+    @Test
+    public void acceptedValueIsParsedAgainTest() {
+        var supplier = new TestURLValuePropertySupplier();
+        supplier.accept("https://www.google.com");
+        var url = supplier.get();
+
+        supplier.accept("https://www.google.com");
+        var url2 = supplier.get();
+        assertThat(url2, equalTo(url));
+        assertThat(url2, not(sameInstance(url)));
+    }
+
+    @Test
+    public void objectsAreNotReusedTest() {
+        var supplier = new TestObjectSupplier();
+        setProperty(TEST_OBJECT_PROPERTY, ObjectSupplier1.class.getName());
+
+        var o = supplier.get();
+        assertThat(o, instanceOf(ObjectSupplier1.class));
+        assertThat(supplier.get(), not(sameInstance(o)));
+    }
+}
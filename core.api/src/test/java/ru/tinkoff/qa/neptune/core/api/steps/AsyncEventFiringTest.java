@@ -0,0 +1,82 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventLogging.ASYNC_EVENT_LOGGING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.steps.ArithmeticalSequence.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.Arithmetical.number;
+import static ru.tinkoff.qa.neptune.core.api.steps.CalculatorSteps.calculator;
+import static ru.tinkoff.qa.neptune.core.api.steps.Step.$;
+
+public class AsyncEventFiringTest {
+
+    @BeforeMethod
+    public void prepare() {
+        TestEventLogger.MESSAGES.clear();
+        TestAsyncEventLogger.startRecording();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clear() {
+        clearProperty(ASYNC_EVENT_LOGGING_PROPERTY.getName());
+        TestAsyncEventLogger.stopRecording();
+        TestEventLogger.MESSAGES.clear();
+    }
+
+    private static void performSteps() {
+        $("Reset calculated value to 0", () ->
+                calculator().set(0D));
+
+        $("Result of numeric operations", () -> calculator()
+                .evaluate(multiplyByResultOf(11, divideByResultOf(-6, number(9)))));
+
+        try {
+            $("Failed step", () -> {
+                throw new IllegalStateException("Test exception");
+            });
+        } catch (IllegalStateException e) {
+            //it is expected
+        }
+    }
+
+    @Test
+    public void synchronousLoggingTest() {
+        performSteps();
+
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, not(emptyIterable()));
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, contains(TestEventLogger.MESSAGES.toArray()));
+        assertThat(TestAsyncEventLogger.THREADS, contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void asynchronousLoggingTest() {
+        setProperty(ASYNC_EVENT_LOGGING_PROPERTY.getName(), "true");
+        performSteps();
+        flushEvents();
+
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, not(emptyIterable()));
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, contains(TestEventLogger.MESSAGES.toArray()));
+        assertThat(TestAsyncEventLogger.THREADS, contains("neptune-event-dispatcher"));
+    }
+
+    @Test
+    public void returnedValueIsFormattedByFiringThreadTest() {
+        setProperty(ASYNC_EVENT_LOGGING_PROPERTY.getName(), "true");
+        var list = $("Get list", () -> new ArrayList<>(List.of("a")));
+        list.add("b");
+        flushEvents();
+
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, hasItem("[a] has been returned"));
+        assertThat(TestAsyncEventLogger.ASYNC_MESSAGES, not(hasItem("[a, b] has been returned")));
+    }
+}
@@ -0,0 +1,116 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ContextMethodDispatchTest {
+
+    @Test
+    public void varargsTest() {
+        var context = DispatchedContext.newContext();
+
+        assertThat(context.joinAll("a", "b", "c"), is("abc"));
+        assertThat(context.joinAll(), is(""));
+        assertThat(context.joinAll(new String[]{"d", "e"}), is("de"));
+        assertThat(context.joinWith("-", "a", "b"), is("a-b"));
+        assertThat(context.sum(1, 2, 3), is(6));
+    }
+
+    @Test
+    public void primitivesTest() {
+        var context = DispatchedContext.newContext();
+
+        assertThat(context.add(2, 3), is(5));
+        assertThat(context.multiply(2L, 3.5), is(7.0));
+        assertThat(context.not(true), is(false));
+        assertThat(context.next('a'), is('b'));
+    }
+
+    @Test
+    public void voidTest() {
+        var context = DispatchedContext.newContext();
+
+        context.record("a");
+        context.record("b", "c");
+
+        assertThat(context.getRecorded(), contains("a", "b", "c"));
+    }
+
+    @Test
+    public void selfReferenceAndExceptionTest() {
+        var context = DispatchedContext.newContext();
+
+        assertThat(context.self(), sameInstance(context));
+        try {
+            context.fail("expected failure");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("expected failure"));
+            return;
+        }
+        throw new AssertionError("IllegalStateException was expected");
+    }
+
+    public static class DispatchedContext extends Context<DispatchedContext> {
+
+        private final List<String> recorded = new ArrayList<>();
+
+        static DispatchedContext newContext() {
+            return getInstance(DispatchedContext.class);
+        }
+
+        public String joinAll(String... strings) {
+            return String.join("", strings);
+        }
+
+        public String joinWith(String delimiter, String... strings) {
+            return String.join(delimiter, strings);
+        }
+
+        public int sum(int... ints) {
+            var result = 0;
+            for (var i : ints) {
+                result += i;
+            }
+            return result;
+        }
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public double multiply(long a, double b) {
+            return a * b;
+        }
+
+        public boolean not(boolean b) {
+            return !b;
+        }
+
+        public char next(char c) {
+            return (char) (c + 1);
+        }
+
+        public void record(String... strings) {
+            recorded.addAll(asList(strings));
+        }
+
+        public List<String> getRecorded() {
+            return recorded;
+        }
+
+        public DispatchedContext self() {
+            return this;
+        }
+
+        public void fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
+
+import java.util.Set;
+
+import static java.lang.System.getProperties;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.catchValue;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.finishTest;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.injectPendingCaptures;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.TestOutcome.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturingMode.CAPTURING_MODE_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.PendingCapturesMemoryCap.PENDING_CAPTURES_MEMORY_CAP_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.steps.Step.$;
+
+public class DeferredCapturingTest {
+
+    private static final Set<CaptorFilterByProducedType> FILTERS = Set.of(new CaptorFilterByProducedType(StringBuilder.class));
+
+    @BeforeMethod
+    public void prepare() {
+        injectPendingCaptures(false);
+        TestCapturedStringInjector.messages.clear();
+    }
+
+    @Test
+    public void immediateCapturingTest() {
+        catchValue("Value 1", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1"));
+
+        injectPendingCaptures(true);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1"));
+    }
+
+    @Test
+    public void deferredCapturingTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "DEFERRED");
+        catchValue("Value 1", FILTERS);
+        catchValue("Value 2", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+
+        injectPendingCaptures(false);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1",
+                "Saved to string Value 2"));
+
+        injectPendingCaptures(false);
+        assertThat(TestCapturedStringInjector.messages, hasSize(2));
+    }
+
+    @Test
+    public void onFailureCapturingOfSucceededTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "ON_FAILURE");
+        catchValue("Value 1", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+
+        injectPendingCaptures(false);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+    }
+
+    @Test
+    public void onFailureCapturingOfFailedTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "ON_FAILURE");
+        catchValue("Value 1", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+
+        injectPendingCaptures(true);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1"));
+    }
+
+    @Test
+    public void memoryCapTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "ON_FAILURE");
+        setProperty(PENDING_CAPTURES_MEMORY_CAP_PROPERTY.getName(), "20");
+
+        catchValue("Value 1", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+
+        catchValue("Value 2", FILTERS);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 2"));
+
+        injectPendingCaptures(true);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 2",
+                "Saved to string Value 1"));
+    }
+
+    @Test
+    public void onFailureCapturingOfSkippedTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "ON_FAILURE");
+        catchValue("Value 1", FILTERS);
+
+        finishTest(SKIPPED);
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+    }
+
+    @Test
+    public void deferredCapturingOfSkippedTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "DEFERRED");
+        catchValue("Value 1", FILTERS);
+
+        finishTest(SKIPPED);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1"));
+    }
+
+    @Test
+    public void finishingOfFailedTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "ON_FAILURE");
+        catchValue("Value 1", FILTERS);
+
+        finishTest(FAILED);
+        assertThat(TestCapturedStringInjector.messages, contains("Saved to string Value 1"));
+    }
+
+    @Test
+    public void stepOfDeferredCaptureTest() {
+        setProperty(CAPTURING_MODE_PROPERTY.getName(), "DEFERRED");
+        $("Outer step", () -> {
+            $("Inner step", () -> catchValue("Value 1", FILTERS));
+            catchValue("Value 2", FILTERS);
+        });
+        assertThat(TestCapturedStringInjector.messages, emptyIterable());
+
+        finishTest(PASSED);
+        assertThat(TestCapturedStringInjector.messages, contains(
+                "Saved to string. Step: Perform: Inner step Value 1",
+                "Saved to string. Step: Perform: Outer step Value 2"));
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        getProperties().remove(CAPTURING_MODE_PROPERTY.getName());
+        getProperties().remove(PENDING_CAPTURES_MEMORY_CAP_PROPERTY.getName());
+    }
+}
@@ -0,0 +1,103 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotation.CaptorFilterByProducedType;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImageCaptor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.TestCapturedImageInjector.INJECTED;
+
+public class EncodedImageCaptorTest {
+
+    private static EncodedImage encodedPng(int width, int height) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, TYPE_INT_RGB), "png", out);
+        return new EncodedImage(out.toByteArray(), "png");
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        INJECTED.clear();
+    }
+
+    @Test
+    public void encodedImageIsDecodedForImageInjectorsTest() throws IOException {
+        new TestEncodedImageCaptor().capture(encodedPng(3, 2));
+
+        assertThat(INJECTED.size(), is(1));
+        var image = INJECTED.keySet().iterator().next();
+        assertThat(image.getWidth(), is(3));
+        assertThat(image.getHeight(), is(2));
+        assertThat(INJECTED.values(), contains("Encoded image"));
+    }
+
+    @Test
+    public void notDecodedImageIsNotInjectedTest() {
+        new TestEncodedImageCaptor().capture(new EncodedImage(new byte[]{1, 2, 3}, "png"));
+        assertThat(INJECTED.size(), is(0));
+    }
+
+    @Test
+    public void filterByManyProducedTypesTest() {
+        var filter = new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class);
+
+        assertThat(filter.matches(new TestEncodedImageCaptor()), is(true));
+        assertThat(filter.matches(new TestImageCaptor()), is(true));
+        assertThat(filter.matches(new TestStringCaptor()), is(false));
+        assertThat(filter.matches(new TestFileCaptor()), is(false));
+    }
+
+    @Test
+    public void filterByOneProducedTypeTest() {
+        var filter = new CaptorFilterByProducedType(BufferedImage.class);
+
+        assertThat(filter.matches(new TestImageCaptor()), is(true));
+        assertThat(filter.matches(new TestEncodedImageCaptor()), is(false));
+        assertThat(filter, not(equalTo(new CaptorFilterByProducedType(BufferedImage.class, EncodedImage.class))));
+        assertThat(filter, equalTo(new CaptorFilterByProducedType(BufferedImage.class)));
+    }
+
+    private static final class TestEncodedImageCaptor extends EncodedImageCaptor<EncodedImage> {
+
+        private TestEncodedImageCaptor() {
+            super("Encoded image");
+        }
+
+        @Override
+        public EncodedImage getData(EncodedImage caught) {
+            return caught;
+        }
+
+        @Override
+        public EncodedImage getCaptured(Object toBeCaptured) {
+            return toBeCaptured instanceof EncodedImage ? (EncodedImage) toBeCaptured : null;
+        }
+    }
+
+    private static final class TestImageCaptor extends ImageCaptor<BufferedImage> {
+
+        private TestImageCaptor() {
+            super("Image");
+        }
+
+        @Override
+        public BufferedImage getData(BufferedImage caught) {
+            return caught;
+        }
+
+        @Override
+        public BufferedImage getCaptured(Object toBeCaptured) {
+            return toBeCaptured instanceof BufferedImage ? (BufferedImage) toBeCaptured : null;
+        }
+    }
+}
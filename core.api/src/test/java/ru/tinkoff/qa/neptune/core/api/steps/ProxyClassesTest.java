@@ -0,0 +1,56 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+import ru.tinkoff.qa.neptune.core.api.steps.proxy.ContextProxyClasses;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ProxyClassesTest {
+
+    @Test
+    public void proxyClassIsGeneratedOnceTest() {
+        var proxy1 = CountingContext.newContext();
+        var proxy2 = CountingContext.newContext();
+
+        assertThat(proxy1, not(sameInstance(proxy2)));
+        assertThat(proxy1.getClass(), sameInstance(proxy2.getClass()));
+        assertThat(ContextProxyClasses.getGenerationRecords()
+                .stream()
+                .filter(r -> r.getProxied().equals(CountingContext.class.getName()))
+                .count(), is(1L));
+    }
+
+    @Test
+    public void proxiesAreIndependentTest() {
+        var proxy1 = CountingContext.newContext();
+        var proxy2 = CountingContext.newContext();
+
+        proxy1.increment();
+        proxy1.increment();
+        proxy2.increment();
+
+        assertThat(proxy1.getCount(), is(2));
+        assertThat(proxy2.getCount(), is(1));
+        assertThat(proxy1.increment(), sameInstance(proxy1));
+    }
+
+    public static class CountingContext extends Context<CountingContext> {
+
+        private int count;
+
+        static CountingContext newContext() {
+            return getInstance(CountingContext.class);
+        }
+
+        public CountingContext increment() {
+            count++;
+            return this;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedStringInjector;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.collections.CollectionCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.utils.SPIUtil.loadSPI;
+
+@SuppressWarnings("rawtypes")
+public class SPILoadingTest {
+
+    private static <T> T findInstance(List<Captor> captors, Class<T> cls) {
+        return captors.stream()
+                .filter(c -> c.getClass().equals(cls))
+                .map(cls::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static List<Captor> loadInAnotherThread() throws InterruptedException {
+        var result = new AtomicReference<List<Captor>>();
+        var thread = new Thread(() -> result.set(loadSPI(Captor.class)));
+        thread.start();
+        thread.join();
+        return result.get();
+    }
+
+    @Test
+    public void statelessObjectsAreSharedTest() throws InterruptedException {
+        var captors1 = loadSPI(Captor.class);
+        var captors2 = loadInAnotherThread();
+
+        assertThat(findInstance(captors1, CollectionCaptor.class),
+                sameInstance(findInstance(captors2, CollectionCaptor.class)));
+    }
+
+    @Test
+    public void statefulObjectsAreNotSharedTest() throws InterruptedException {
+        var captors1 = loadSPI(Captor.class);
+        var captors2 = loadInAnotherThread();
+
+        assertThat(findInstance(captors1, TestCaptor.class),
+                not(sameInstance(findInstance(captors2, TestCaptor.class))));
+        assertThat(findInstance(captors1, TestCaptor.class),
+                not(sameInstance(findInstance(loadSPI(Captor.class), TestCaptor.class))));
+    }
+
+    @Test
+    public void loadedListsAreIndependentTest() {
+        var captors1 = loadSPI(Captor.class);
+        var captors2 = loadSPI(Captor.class);
+
+        captors1.clear();
+        assertThat(captors1, emptyIterable());
+        assertThat(captors2, not(emptyIterable()));
+    }
+
+    @Test
+    public void captorKeepsItsOwnInjectorsTest() {
+        var injected = new ArrayList<String>();
+        var injectors = new ArrayList<CapturedStringInjector>();
+        injectors.add((toBeInjected, message) -> injected.add(message + ": " + toBeInjected));
+
+        var captor = new StringCaptor<String>("Captured", injectors) {
+            @Override
+            public StringBuilder getData(String caught) {
+                return new StringBuilder(caught);
+            }
+
+            @Override
+            public String getCaptured(Object toBeCaptured) {
+                return String.valueOf(toBeCaptured);
+            }
+        };
+
+        injectors.clear();
+        captor.capture("value");
+        assertThat(injected, contains("Captured: value"));
+    }
+}
@@ -0,0 +1,45 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.Thread.currentThread;
+
+/**
+ * Records messages only while a test has turned the recording on. The logger is loaded by SPI
+ * for all tests, so it should not collect messages of tests that do not read them.
+ */
+public class TestAsyncEventLogger extends TestEventLogger {
+
+    public static final List<String> ASYNC_MESSAGES = new CopyOnWriteArrayList<>();
+    public static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+    private static volatile boolean recording;
+
+    public static void startRecording() {
+        ASYNC_MESSAGES.clear();
+        THREADS.clear();
+        recording = true;
+    }
+
+    public static void stopRecording() {
+        recording = false;
+        ASYNC_MESSAGES.clear();
+        THREADS.clear();
+    }
+
+    @Override
+    protected void log(String message) {
+        if (!recording) {
+            return;
+        }
+        ASYNC_MESSAGES.add(message);
+        THREADS.add(currentThread().getName());
+    }
+
+    @Override
+    public boolean isThreadBound() {
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedImageInjector;
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TestCapturedImageInjector implements CapturedImageInjector {
+
+    static final Map<BufferedImage, String> INJECTED = new LinkedHashMap<>();
+
+    @Override
+    public void inject(BufferedImage toBeInjected, String message) {
+        INJECTED.put(toBeInjected, message);
+    }
+}
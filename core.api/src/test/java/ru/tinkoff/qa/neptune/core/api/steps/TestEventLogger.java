@@ -15,23 +15,27 @@ public class TestEventLogger implements EventLogger {
     @Override
     public void fireTheEventStarting(String message, Map<String, String> params) {
         String msg = format("%s has started", message);
-        MESSAGES.add(msg);
+        log(msg);
     }
 
     @Override
     public void fireThrownException(Throwable throwable) {
         String msg = format("%s has been thrown", throwable.getClass().getName());
-        MESSAGES.add(msg);
+        log(msg);
     }
 
     @Override
     public void fireReturnedValue(Object returned) {
         String msg = format("%s has been returned", returned);
-        MESSAGES.add(msg);
+        log(msg);
     }
 
     @Override
     public void fireEventFinishing() {
-        MESSAGES.add("Event finished");
+        log("Event finished");
+    }
+
+    protected void log(String message) {
+        MESSAGES.add(message);
     }
 }
@@ -3,6 +3,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -141,4 +142,77 @@ public class ToGetTest {
                         .apply(new Object()),
                 nullValue());
     }
+
+    @Test
+    public void checkResultOfChainedFunctions() {
+        Function<Object, String> plain = GET_TO_STRING
+                .andThen(GET_STRING_LENGTH)
+                .andThen(i -> i * 2)
+                .andThen(GET_TO_STRING)
+                .andThen(s -> s + "!");
+
+        StepFunction<Object, String> chained = StepFunction.toGet("String value of the object", GET_TO_STRING)
+                .andThen(StepFunction.toGet("Length of the given string", GET_STRING_LENGTH))
+                .andThen(i -> i * 2)
+                .andThen(StepFunction.toGet("String value of the object", GET_TO_STRING))
+                .andThen(s -> s + "!");
+
+        assertThat(chained.apply("abc"), is(plain.apply("abc")));
+        assertThat(chained.turnReportingOff().apply("abcdef"), is(plain.apply("abcdef")));
+        assertThat(chained.turnReportingOn().apply(12345), is(plain.apply(12345)));
+        assertThat(chained.toString(), is("<not described value>"));
+    }
+
+    @Test
+    public void checkResultOfComposedFunctions() {
+        Function<String, Integer> describedStringLength = StepFunction.toGet("Length of the given string",
+                GET_STRING_LENGTH);
+        var result = describedStringLength
+                .compose(GET_TO_STRING)
+                .compose((Integer i) -> i * 10)
+                .andThen(GET_POSITIVITY);
+
+        assertThat(result.apply(5), is(true));
+        assertThat(result.apply(-5), is(true));
+
+        //a not described function is added to the existing sequence
+        var description = result.toString();
+        var composed = result.compose((String s) -> s.length() - 1);
+        assertThat(composed, sameInstance(result));
+        assertThat(composed.apply("a"), is(true));
+        assertThat(composed.apply("abc"), is(true));
+        assertThat(composed.toString(), is(description));
+    }
+
+    @Test
+    public void checkExceptionPropagationOfChainedFunctions() {
+        var exception = new IllegalStateException("Test exception");
+        var chained = StepFunction.toGet("String value of the object", GET_TO_STRING)
+                .andThen(s -> {
+                    throw exception;
+                })
+                .andThen(GET_TO_STRING);
+
+        for (var function : List.of(chained, chained.turnReportingOff())) {
+            try {
+                function.apply("abc");
+                fail("The exception throwing was expected");
+            } catch (IllegalStateException e) {
+                assertThat(e, sameInstance(exception));
+            }
+        }
+    }
+
+    @Test
+    public void checkIgnoredExceptionOfChainedFunctions() {
+        var chained = StepFunction.toGet("String value of the object", GET_TO_STRING)
+                .andThen(StepFunction.toGet("Failed function", s -> {
+                    throw new IllegalStateException("Test exception");
+                }))
+                .andThen(GET_TO_STRING)
+                .addIgnored(IllegalStateException.class);
+
+        assertThat(chained.apply("abc"), nullValue());
+        assertThat(chained.turnReportingOff().apply("abc"), nullValue());
+    }
 }
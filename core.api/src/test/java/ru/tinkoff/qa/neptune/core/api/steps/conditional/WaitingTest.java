@@ -0,0 +1,97 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditional;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitingMetrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.sleep;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.PollingStrategies.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.ReadinessSignals.signalReadiness;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.ToGetSingleCheckedObject.getSingle;
+
+public class WaitingTest extends BaseConditionalTest {
+
+    private static final long INTERVAL = MILLISECONDS.toNanos(100);
+
+    @Test
+    public void noSleepingAfterSuccessTest() {
+        var start = currentTimeMillis();
+        assertThat(getSingle(GET_FIRST_OBJECT_FROM_LIST, VALUE_ONE_NUMBER, FIVE_SECONDS, FIVE_HUNDRED_MILLIS)
+                        .apply(LITERAL_LIST),
+                is(ONE_NUM));
+        assertThat(currentTimeMillis() - start, lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
+
+        var metrics = WaitingMetrics.last();
+        assertThat(metrics.getSucceeded(), is(1L));
+        assertThat(metrics.getAttempts(), is(1L));
+        assertThat(metrics.getWastedTime().isZero(), is(true));
+    }
+
+    @Test
+    public void metricsOfTimedOutWaitingTest() {
+        var totalBefore = WaitingMetrics.total().getWaitings();
+        getSingle(GET_FIRST_OBJECT_FROM_LIST, VALUE_A, FIVE_HUNDRED_MILLIS, ofMillis(100))
+                .apply(LITERAL_LIST);
+
+        var metrics = WaitingMetrics.last();
+        assertThat(metrics.getSucceeded(), is(0L));
+        assertThat(metrics.getAttempts(), greaterThan(1L));
+        assertThat(metrics.getWastedTime().toMillis(), greaterThanOrEqualTo(400L));
+        assertThat(metrics.getElapsedTime().toMillis(), lessThan(650L));
+        assertThat(WaitingMetrics.total().getWaitings(), greaterThan(totalBefore));
+    }
+
+    @Test
+    public void readinessSignalTest() throws Exception {
+        var ready = new AtomicBoolean();
+        var waiting = currentThread();
+        var signaller = new Thread(() -> {
+            try {
+                sleep(300);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            ready.set(true);
+            signalReadiness(waiting);
+        });
+
+        var start = currentTimeMillis();
+        signaller.start();
+        var result = getSingle((List<String> strings) -> ready.get() ? strings.get(0) : null,
+                VALUE_ONE_NUMBER,
+                ofSeconds(10),
+                FIVE_SECONDS)
+                .apply(LITERAL_LIST);
+        signaller.join();
+
+        assertThat(result, is(ONE_NUM));
+        assertThat(currentTimeMillis() - start, lessThan(FIVE_SECONDS.toMillis()));
+        assertThat(WaitingMetrics.last().getAttempts(), is(2L));
+    }
+
+    @Test
+    public void pollingStrategiesTest() {
+        assertThat(FIXED.nextSleepNanos(1, INTERVAL), is(INTERVAL));
+        assertThat(FIXED.nextSleepNanos(10, INTERVAL), is(INTERVAL));
+
+        assertThat(EXPONENTIAL_BACKOFF.nextSleepNanos(1, INTERVAL), is(INTERVAL));
+        assertThat(EXPONENTIAL_BACKOFF.nextSleepNanos(2, INTERVAL), is(INTERVAL * 2));
+        assertThat(EXPONENTIAL_BACKOFF.nextSleepNanos(3, INTERVAL), is(INTERVAL * 4));
+        assertThat(EXPONENTIAL_BACKOFF.nextSleepNanos(100, INTERVAL), is(INTERVAL * 16));
+
+        for (var i = 1; i < 10; i++) {
+            var backOff = EXPONENTIAL_BACKOFF.nextSleepNanos(i, INTERVAL);
+            assertThat(JITTERED_BACKOFF.nextSleepNanos(i, INTERVAL),
+                    allOf(greaterThanOrEqualTo(backOff / 2), lessThanOrEqualTo(backOff)));
+        }
+    }
+}
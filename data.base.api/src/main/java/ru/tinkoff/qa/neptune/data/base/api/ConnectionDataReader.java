@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.data.base.api;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import ru.tinkoff.qa.neptune.data.base.api.connection.data.DBConnection;
 import ru.tinkoff.qa.neptune.data.base.api.connection.data.DBConnectionSupplier;
 
@@ -15,10 +13,6 @@ import static ru.tinkoff.qa.neptune.data.base.api.connection.data.DBConnectionSt
  */
 public class ConnectionDataReader {
 
-    private static final ScanResult SCAN_RESULT = new ClassGraph()
-            .enableAllInfo()
-            .scan();
-
     private ConnectionDataReader() {
         super();
     }
@@ -57,28 +51,26 @@ public class ConnectionDataReader {
                 });
     }
 
-    @SuppressWarnings("unchecked")
     private static Class<? extends DBConnectionSupplier> getConnectionInfoFromPackageOf(Class<? extends PersistableObject> clazz) {
-        return ofNullable(clazz.getPackage())
-                .map(aPackage -> {
-                    var packInfo = SCAN_RESULT.getPackageInfo(aPackage.getName());
-                    while (packInfo != null) {
-                        var annotationInfo = packInfo.getAnnotationInfo(ConnectionToUse.class.getName());
-                        if (annotationInfo != null) {
-                            try {
-                                return (Class<? extends DBConnectionSupplier>) Class.forName(annotationInfo
-                                        .getParameterValues()
-                                        .getValue("connectionSupplier")
-                                        .toString()
-                                        .replace(".class", EMPTY));
-                            } catch (Throwable throwable) {
-                                throw new RuntimeException(throwable);
-                            }
-                        }
-                        packInfo = packInfo.getParent();
-                    }
-                    return null;
-                })
-                .orElse(null);
+        var packageName = clazz.getPackageName();
+        while (!packageName.isEmpty()) {
+            var connectionToUse = getPackageAnnotation(packageName, clazz.getClassLoader());
+            if (connectionToUse != null) {
+                return connectionToUse.connectionSupplier();
+            }
+
+            var lastDot = packageName.lastIndexOf('.');
+            packageName = lastDot < 0 ? EMPTY : packageName.substring(0, lastDot);
+        }
+        return null;
+    }
+
+    private static ConnectionToUse getPackageAnnotation(String packageName, ClassLoader classLoader) {
+        try {
+            return Class.forName(packageName + ".package-info", false, classLoader)
+                    .getAnnotation(ConnectionToUse.class);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
     }
 }
@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.data.base.api;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import ru.tinkoff.qa.neptune.data.base.api.connection.data.DBConnection;
 import ru.tinkoff.qa.neptune.data.base.api.connection.data.DBConnectionSupplier;
 
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.data.base.api;
 
-import io.github.classgraph.ClassGraph;
 import org.datanucleus.enhancer.DataNucleusEnhancer;
 
 import javax.jdo.annotations.PersistenceCapable;
@@ -9,6 +8,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 import static org.datanucleus.PropertyNames.PROPERTY_METADATA_ALWAYS_DETACHABLE;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
 
 public final class PersistableEnhancer {
     /**
@@ -23,11 +23,7 @@ public final class PersistableEnhancer {
         var enhancer = new DataNucleusEnhancer("JDO", props);
         enhancer.setVerbose(true);
 
-        enhancer.addClasses(new ClassGraph()
-                .enableAllInfo()
-                .scan()
-                .getSubclasses(PersistableObject.class.getName())
-                .loadClasses(PersistableObject.class)
+        enhancer.addClasses(getSubclasses(PersistableObject.class)
                 .stream()
                 .filter(clazz -> nonNull(clazz.getAnnotation(PersistenceCapable.class)))
                 .map(Class::getName).collect(Collectors.toList()).toArray(new String[]{}));
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.data.base.api;
 
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.identity.ObjectId;
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
 
 import javax.jdo.annotations.NotPersistent;
 import javax.jdo.annotations.PersistenceCapable;
@@ -16,6 +17,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 /**
  * This abstract class is designed to mark persistable classes.
  */
+@IndexSubclasses
 public abstract class PersistableObject extends OrmObject implements Cloneable {
 
     public static final String[] DATA_NUCLEOUS_ENHANCED_FIELDS = new String[]{"dnStateManager", "dnFlags", "dnDetachedState", "$"};
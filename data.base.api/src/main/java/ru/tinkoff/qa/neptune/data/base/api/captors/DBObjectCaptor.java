@@ -1,7 +1,9 @@
 package ru.tinkoff.qa.neptune.data.base.api.captors;
 
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.data.base.api.PersistableObject;
 
+@Stateless
 public class DBObjectCaptor extends DBCaptor<PersistableObject> {
 
 
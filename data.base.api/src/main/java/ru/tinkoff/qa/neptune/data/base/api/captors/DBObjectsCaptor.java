@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.data.base.api.captors;
 
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.data.base.api.PersistableObject;
 
 import java.util.List;
@@ -7,6 +8,7 @@ import java.util.List;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
 
+@Stateless
 public class DBObjectsCaptor extends DBCaptor<List<PersistableObject>> {
 
     public DBObjectsCaptor() {
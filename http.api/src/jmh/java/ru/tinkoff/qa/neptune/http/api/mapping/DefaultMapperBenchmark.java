@@ -0,0 +1,94 @@
+package ru.tinkoff.qa.neptune.http.api.mapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.XML;
+
+/**
+ * Measures round-trips of a DTO through default mappers. Each operation serializes the DTO
+ * and deserializes the resulted string by shared writers and readers the same way as request bodies
+ * and response body handlers do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DefaultMapperBenchmark {
+
+    private Dto dto;
+
+    @Setup
+    public void setUp() {
+        dto = new Dto();
+        dto.setName("Some name");
+        dto.setNumber(42);
+        dto.setDate("2020-10-18");
+        dto.setComment(Optional.of("Some comment"));
+        dto.setTags(List.of("tag1", "tag2", "tag3"));
+    }
+
+    @Benchmark
+    public Dto jsonRoundTrip() throws JsonProcessingException {
+        var body = JSON.getWriter().writeValueAsString(dto);
+        return JSON.getReader(Dto.class).readValue(body);
+    }
+
+    @Benchmark
+    public Dto xmlRoundTrip() throws JsonProcessingException {
+        var body = XML.getWriter().writeValueAsString(dto);
+        return XML.getReader(Dto.class).readValue(body);
+    }
+
+    public static class Dto {
+        private String name;
+        private int number;
+        private String date;
+        private Optional<String> comment;
+        private List<String> tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public String getDate() {
+            return date;
+        }
+
+        public void setDate(String date) {
+            this.date = date;
+        }
+
+        public Optional<String> getComment() {
+            return comment;
+        }
+
+        public void setComment(Optional<String> comment) {
+            this.comment = comment;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ru.tinkoff.qa.neptune.http.api.response.body.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.net.http.HttpResponse.BodySubscribers.mapping;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
+
+/**
+ * Measures the handling of a large json response body which is received by chunks of 16 kB. The body
+ * is deserialized into a list of objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MappedBodyHandlerBenchmark {
+
+    private static final TypeReference<List<Item>> ITEMS = new TypeReference<>() {
+    };
+
+    private static final HttpResponse.ResponseInfo RESPONSE_INFO = new HttpResponse.ResponseInfo() {
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(Map.of("Content-Type", List.of("application/json; charset=UTF-8")), (s, s2) -> true);
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    };
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        var items = new ArrayList<Item>();
+        for (int i = 0; i < 10000; i++) {
+            var item = new Item();
+            item.setId(i);
+            item.setName("Имя элемента " + i);
+            item.setDescription("Some description of the item number " + i);
+            items.add(item);
+        }
+
+        var bytes = JSON.getMapper().writeValueAsBytes(items);
+        for (int i = 0; i < bytes.length; i += 16384) {
+            chunks.add(ByteBuffer.wrap(bytes, i, Math.min(16384, bytes.length - i)).slice().asReadOnlyBuffer());
+        }
+    }
+
+    private <T> T receive(HttpResponse.BodyHandler<T> handler) {
+        var subscriber = handler.apply(RESPONSE_INFO);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        for (var c : chunks) {
+            subscriber.onNext(List.of(c.duplicate()));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public List<Item> stringBody() {
+        return receive(responseInfo -> mapping(ofString().apply(responseInfo), s -> {
+            try {
+                return JSON.getReader(ITEMS).<List<Item>>readValue(s);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }));
+    }
+
+    @Benchmark
+    public List<Item> receivedBytes() {
+        return receive(MappedBodyHandler.json(ITEMS));
+    }
+
+    public static class Item {
+        private int id;
+        private String name;
+        private String description;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
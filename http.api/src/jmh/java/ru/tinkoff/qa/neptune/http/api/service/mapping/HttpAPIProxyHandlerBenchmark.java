@@ -0,0 +1,64 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.Header;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.URIPath;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.header.HeaderParameter;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.query.QueryParameter;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI.createAPI;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.DefaultHttpMethods.GET;
+
+/**
+ * Measures invocations of methods of a mapped {@link HttpAPI}. Each operation creates a request builder
+ * or builds a request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HttpAPIProxyHandlerBenchmark {
+
+    private ItemAPI api;
+
+    @Setup
+    public void setUp() {
+        api = createAPI(ItemAPI.class, URI.create("http://127.0.0.1:8089"));
+    }
+
+    @Benchmark
+    public RequestBuilder requestBuilder() {
+        return api.getItem(42, "item", 10, "trace");
+    }
+
+    @Benchmark
+    public RequestBuilder requestBuilderByDefaultMethod() {
+        return api.getItem(42, "item");
+    }
+
+    @Benchmark
+    public HttpRequest request() {
+        return api.getItem(42, "item", 10, "trace").build();
+    }
+
+    public interface ItemAPI extends HttpAPI<ItemAPI> {
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("/users/{id}/items/{item}")
+        @Header(name = "Accept", headerValues = "application/json")
+        RequestBuilder getItem(@PathParameter(name = "id") int id,
+                               @PathParameter(name = "item") String item,
+                               @QueryParameter(name = "limit") Integer limit,
+                               @HeaderParameter(headerName = "X-Trace") String trace);
+
+        default RequestBuilder getItem(int id, String item) {
+            return getItem(id, item, 10, "trace");
+        }
+    }
+}
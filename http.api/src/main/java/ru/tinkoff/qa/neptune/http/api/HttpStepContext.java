@@ -22,6 +22,7 @@ import static ru.tinkoff.qa.neptune.http.api.cookies.AddHttpCookiesActionSupplie
 import static ru.tinkoff.qa.neptune.http.api.cookies.DeleteHttpCookiesActionSupplier.deleteCookies;
 import static ru.tinkoff.qa.neptune.http.api.cookies.GetHttpCookiesSupplier.httpCookies;
 import static ru.tinkoff.qa.neptune.http.api.response.ResponseSequentialGetSupplier.response;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponsesSequentialGetSupplier.responses;
 
 @CreateWith(provider = HttpStepsParameterProvider.class)
 public class HttpStepContext extends Context<HttpStepContext> {
@@ -64,6 +65,43 @@ public class HttpStepContext extends Context<HttpStepContext> {
         return responseOf(requestBuilder, discarding());
     }
 
+    /**
+     * Sends a batch of http requests asynchronously and receives responses.
+     *
+     * @param responses is description of requests to be sent and responses to be received
+     * @param <T>       is a type of response body
+     * @return a list of {@link HttpResponse}. Responses are listed in the order of sent requests.
+     * @see ResponsesSequentialGetSupplier
+     */
+    public <T> List<HttpResponse<T>> responsesOf(ResponsesSequentialGetSupplier<T> responses) {
+        return responses.get().apply(this);
+    }
+
+    /**
+     * Sends a batch of http requests asynchronously and receives responses with body.
+     *
+     * @param requestBuilders are builders of http requests
+     * @param bodyHandler     is a handler of response bodies
+     * @param <T>             is a type of response body
+     * @return a list of {@link HttpResponse}. Responses are listed in the order of sent requests.
+     * @see ResponsesSequentialGetSupplier
+     */
+    public <T> List<HttpResponse<T>> responsesOf(Collection<RequestBuilder> requestBuilders,
+                                                 HttpResponse.BodyHandler<T> bodyHandler) {
+        return responsesOf(responses(requestBuilders, bodyHandler));
+    }
+
+    /**
+     * Sends a batch of http requests asynchronously and receives responses with no body.
+     *
+     * @param requestBuilders are builders of http requests
+     * @return a list of {@link HttpResponse}. Responses are listed in the order of sent requests.
+     * @see ResponsesSequentialGetSupplier
+     */
+    public List<HttpResponse<Void>> responsesOf(Collection<RequestBuilder> requestBuilders) {
+        return responsesOf(requestBuilders, discarding());
+    }
+
     /**
      * Extracts some object from http response body
      *
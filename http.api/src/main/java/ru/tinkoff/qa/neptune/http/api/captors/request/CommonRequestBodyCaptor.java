@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.captors.request;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.request.body.JSoupDocumentBody;
 import ru.tinkoff.qa.neptune.http.api.request.body.RequestBody;
 import ru.tinkoff.qa.neptune.http.api.request.body.SerializedBody;
@@ -9,6 +10,7 @@ import ru.tinkoff.qa.neptune.http.api.request.body.url.encoded.URLEncodedForm;
 
 import static java.util.List.of;
 
+@Stateless
 public class CommonRequestBodyCaptor extends StringCaptor<RequestBody<?>> implements BaseRequestBodyCaptor {
 
     public CommonRequestBodyCaptor() {
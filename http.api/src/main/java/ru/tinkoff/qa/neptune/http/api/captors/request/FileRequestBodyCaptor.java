@@ -1,12 +1,14 @@
 package ru.tinkoff.qa.neptune.http.api.captors.request;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.request.body.FileBody;
 
 import java.io.File;
 
 import static java.util.List.of;
 
+@Stateless
 public final class FileRequestBodyCaptor extends FileCaptor<FileBody> implements BaseRequestBodyCaptor {
 
     public FileRequestBodyCaptor() {
@@ -1,11 +1,13 @@
 package ru.tinkoff.qa.neptune.http.api.captors.request;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.request.body.MultiPartBody;
 import ru.tinkoff.qa.neptune.http.api.request.body.multipart.BodyPart;
 
 import static java.util.List.of;
 
+@Stateless
 public class MultiPartRequestBodyCaptor extends Captor<MultiPartBody, BodyPart[]> implements BaseRequestBodyCaptor {
 
     public MultiPartRequestBodyCaptor() {
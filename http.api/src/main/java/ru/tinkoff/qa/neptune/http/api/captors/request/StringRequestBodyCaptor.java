@@ -1,11 +1,13 @@
 package ru.tinkoff.qa.neptune.http.api.captors.request;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.request.body.StringBody;
 
 import static java.util.List.of;
 import static java.util.Optional.ofNullable;
 
+@Stateless
 public final class StringRequestBodyCaptor extends StringCaptor<StringBody> implements BaseRequestBodyCaptor {
 
     public StringRequestBodyCaptor() {
@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.response.RequestResponseLogCollector;
 import ru.tinkoff.qa.neptune.http.api.response.ResponseExecutionInfo;
 
@@ -14,6 +15,7 @@ import static java.io.File.createTempFile;
 import static java.lang.System.lineSeparator;
 import static java.util.UUID.randomUUID;
 
+@Stateless
 public final class RequestResponseLogCaptor extends FileCaptor<List<RequestResponseLogCollector>> {
 
     private static final String LINE_SEPARATOR = lineSeparator();
@@ -32,6 +34,10 @@ public final class RequestResponseLogCaptor extends FileCaptor<List<RequestRespo
         for (var log : caught) {
             i++;
             result.append("Log #").append(i).append(LINE_SEPARATOR);
+            var dropped = log.getDropped();
+            if (dropped > 0) {
+                result.append("...").append(dropped).append(" earlier records are dropped").append(LINE_SEPARATOR);
+            }
             log.getCollected().forEach(logRecord -> result
                     .append(logMessageFormatter.format(logRecord))
                     .append(LINE_SEPARATOR));
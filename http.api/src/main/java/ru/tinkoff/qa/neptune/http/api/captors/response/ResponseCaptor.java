@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import java.io.IOException;
@@ -13,6 +14,7 @@ import static java.lang.System.lineSeparator;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 
+@Stateless
 public final class ResponseCaptor extends StringCaptor<HttpResponse<?>> {
 
     private static final String LINE_SEPARATOR = lineSeparator();
@@ -1,10 +1,12 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.mapping.MappedObject;
 
 import java.net.http.HttpResponse;
 
+@Stateless
 public final class ResponseDTOCaptor extends StringCaptor<HttpResponse<MappedObject>> implements BaseResponseObjectBodyCaptor<MappedObject> {
 
     public ResponseDTOCaptor() {
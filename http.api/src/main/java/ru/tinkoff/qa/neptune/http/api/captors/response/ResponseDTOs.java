@@ -2,12 +2,14 @@ package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.mapping.MappedObject;
 
 import java.util.List;
 
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
 
+@Stateless
 public final class ResponseDTOs extends StringCaptor<List<MappedObject>> implements BaseResponseObjectsBodyCaptor<MappedObject> {
 
     public ResponseDTOs() {
@@ -17,7 +19,7 @@ public final class ResponseDTOs extends StringCaptor<List<MappedObject>> impleme
     @Override
     public StringBuilder getData(List<MappedObject> caught) {
         try {
-            return new StringBuilder(JSON.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(caught));
+            return new StringBuilder(JSON.getPrettyWriter().writeValueAsString(caught));
         } catch (JsonProcessingException e) {
             return null;
         }
@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,6 +19,7 @@ import static org.apache.commons.io.FileUtils.copyFile;
  * This class is designed to convert some {@link String} and {@link Path} bodies of received responses
  * to files.
  */
+@Stateless
 public final class ResponseFileCaptor extends FileCaptor<HttpResponse<Path>> implements BaseResponseObjectBodyCaptor<Path> {
 
     public ResponseFileCaptor() {
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import org.jsoup.nodes.Document;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.io.File;
 import java.net.http.HttpResponse;
@@ -11,6 +12,7 @@ import static java.nio.charset.Charset.defaultCharset;
 import static java.util.UUID.randomUUID;
 import static org.apache.commons.io.FileUtils.writeStringToFile;
 
+@Stateless
 public final class ResponseJSoupDocumentCaptor extends FileCaptor<HttpResponse<Document>> implements BaseResponseObjectBodyCaptor<Document> {
 
     public ResponseJSoupDocumentCaptor() {
@@ -1,10 +1,12 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.collections.MapCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.util.Map;
 
 @SuppressWarnings("rawtypes")
+@Stateless
 public final class ResponseMapBodyCaptor extends MapCaptor implements BaseResponseObjectBodyCaptor<Map> {
 
     public ResponseMapBodyCaptor() {
@@ -1,11 +1,13 @@
 package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import java.net.http.HttpResponse;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+@Stateless
 public final class ResponseStringCaptor extends StringCaptor<HttpResponse<String>> implements BaseResponseObjectBodyCaptor<String> {
 
     public ResponseStringCaptor() {
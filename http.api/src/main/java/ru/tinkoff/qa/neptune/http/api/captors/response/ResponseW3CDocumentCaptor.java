@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.http.api.captors.response;
 
 import org.w3c.dom.Document;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -15,6 +16,7 @@ import static java.nio.charset.Charset.defaultCharset;
 import static java.util.UUID.randomUUID;
 import static org.apache.commons.io.FileUtils.writeStringToFile;
 
+@Stateless
 public final class ResponseW3CDocumentCaptor extends FileCaptor<HttpResponse<Document>> implements BaseResponseObjectBodyCaptor<Document> {
 
     public ResponseW3CDocumentCaptor() {
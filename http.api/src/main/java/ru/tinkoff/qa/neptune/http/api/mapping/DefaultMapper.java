@@ -1,7 +1,10 @@
 package ru.tinkoff.qa.neptune.http.api.mapping;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -11,15 +14,21 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultJsonObjectMapper;
 import ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultXmlObjectMapper;
 
+import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultJsonObjectMapper.DEFAULT_JSON_OBJECT_MAPPER;
 import static ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultXmlObjectMapper.DEFAULT_XML_OBJECT_MAPPER;
 
 /**
- * Default mappers of serialized/deserialized http request/response bodies.
+ * Default mappers of serialized/deserialized http request/response bodies. A mapper is built once and
+ * then it is used until value of the corresponding property is changed. The built mapper is not shared,
+ * only immutable readers and writers created by it are.
  *
  * @see DefaultJsonObjectMapper
  * @see DefaultXmlObjectMapper
@@ -30,8 +39,13 @@ public enum DefaultMapper {
      */
     JSON {
         @Override
-        public ObjectMapper getMapper() {
-            var m = ofNullable(DEFAULT_JSON_OBJECT_MAPPER.get())
+        Supplier<? extends ObjectMapper> getSupplier() {
+            return DEFAULT_JSON_OBJECT_MAPPER.get();
+        }
+
+        @Override
+        ObjectMapper createMapper(Supplier<? extends ObjectMapper> supplier) {
+            var m = ofNullable(supplier)
                     .map(s -> ofNullable(s.get())
                             .map(ObjectMapper::copy)
                             .orElseThrow(() -> new IllegalStateException(format("An instance of %s supplied null-value",
@@ -49,10 +63,15 @@ public enum DefaultMapper {
      */
     XML {
         @Override
-        public ObjectMapper getMapper() {
-            var m = ofNullable(DEFAULT_XML_OBJECT_MAPPER.get())
+        Supplier<? extends ObjectMapper> getSupplier() {
+            return DEFAULT_XML_OBJECT_MAPPER.get();
+        }
+
+        @Override
+        ObjectMapper createMapper(Supplier<? extends ObjectMapper> supplier) {
+            var m = ofNullable(supplier)
                     .map(s -> ofNullable(s.get())
-                            .map(XmlMapper::copy)
+                            .map(ObjectMapper::copy)
                             .orElseThrow(() -> new IllegalStateException(format("An instance of %s supplied null-value",
                                     s.getClass().getName())))
                     ).orElseGet(XmlMapper::new);
@@ -66,6 +85,8 @@ public enum DefaultMapper {
         }
     };
 
+    private volatile Mappers mappers;
+
     private static <T extends Module> void addModuleIfNecessary(ObjectMapper mapper, Class<T> classModule, T toSet) {
         var moduleIds = mapper.getRegisteredModuleIds();
 
@@ -76,5 +97,93 @@ public enum DefaultMapper {
         }
     }
 
-    public abstract ObjectMapper getMapper();
+    abstract Supplier<? extends ObjectMapper> getSupplier();
+
+    abstract ObjectMapper createMapper(Supplier<? extends ObjectMapper> supplier);
+
+    private Mappers mappers() {
+        var supplier = getSupplier();
+        var current = mappers;
+        if (current != null && current.supplier == supplier) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = mappers;
+            if (current == null || current.supplier != supplier) {
+                current = new Mappers(supplier, createMapper(supplier));
+                mappers = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Returns a copy of the built mapper. It may be reconfigured and this doesn't affect readers and writers
+     * returned by {@link #getReader(Class)}, {@link #getReader(TypeReference)}, {@link #getWriter()} and
+     * {@link #getPrettyWriter()}.
+     *
+     * @return new instance of {@link ObjectMapper}
+     */
+    public ObjectMapper getMapper() {
+        return mappers().mapper.copy();
+    }
+
+    /**
+     * Returns the shared reader of values of the defined type. Instances of {@link ObjectReader} are immutable.
+     *
+     * @param type is a type of values to read
+     * @return shared instance of {@link ObjectReader}
+     */
+    public ObjectReader getReader(Class<?> type) {
+        checkNotNull(type);
+        var m = mappers();
+        return m.readers.computeIfAbsent(type, t -> m.mapper.readerFor(type));
+    }
+
+    /**
+     * Returns the shared reader of values of the defined type. Instances of {@link ObjectReader} are immutable.
+     *
+     * @param type is a reference to a type of values to read
+     * @return shared instance of {@link ObjectReader}
+     */
+    public ObjectReader getReader(TypeReference<?> type) {
+        checkNotNull(type);
+        var m = mappers();
+        return m.readers.computeIfAbsent(type.getType(), t -> m.mapper.readerFor(type));
+    }
+
+    /**
+     * Returns the shared writer. Instances of {@link ObjectWriter} are immutable.
+     *
+     * @return shared instance of {@link ObjectWriter}
+     */
+    public ObjectWriter getWriter() {
+        return mappers().writer;
+    }
+
+    /**
+     * Returns the shared writer which uses the default pretty printer. Instances of {@link ObjectWriter}
+     * are immutable.
+     *
+     * @return shared instance of {@link ObjectWriter}
+     */
+    public ObjectWriter getPrettyWriter() {
+        return mappers().prettyWriter;
+    }
+
+    private static final class Mappers {
+        private final Supplier<? extends ObjectMapper> supplier;
+        private final ObjectMapper mapper;
+        private final ObjectWriter writer;
+        private final ObjectWriter prettyWriter;
+        private final ConcurrentHashMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        private Mappers(Supplier<? extends ObjectMapper> supplier, ObjectMapper mapper) {
+            this.supplier = supplier;
+            this.mapper = mapper;
+            this.writer = mapper.writer();
+            this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        }
+    }
 }
@@ -45,7 +45,7 @@ public abstract class MappedObject {
      */
     public Map<String, Object> toMap() {
         try {
-            var s = JSON.getMapper().writeValueAsString(this);
+            var s = JSON.getWriter().writeValueAsString(this);
             var map = new ObjectMapper()
                     .readValue(s, new TypeReference<Map<String, Object>>() {
                     });
@@ -64,7 +64,7 @@ public abstract class MappedObject {
 
     public String toString() {
         try {
-            return JSON.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+            return JSON.getPrettyWriter().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.http.api.properties.async;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Defines max count of requests of a batch which are sent asynchronously at the same time.",
+        "Next request of the batch is sent when a response to any of sent requests is received"},
+        section = "Http client. General")
+@PropertyName("HTTP_MAX_ASYNC_REQUESTS")
+@PropertyDefaultValue("10")
+public final class HttpMaxAsyncRequestsProperty implements IntValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final HttpMaxAsyncRequestsProperty HTTP_MAX_ASYNC_REQUESTS_PROPERTY = new HttpMaxAsyncRequestsProperty();
+
+    private HttpMaxAsyncRequestsProperty() {
+        super();
+    }
+}
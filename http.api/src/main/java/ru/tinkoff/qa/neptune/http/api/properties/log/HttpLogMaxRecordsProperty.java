@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.http.api.properties.log;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Defines max count of log records of the http client which are kept for each sent request.",
+        "Earlier records are dropped when the count is exceeded"},
+        section = "Http client. General")
+@PropertyName("HTTP_LOG_MAX_RECORDS")
+@PropertyDefaultValue("1000")
+public final class HttpLogMaxRecordsProperty implements IntValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final HttpLogMaxRecordsProperty HTTP_LOG_MAX_RECORDS_PROPERTY = new HttpLogMaxRecordsProperty();
+
+    private HttpLogMaxRecordsProperty() {
+        super();
+    }
+}
@@ -19,4 +19,15 @@ public final class DefaultJsonObjectMapper implements ObjectPropertySupplier<Sup
     private DefaultJsonObjectMapper() {
         super();
     }
+
+    /**
+     * A supplier is created once while the property keeps the same value. So the mapper built
+     * by {@link ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper} is shared until the value is changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isValueReusable() {
+        return true;
+    }
 }
@@ -1,10 +1,13 @@
 package ru.tinkoff.qa.neptune.http.api.request;
 
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
+
 /**
  * Helps to tune http request by {@link RequestSettings}.
  *
  * @see RequestTuner#setUp(RequestSettings)
  */
+@IndexSubclasses
 public interface RequestTuner {
 
     /**
@@ -185,7 +185,7 @@ public final class RequestBodyFactory {
      * @see DefaultXmlObjectMapper
      */
     public static RequestBody<String> body(DefaultMapper mapper, Object body) {
-        return body(mapper.getMapper(), body);
+        return new SerializedBody(mapper.getWriter(), mapper.getPrettyWriter(), body);
     }
 
     /**
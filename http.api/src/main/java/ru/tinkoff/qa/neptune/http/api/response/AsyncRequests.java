@@ -0,0 +1,131 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+/**
+ * Sends requests of a batch asynchronously. Not more than the defined count of requests are sent at the same time.
+ * The next request of the batch is sent when a response to any of sent requests is received. Requests are sent
+ * in the order they are defined.
+ *
+ * @param <T> is a type of response body
+ */
+final class AsyncRequests<T> {
+
+    private final HttpClient client;
+    private final List<HttpRequest> requests;
+    private final HttpResponse.BodyHandler<T> bodyHandler;
+    private final List<ResponseExecutionInfo> infos;
+    private final List<CompletableFuture<HttpResponse<T>>> responses;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    private AsyncRequests(HttpClient client, List<HttpRequest> requests, HttpResponse.BodyHandler<T> bodyHandler) {
+        this.client = client;
+        this.requests = requests;
+        this.bodyHandler = bodyHandler;
+        infos = new ArrayList<>(requests.size());
+        responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            infos.add(new ResponseExecutionInfo());
+            responses.add(new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Starts sending of requests.
+     *
+     * @param client           is the http client which sends requests
+     * @param requests         are requests to be sent
+     * @param bodyHandler      is a handler of response bodies
+     * @param maxAsyncRequests is max count of requests which are sent at the same time
+     * @param <T>              is a type of response body
+     * @return an instance of {@link AsyncRequests}
+     */
+    static <T> AsyncRequests<T> sendAsync(HttpClient client,
+                                          List<HttpRequest> requests,
+                                          HttpResponse.BodyHandler<T> bodyHandler,
+                                          int maxAsyncRequests) {
+        checkNotNull(client);
+        checkNotNull(requests);
+        checkNotNull(bodyHandler);
+        checkArgument(maxAsyncRequests > 0, "Max count of requests sent at the same time should be greater than 0");
+
+        var result = new AsyncRequests<>(client, requests, bodyHandler);
+        for (int i = 0; i < Math.min(maxAsyncRequests, requests.size()); i++) {
+            result.sendNext();
+        }
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private void sendNext() {
+        if (cancelled) {
+            return;
+        }
+
+        var i = next.getAndIncrement();
+        if (i >= requests.size()) {
+            return;
+        }
+
+        var info = infos.get(i);
+        var response = responses.get(i);
+        info.startAsyncExecutionLogging(client);
+
+        CompletableFuture<HttpResponse<T>> sending;
+        try {
+            sending = client.sendAsync(requests.get(i), bodyHandler);
+        } catch (Exception e) {
+            sending = failedFuture(e);
+        }
+
+        sending.whenComplete((received, t) -> {
+            info.stopExecutionLogging();
+            if (t != null) {
+                response.completeExceptionally(unwrap(t));
+            } else {
+                response.complete(received);
+            }
+            sendNext();
+        });
+    }
+
+    /**
+     * Stops sending of the rest of requests. Responses which are not received yet are cancelled.
+     * Requests which are being sent already are not interrupted.
+     */
+    void cancel() {
+        cancelled = true;
+        responses.forEach(r -> r.cancel(false));
+    }
+
+    int size() {
+        return requests.size();
+    }
+
+    HttpRequest getRequest(int index) {
+        return requests.get(index);
+    }
+
+    CompletableFuture<HttpResponse<T>> getResponse(int index) {
+        return responses.get(index);
+    }
+
+    ResponseExecutionInfo getInfo(int index) {
+        return infos.get(index);
+    }
+}
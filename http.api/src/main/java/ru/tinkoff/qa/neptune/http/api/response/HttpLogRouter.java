@@ -0,0 +1,210 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import java.net.http.HttpClient;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static java.lang.Thread.currentThread;
+import static ru.tinkoff.qa.neptune.http.api.properties.log.HttpLogMaxRecordsProperty.HTTP_LOG_MAX_RECORDS_PROPERTY;
+
+/**
+ * The only handler of the http client logger. It is added once, when logs are collected for the first time.
+ * It routes each log record to collectors of requests which are being sent at the moment:
+ * <ul>
+ *     <li>a record published by a thread which sends a request goes to the collector of this request. It is not
+ *     true for requests which are sent asynchronously. A sender thread doesn't wait for the response then.</li>
+ *     <li>a record published by a thread of an http client (its name is {@code HttpClient-<id>-...}) goes to
+ *     collectors of requests which are sent by this client</li>
+ *     <li>any other record goes to all collectors of requests which are being sent</li>
+ * </ul>
+ * A record is ignored when there are no requests whose logs are collected.
+ * <p>
+ * Requests are bound to their http clients by identity. An id of a client, which is used in names of its threads,
+ * is resolved once when the client starts sending of requests whose logs are collected.
+ */
+final class HttpLogRouter extends Handler {
+
+    private static final String CLIENT_THREAD_PREFIX = "HttpClient-";
+    private static final Logger LOGGER = Logger.getLogger("jdk.httpclient.HttpClient");
+    private static volatile HttpLogRouter router;
+
+    private final Set<Route> active = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Route> bySenderThread = new ConcurrentHashMap<>();
+    private final Map<HttpClient, ClientRoutes> byClient = new IdentityHashMap<>();
+    private final ConcurrentHashMap<String, ClientRoutes> byClientId = new ConcurrentHashMap<>();
+
+    private HttpLogRouter() {
+        super();
+    }
+
+    static HttpLogRouter getRouter() {
+        var r = router;
+        if (r == null) {
+            synchronized (HttpLogRouter.class) {
+                r = router;
+                if (r == null) {
+                    r = new HttpLogRouter();
+                    LOGGER.addHandler(r);
+                    router = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Starts collecting of log records for a request sent by the current thread.
+     *
+     * @param client is the http client which sends the request
+     * @return a route of log records. It should be passed to {@link #stopCollecting(Route)} when the request is sent.
+     */
+    static Route startCollecting(HttpClient client) {
+        var route = new Route(new RequestResponseLogCollector(HTTP_LOG_MAX_RECORDS_PROPERTY.get()),
+                currentThread().getId(),
+                client);
+        getRouter().add(route);
+        return route;
+    }
+
+    /**
+     * Starts collecting of log records for a request which is sent asynchronously. Records are not bound
+     * to the current thread. Records published by threads of the http client go to collectors of all requests
+     * which are being sent by this client.
+     *
+     * @param client is the http client which sends the request
+     * @return a route of log records. It should be passed to {@link #stopCollecting(Route)} when the response is
+     * received.
+     */
+    static Route startCollectingAsync(HttpClient client) {
+        var route = new Route(new RequestResponseLogCollector(HTTP_LOG_MAX_RECORDS_PROPERTY.get()),
+                null,
+                client);
+        getRouter().add(route);
+        return route;
+    }
+
+    static void stopCollecting(Route route) {
+        getRouter().remove(route);
+    }
+
+    private static String clientIdOf(HttpClient client) {
+        // toString() of an http client ends with (<id>) and threads of the client are named HttpClient-<id>-...
+        // There is no other way to get the id
+        var s = String.valueOf(client);
+        var end = s.length() - 1;
+        if (end < 0 || s.charAt(end) != ')') {
+            return null;
+        }
+
+        var start = s.lastIndexOf('(', end);
+        return start < 0 ? null : s.substring(start + 1, end);
+    }
+
+    private static String clientIdOf(String threadName) {
+        if (!threadName.startsWith(CLIENT_THREAD_PREFIX)) {
+            return null;
+        }
+
+        var start = CLIENT_THREAD_PREFIX.length();
+        var end = threadName.indexOf('-', start);
+        return end < 0 ? null : threadName.substring(start, end);
+    }
+
+    private synchronized void add(Route route) {
+        active.add(route);
+        if (route.senderThread != null) {
+            bySenderThread.put(route.senderThread, route);
+        }
+        if (route.client != null) {
+            var clientRoutes = byClient.computeIfAbsent(route.client, c -> new ClientRoutes(clientIdOf(c)));
+            clientRoutes.routes.add(route);
+            if (clientRoutes.clientId != null) {
+                byClientId.put(clientRoutes.clientId, clientRoutes);
+            }
+        }
+    }
+
+    private synchronized void remove(Route route) {
+        active.remove(route);
+        if (route.senderThread != null) {
+            bySenderThread.remove(route.senderThread, route);
+        }
+        if (route.client != null) {
+            var clientRoutes = byClient.get(route.client);
+            if (clientRoutes == null) {
+                return;
+            }
+
+            clientRoutes.routes.remove(route);
+            if (clientRoutes.routes.isEmpty()) {
+                byClient.remove(route.client);
+                if (clientRoutes.clientId != null) {
+                    byClientId.remove(clientRoutes.clientId, clientRoutes);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        var thread = currentThread();
+        var route = bySenderThread.get(thread.getId());
+        if (route != null) {
+            route.collector.add(record);
+            return;
+        }
+
+        var clientId = clientIdOf(thread.getName());
+        Set<Route> routes = active;
+        if (clientId != null) {
+            var clientRoutes = byClientId.get(clientId);
+            routes = clientRoutes != null ? clientRoutes.routes : Set.of();
+        }
+
+        for (var r : routes) {
+            r.collector.add(record);
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws SecurityException {
+    }
+
+    private static final class ClientRoutes {
+        private final String clientId;
+        private final Set<Route> routes = ConcurrentHashMap.newKeySet();
+
+        private ClientRoutes(String clientId) {
+            this.clientId = clientId;
+        }
+    }
+
+    static final class Route {
+        private final RequestResponseLogCollector collector;
+        private final Long senderThread;
+        private final HttpClient client;
+
+        private Route(RequestResponseLogCollector collector, Long senderThread, HttpClient client) {
+            this.collector = collector;
+            this.senderThread = senderThread;
+            this.client = client;
+        }
+
+        RequestResponseLogCollector getCollector() {
+            return collector;
+        }
+    }
+}
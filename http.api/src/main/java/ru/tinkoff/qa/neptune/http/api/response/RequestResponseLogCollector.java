@@ -1,33 +1,50 @@
 package ru.tinkoff.qa.neptune.http.api.response;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 
-import static java.lang.Thread.currentThread;
+/**
+ * Keeps log records of the http client which have been published during the sending of a request.
+ * Only the latest records are kept when their count exceeds the defined max count.
+ *
+ * @see ru.tinkoff.qa.neptune.http.api.properties.log.HttpLogMaxRecordsProperty
+ */
+public final class RequestResponseLogCollector {
 
-public final class RequestResponseLogCollector extends Handler {
+    private final ArrayDeque<LogRecord> collected = new ArrayDeque<>();
+    private final int maxRecords;
+    private long dropped;
 
-    private final List<LogRecord> collected = new ArrayList<>();
+    RequestResponseLogCollector(int maxRecords) {
+        this.maxRecords = maxRecords;
+    }
 
-    @Override
-    public void publish(LogRecord record) {
-        // Re-direct log calls here (e.g. send record to Log4j2 logger).
-        if (record.getThreadID() == (int) currentThread().getId()) {
-            collected.add(record);
+    synchronized void add(LogRecord record) {
+        if (maxRecords <= 0) {
+            dropped++;
+            return;
         }
-    }
 
-    @Override
-    public void flush() {
+        if (collected.size() >= maxRecords) {
+            collected.pollFirst();
+            dropped++;
+        }
+        collected.addLast(record);
     }
 
-    @Override
-    public void close() throws SecurityException {
+    /**
+     * @return kept log records in order of their publishing
+     */
+    public synchronized List<LogRecord> getCollected() {
+        return new ArrayList<>(collected);
     }
 
-    public List<LogRecord> getCollected() {
-        return collected;
+    /**
+     * @return count of earlier log records which have been dropped
+     */
+    public synchronized long getDropped() {
+        return dropped;
     }
 }
@@ -1,20 +1,46 @@
 package ru.tinkoff.qa.neptune.http.api.response;
 
+import java.net.http.HttpClient;
 import java.net.http.HttpResponse;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.logging.Logger;
+
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchFailureEvent;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchSuccessEvent;
 
 public final class ResponseExecutionInfo {
 
-    private static final Logger LOGGER = Logger.getLogger("jdk.httpclient.HttpClient");
     private final LinkedList<RequestResponseLogCollector> collectors = new LinkedList<>();
-    private HttpResponse<?> lastReceived;
+    private volatile HttpResponse<?> lastReceived;
+    private volatile HttpLogRouter.Route route;
+
+    /**
+     * Starts collecting of logs of the http client. Logs are not collected when they are not going to be captured.
+     *
+     * @param client is the http client which sends a request
+     */
+    void startExecutionLogging(HttpClient client) {
+        if (!catchSuccessEvent() && !catchFailureEvent()) {
+            return;
+        }
+
+        route = HttpLogRouter.startCollecting(client);
+        collectors.addLast(route.getCollector());
+    }
+
+    /**
+     * Starts collecting of logs of the http client for a request which is sent asynchronously.
+     * Logs are not collected when they are not going to be captured.
+     *
+     * @param client is the http client which sends a request
+     */
+    void startAsyncExecutionLogging(HttpClient client) {
+        if (!catchSuccessEvent() && !catchFailureEvent()) {
+            return;
+        }
 
-    void startExecutionLogging() {
-        var collector = new RequestResponseLogCollector();
-        collectors.addLast(collector);
-        LOGGER.addHandler(collector);
+        route = HttpLogRouter.startCollectingAsync(client);
+        collectors.addLast(route.getCollector());
     }
 
     public HttpResponse<?> getLastReceived() {
@@ -26,7 +52,11 @@ public final class ResponseExecutionInfo {
     }
 
     void stopExecutionLogging() {
-        LOGGER.removeHandler(collectors.getLast());
+        var r = route;
+        if (r != null) {
+            HttpLogRouter.stopCollecting(r);
+            route = null;
+        }
     }
 
     public List<RequestResponseLogCollector> getLogs() {
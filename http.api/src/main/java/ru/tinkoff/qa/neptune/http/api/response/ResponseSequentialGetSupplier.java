@@ -15,6 +15,8 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -49,8 +51,9 @@ public final class ResponseSequentialGetSupplier<T> extends SequentialGetStepSup
         super("Http Response", httpStepContext -> {
             try {
                 info.setLastReceived(null);
-                info.startExecutionLogging();
-                var received = httpStepContext.getCurrentClient().send(requestBuilder.build(), bodyHandler);
+                var client = httpStepContext.getCurrentClient();
+                info.startExecutionLogging(client);
+                var received = client.send(requestBuilder.build(), bodyHandler);
                 info.setLastReceived(received);
                 return received;
             } catch (Exception e) {
@@ -64,6 +67,24 @@ public final class ResponseSequentialGetSupplier<T> extends SequentialGetStepSup
 
     }
 
+    private ResponseSequentialGetSupplier(HttpRequest request,
+                                          CompletableFuture<HttpResponse<T>> sent,
+                                          ResponseExecutionInfo info) {
+        super("Http Response", httpStepContext -> {
+            try {
+                var received = sent.get();
+                info.setLastReceived(received);
+                return received;
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        this.request = request;
+        this.info = info;
+    }
+
     /**
      * Creates an instance that builds a step-function to send an http request and to receive a response
      * with body.
@@ -77,6 +98,22 @@ public final class ResponseSequentialGetSupplier<T> extends SequentialGetStepSup
         return new ResponseSequentialGetSupplier<>(requestBuilder, bodyHandler, new ResponseExecutionInfo());
     }
 
+    /**
+     * Creates an instance that builds a step-function to receive a response to a request which has been
+     * sent asynchronously already.
+     *
+     * @param request is a sent http request
+     * @param sent    is a response to be received
+     * @param info    is an info about sending of the request
+     * @param <T>     is a type of response body
+     * @return an instance of {@link ResponseSequentialGetSupplier}
+     */
+    static <T> ResponseSequentialGetSupplier<T> sentResponse(HttpRequest request,
+                                                             CompletableFuture<HttpResponse<T>> sent,
+                                                             ResponseExecutionInfo info) {
+        return new ResponseSequentialGetSupplier<>(request, sent, info);
+    }
+
     @Override
     protected ResponseSequentialGetSupplier<T> criteria(String description, Predicate<? super HttpResponse<T>> predicate) {
         return super.criteria(description, predicate);
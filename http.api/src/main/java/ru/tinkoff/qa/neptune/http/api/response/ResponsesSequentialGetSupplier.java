@@ -0,0 +1,164 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
+import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
+import ru.tinkoff.qa.neptune.http.api.HttpStepContext;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.valueOf;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.http.api.properties.async.HttpMaxAsyncRequestsProperty.HTTP_MAX_ASYNC_REQUESTS_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.response.AsyncRequests.sendAsync;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponseSequentialGetSupplier.sentResponse;
+
+/**
+ * Builds a step-function that sends a batch of http requests asynchronously and receives responses.
+ * Not more than the defined count of requests are sent at the same time.
+ * <p>
+ * Receiving of each response is a separate step. These steps are performed by the thread which performs
+ * the batch step. They are performed in the order of defined requests, so each response is reported
+ * and captured after the response to the previous request.
+ * </p>
+ *
+ * @param <T> is a type of response body
+ * @see HttpStepContext#responsesOf(ResponsesSequentialGetSupplier)
+ * @see ru.tinkoff.qa.neptune.http.api.properties.async.HttpMaxAsyncRequestsProperty
+ */
+@SequentialGetStepSupplier.DefaultParameterNames(
+        criteria = "Response criteria"
+)
+public final class ResponsesSequentialGetSupplier<T> extends SequentialGetStepSupplier
+        .GetIterableStepSupplier<HttpStepContext, List<HttpResponse<T>>, HttpResponse<T>, ResponsesSequentialGetSupplier<T>> {
+
+    private final ReceiveResponsesFunction<T> receiveResponses;
+
+    private ResponsesSequentialGetSupplier(ReceiveResponsesFunction<T> receiveResponses) {
+        super("Http Responses", receiveResponses);
+        this.receiveResponses = receiveResponses;
+    }
+
+    /**
+     * Creates an instance that builds a step-function to send a batch of http requests asynchronously
+     * and to receive responses with body.
+     *
+     * @param requestBuilders are builders of http requests
+     * @param bodyHandler     of response bodies
+     * @param <T>             is a type of response body
+     * @return an instance of {@link ResponsesSequentialGetSupplier}
+     */
+    public static <T> ResponsesSequentialGetSupplier<T> responses(Collection<RequestBuilder> requestBuilders,
+                                                                  HttpResponse.BodyHandler<T> bodyHandler) {
+        return new ResponsesSequentialGetSupplier<>(new ReceiveResponsesFunction<>(requestBuilders, bodyHandler));
+    }
+
+    /**
+     * Creates an instance that builds a step-function to send a batch of http requests asynchronously
+     * and to receive responses with body.
+     *
+     * @param bodyHandler     of response bodies
+     * @param requestBuilders are builders of http requests
+     * @param <T>             is a type of response body
+     * @return an instance of {@link ResponsesSequentialGetSupplier}
+     */
+    public static <T> ResponsesSequentialGetSupplier<T> responses(HttpResponse.BodyHandler<T> bodyHandler,
+                                                                  RequestBuilder... requestBuilders) {
+        return responses(asList(requestBuilders), bodyHandler);
+    }
+
+    /**
+     * Defines max count of requests which are sent at the same time.
+     *
+     * @param maxAsyncRequests is max count of requests which are sent at the same time. It should be greater than 0.
+     * @return self-reference
+     * @see ru.tinkoff.qa.neptune.http.api.properties.async.HttpMaxAsyncRequestsProperty
+     */
+    public ResponsesSequentialGetSupplier<T> maxAsyncRequests(int maxAsyncRequests) {
+        checkArgument(maxAsyncRequests > 0, "Max count of requests sent at the same time should be greater than 0");
+        receiveResponses.maxAsyncRequests = maxAsyncRequests;
+        return this;
+    }
+
+    /**
+     * Defines criteria for expected http responses. Responses which don't meet the criteria are not returned.
+     *
+     * @param criteria describes how to match http responses
+     * @return self-reference
+     */
+    @Override
+    public ResponsesSequentialGetSupplier<T> criteria(Criteria<? super HttpResponse<T>> criteria) {
+        return super.criteria(criteria);
+    }
+
+    /**
+     * Defines criteria for expected http responses. Responses which don't meet the criteria are not returned.
+     *
+     * @param description criteria description
+     * @param predicate   is how to match http responses
+     * @return self-reference
+     */
+    @Override
+    public ResponsesSequentialGetSupplier<T> criteria(String description, Predicate<? super HttpResponse<T>> predicate) {
+        return super.criteria(description, predicate);
+    }
+
+    @Override
+    public Map<String, String> getParameters() {
+        var p = super.getParameters();
+
+        var params = new LinkedHashMap<String, String>();
+        params.put("Count of requests", valueOf(receiveResponses.requestBuilders.size()));
+        params.put("Max count of requests sent at the same time", valueOf(receiveResponses.getMaxAsyncRequests()));
+        params.putAll(p);
+        return params;
+    }
+
+    private static final class ReceiveResponsesFunction<T> implements Function<HttpStepContext, List<HttpResponse<T>>> {
+
+        private final List<RequestBuilder> requestBuilders;
+        private final HttpResponse.BodyHandler<T> bodyHandler;
+        private Integer maxAsyncRequests;
+
+        private ReceiveResponsesFunction(Collection<RequestBuilder> requestBuilders,
+                                         HttpResponse.BodyHandler<T> bodyHandler) {
+            checkNotNull(requestBuilders);
+            checkNotNull(bodyHandler);
+            this.requestBuilders = List.copyOf(requestBuilders);
+            this.bodyHandler = bodyHandler;
+        }
+
+        private int getMaxAsyncRequests() {
+            return maxAsyncRequests != null ? maxAsyncRequests : HTTP_MAX_ASYNC_REQUESTS_PROPERTY.get();
+        }
+
+        @Override
+        public List<HttpResponse<T>> apply(HttpStepContext httpStepContext) {
+            var requests = requestBuilders.stream().map(RequestBuilder::build).collect(toList());
+            var sent = sendAsync(httpStepContext.getCurrentClient(), requests, bodyHandler, getMaxAsyncRequests());
+
+            var result = new ArrayList<HttpResponse<T>>(sent.size());
+            try {
+                for (int i = 0; i < sent.size(); i++) {
+                    result.add(sentResponse(sent.getRequest(i), sent.getResponse(i), sent.getInfo(i))
+                            .get()
+                            .apply(httpStepContext));
+                }
+            } catch (Throwable t) {
+                sent.cancel();
+                throw t;
+            }
+            return result;
+        }
+    }
+}
@@ -1,53 +1,53 @@
 package ru.tinkoff.qa.neptune.http.api.response.body.data;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static ru.tinkoff.qa.neptune.http.api.response.body.data.ReceivedBytes.charsetOf;
 
 /**
- * Deserializes string to object
+ * Deserializes received bytes to object
  *
- * @param <T> is a type of an object deserialized from string
+ * @param <T> is a type of an object deserialized from received bytes
  */
-@SuppressWarnings("unchecked")
-final class Deserialized<T> implements Function<String, T> {
+final class Deserialized<T> implements Function<InputStream, T> {
 
-    private final Object deserializeTo;
-    private final ObjectMapper mapper;
+    private final ObjectReader reader;
 
-    private Deserialized(Object deserializeTo, ObjectMapper mapper) {
-        checkNotNull(deserializeTo);
-        checkNotNull(mapper);
-        this.deserializeTo = deserializeTo;
-        this.mapper = mapper;
+    Deserialized(ObjectReader reader) {
+        checkNotNull(reader);
+        this.reader = reader;
     }
 
     public Deserialized(Class<T> deserializeTo, ObjectMapper mapper) {
-        this((Object) deserializeTo, mapper);
+        this(checkNotNull(mapper).readerFor(checkNotNull(deserializeTo)));
     }
 
     public Deserialized(TypeReference<T> deserializeTo, ObjectMapper mapper) {
-        this((Object) deserializeTo, mapper);
+        this(checkNotNull(mapper).readerFor(checkNotNull(deserializeTo)));
     }
 
     @Override
-    public T apply(String s) {
-        try {
-            if (isNotBlank(s)) {
-                if (deserializeTo instanceof Class<?>) {
-                    return mapper.readValue(s, (Class<T>) deserializeTo);
-                } else {
-                    return mapper.readValue(s, (TypeReference<T>) deserializeTo);
+    public T apply(InputStream s) {
+        try (s) {
+            if (s.available() > 0) {
+                var charset = charsetOf(s);
+                if (charset == null || UTF_8.equals(charset)) {
+                    return reader.readValue(s);
                 }
+                return reader.readValue(new InputStreamReader(s, charset));
             } else {
                 return null;
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             e.printStackTrace();
             return null;
         }
@@ -2,16 +2,19 @@ package ru.tinkoff.qa.neptune.http.api.response.body.data;
 
 import org.jsoup.nodes.Document;
 
+import java.io.InputStream;
 import java.util.function.Function;
 
 import static org.jsoup.Jsoup.parse;
+import static ru.tinkoff.qa.neptune.http.api.response.body.data.ReceivedBytes.charsetOf;
 
-final class JSoupDocument implements Function<String, Document> {
+final class JSoupDocument implements Function<InputStream, Document> {
 
     @Override
-    public Document apply(String s) {
-        try {
-            return parse(s);
+    public Document apply(InputStream s) {
+        var charset = charsetOf(s);
+        try (s) {
+            return parse(s, charset == null ? null : charset.name(), "");
         } catch (Throwable t) {
             t.printStackTrace();
             return null;
@@ -4,11 +4,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import javax.xml.parsers.DocumentBuilder;
+import java.io.InputStream;
 import java.net.http.HttpResponse;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.net.http.HttpResponse.BodySubscribers.fromSubscriber;
 import static java.net.http.HttpResponse.BodySubscribers.mapping;
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.XML;
@@ -41,36 +42,48 @@ public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
     }
 
 
-    public static <T> MappedBodyHandler<String, T> deserialized(Class<T> toReturn, ObjectMapper mapper) {
-        return mapped(ofString(), new Deserialized<>(toReturn, mapper));
+    /**
+     * Creates a body handler that collects received bytes of a response body. These bytes are read
+     * by a mapping function as an {@link InputStream} when the body is received completely. They are neither
+     * joined into one array nor decoded into a string. Charset defined by the {@code Content-Type} header
+     * is taken into account by mapping functions of this class.
+     *
+     * @return a new body handler
+     */
+    private static HttpResponse.BodyHandler<InputStream> receivedBytes() {
+        return responseInfo -> fromSubscriber(new ReceivedBytes(responseInfo.headers()), ReceivedBytes::toInputStream);
+    }
+
+    public static <T> MappedBodyHandler<InputStream, T> deserialized(Class<T> toReturn, ObjectMapper mapper) {
+        return mapped(receivedBytes(), new Deserialized<>(toReturn, mapper));
     }
 
-    public static <T> MappedBodyHandler<String, T> deserialized(TypeReference<T> toReturn, ObjectMapper mapper) {
-        return mapped(ofString(), new Deserialized<>(toReturn, mapper));
+    public static <T> MappedBodyHandler<InputStream, T> deserialized(TypeReference<T> toReturn, ObjectMapper mapper) {
+        return mapped(receivedBytes(), new Deserialized<>(toReturn, mapper));
     }
 
-    public static <T> MappedBodyHandler<String, T> json(Class<T> toReturn) {
-        return deserialized(toReturn, JSON.getMapper());
+    public static <T> MappedBodyHandler<InputStream, T> json(Class<T> toReturn) {
+        return mapped(receivedBytes(), new Deserialized<>(JSON.getReader(toReturn)));
     }
 
-    public static <T> MappedBodyHandler<String, T> json(TypeReference<T> toReturn) {
-        return deserialized(toReturn, JSON.getMapper());
+    public static <T> MappedBodyHandler<InputStream, T> json(TypeReference<T> toReturn) {
+        return mapped(receivedBytes(), new Deserialized<>(JSON.getReader(toReturn)));
     }
 
-    public static <T> MappedBodyHandler<String, T> xml(Class<T> toReturn) {
-        return deserialized(toReturn, XML.getMapper());
+    public static <T> MappedBodyHandler<InputStream, T> xml(Class<T> toReturn) {
+        return mapped(receivedBytes(), new Deserialized<>(XML.getReader(toReturn)));
     }
 
-    public static <T> MappedBodyHandler<String, T> xml(TypeReference<T> toReturn) {
-        return deserialized(toReturn, XML.getMapper());
+    public static <T> MappedBodyHandler<InputStream, T> xml(TypeReference<T> toReturn) {
+        return mapped(receivedBytes(), new Deserialized<>(XML.getReader(toReturn)));
     }
 
-    public static MappedBodyHandler<String, org.w3c.dom.Document> w3cDocument() {
-        return mapped(ofString(), new W3CDocument());
+    public static MappedBodyHandler<InputStream, org.w3c.dom.Document> w3cDocument() {
+        return mapped(receivedBytes(), new W3CDocument());
     }
 
-    public static MappedBodyHandler<String, org.w3c.dom.Document> w3cDocument(DocumentBuilder documentBuilder) {
-        return mapped(ofString(), new W3CDocument(documentBuilder));
+    public static MappedBodyHandler<InputStream, org.w3c.dom.Document> w3cDocument(DocumentBuilder documentBuilder) {
+        return mapped(receivedBytes(), new W3CDocument(documentBuilder));
     }
 
     /**
@@ -79,8 +92,8 @@ public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
      *
      * @return a new {@link MappedBodyHandler}
      */
-    public static MappedBodyHandler<String, org.jsoup.nodes.Document> jsoupDocument() {
-        return mapped(ofString(), new JSoupDocument());
+    public static MappedBodyHandler<InputStream, org.jsoup.nodes.Document> jsoupDocument() {
+        return mapped(receivedBytes(), new JSoupDocument());
     }
 
 
@@ -0,0 +1,139 @@
+package ru.tinkoff.qa.neptune.http.api.response.body.data;
+
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static java.lang.Math.min;
+
+/**
+ * Collects byte buffers of a response body as they are received. The body is read from these buffers
+ * then. They are not joined into one array and they are not decoded into a string. Each buffer is released
+ * as soon as it is read.
+ */
+final class ReceivedBytes implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private final ArrayDeque<ByteBuffer> received = new ArrayDeque<>();
+    private final Charset charset;
+
+    ReceivedBytes(HttpHeaders headers) {
+        this.charset = charsetOf(headers);
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        var contentType = headers.firstValue("Content-Type").orElse(null);
+        if (contentType == null) {
+            return null;
+        }
+
+        for (var parameter : contentType.split(";")) {
+            var p = parameter.trim();
+            if (p.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(p.substring(8).replace("\"", "").trim());
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the charset that is defined by the {@code Content-Type} header of a response.
+     *
+     * @param body is a response body
+     * @return the charset defined by the {@code Content-Type} header. {@code null} is returned when the charset
+     * is not defined.
+     */
+    static Charset charsetOf(InputStream body) {
+        return body instanceof BytesInputStream ? ((BytesInputStream) body).charset : null;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+        for (var b : item) {
+            if (b.hasRemaining()) {
+                received.add(b);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        received.clear();
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    InputStream toInputStream() {
+        return new BytesInputStream(received, charset);
+    }
+
+    private static final class BytesInputStream extends InputStream {
+
+        private final ArrayDeque<ByteBuffer> buffers;
+        private final Charset charset;
+
+        private BytesInputStream(ArrayDeque<ByteBuffer> buffers, Charset charset) {
+            this.buffers = buffers;
+            this.charset = charset;
+        }
+
+        private ByteBuffer current() {
+            var b = buffers.peek();
+            while (b != null && !b.hasRemaining()) {
+                buffers.poll();
+                b = buffers.peek();
+            }
+            return b;
+        }
+
+        @Override
+        public int read() {
+            var b = current();
+            return b == null ? -1 : b.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            var b = current();
+            if (b == null) {
+                return -1;
+            }
+
+            var read = min(len, b.remaining());
+            b.get(bytes, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            var result = 0L;
+            for (var b : buffers) {
+                result += b.remaining();
+            }
+            return (int) min(result, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void close() {
+            buffers.clear();
+        }
+    }
+}
@@ -6,10 +6,12 @@ import org.xml.sax.InputSource;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import java.io.StringReader;
+import java.io.InputStream;
 import java.util.function.Function;
 
-final class W3CDocument implements Function<String, Document> {
+import static ru.tinkoff.qa.neptune.http.api.response.body.data.ReceivedBytes.charsetOf;
+
+final class W3CDocument implements Function<InputStream, Document> {
 
     private final DocumentBuilder documentBuilder;
 
@@ -30,9 +32,14 @@ final class W3CDocument implements Function<String, Document> {
     }
 
     @Override
-    public Document apply(String s) {
-        var inputSource = new InputSource(new StringReader(s));
-        try {
+    public Document apply(InputStream s) {
+        var inputSource = new InputSource(s);
+        var charset = charsetOf(s);
+        if (charset != null) {
+            inputSource.setEncoding(charset.name());
+        }
+
+        try (s) {
             return documentBuilder.parse(inputSource);
         } catch (Throwable t) {
             t.printStackTrace();
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.http.api.service.mapping;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.properties.url.URLValuePropertySupplier;
 import ru.tinkoff.qa.neptune.http.api.request.RequestTuner;
 
@@ -19,6 +18,7 @@ import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ArrayUtils.contains;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
 import static ru.tinkoff.qa.neptune.http.api.properties.end.point.DefaultEndPointOfTargetAPIProperty.DEFAULT_END_POINT_OF_TARGET_API_PROPERTY;
 
 /**
@@ -53,15 +53,10 @@ public @interface APIUses {
 
     class UsedByAPIReader {
 
-        private static final List<Class<URLValuePropertySupplier>> URL_PROPERTIES = new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(URLValuePropertySupplier.class.getName())
-                .loadClasses(URLValuePropertySupplier.class);
+        private static final List<Class<? extends URLValuePropertySupplier>> URL_PROPERTIES =
+                getSubclasses(URLValuePropertySupplier.class);
 
-        private static final List<Class<RequestTuner>> REQUEST_TUNERS = new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(RequestTuner.class.getName())
-                .loadClasses(RequestTuner.class);
+        private static final List<Class<? extends RequestTuner>> REQUEST_TUNERS = getSubclasses(RequestTuner.class);
 
         @SuppressWarnings("unchecked")
         static URLValuePropertySupplier getDefaultURLProperty(Class<? extends HttpAPI<?>> toBindWith) {
@@ -142,7 +137,7 @@ public @interface APIUses {
                     .orElse(DEFAULT_END_POINT_OF_TARGET_API_PROPERTY);
         }
 
-        static List<Class<RequestTuner>> getRequestTuners(Class<? extends HttpAPI<?>> toBindWith) {
+        static List<Class<? extends RequestTuner>> getRequestTuners(Class<? extends HttpAPI<?>> toBindWith) {
             return REQUEST_TUNERS
                     .stream()
                     .filter(c -> {
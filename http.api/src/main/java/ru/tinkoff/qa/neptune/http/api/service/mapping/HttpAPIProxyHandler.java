@@ -2,26 +2,37 @@ package ru.tinkoff.qa.neptune.http.api.service.mapping;
 
 import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
 import ru.tinkoff.qa.neptune.http.api.request.RequestTuner;
+import ru.tinkoff.qa.neptune.http.api.request.body.RequestBody;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.form.ReadFormParameter;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.lang.invoke.MethodHandles.privateLookupIn;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Arrays.asList;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPIProxyHandler.InvocationKind.*;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.APIUses.UsedByAPIReader.getRequestTuners;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.Header.HeaderReader.readHeaders;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod.HttpMethodFactory.createRequestBuilder;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.body.BodyParameterAnnotationReader.readBodies;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathParameterReader.readPathParameters;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.body.BodyParameterAnnotationReader.compileBodies;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.header.HeaderParameter.HeaderParameterReader.compileHeaderParameters;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathParameterReader.compilePathParameters;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.query.QueryParameter.QueryParameterReader.compileQueryParameters;
 
 class HttpAPIProxyHandler implements InvocationHandler {
 
     private static final String USE_FOR_REQUEST_BUILDING = "useForRequestBuilding";
+    private static final MethodCache<InvokedMethod> INVOKED_METHODS = new MethodCache<>(InvokedMethod::new);
 
     private final List<Object> requestTuners = new LinkedList<>();
     private final URI rootURI;
@@ -35,65 +46,150 @@ class HttpAPIProxyHandler implements InvocationHandler {
     @Override
     @SuppressWarnings("unchecked")
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        var invoked = INVOKED_METHODS.get(method);
 
-        method.setAccessible(true);
-
-        var paramTypes = method.getParameterTypes();
-        if (USE_FOR_REQUEST_BUILDING.equals(method.getName()) &&
-                paramTypes.length == 1
-                && (paramTypes[0].equals(RequestTuner[].class) || (paramTypes[0].equals(Class.class)))) {
-            if (RequestTuner[].class.isAssignableFrom(paramTypes[0])) {
+        switch (invoked.kind) {
+            case ADD_TUNERS:
                 requestTuners.addAll(asList((RequestTuner[]) args[0]));
-            } else {
+                return proxy;
+
+            case ADD_TUNER_CLASS:
                 requestTuners.add(args[0]);
-            }
-            return proxy;
+                return proxy;
+
+            case TO_STRING:
+                return method.getDeclaringClass().getSimpleName() + " base URI " + rootURI;
+
+            case DEFAULT_METHOD:
+                return (Object) invoked.defaultMethod.invokeExact(proxy, args);
+
+            case REQUEST_BUILDING:
+                var path = invoked.path.apply(args);
+                var body = invoked.body.apply(args);
+                var request = createRequestBuilder(method, rootURI, path, body);
+
+                request.tuneWith(new ProxyRequestTuner(invoked.headers,
+                        invoked.queryParameters,
+                        invoked.headerParameters,
+                        args));
+                requestTuners.forEach(o -> {
+                    var cls = o.getClass();
+                    if (RequestTuner.class.isAssignableFrom(cls)) {
+                        request.tuneWith((RequestTuner) o);
+                    } else if (Class.class.isAssignableFrom(cls)) {
+                        request.tuneWith((Class<RequestTuner>) o);
+                    }
+                });
+
+                return request;
+
+            case OBJECT_METHOD:
+                return invoked.objectMethod.invoke(this, args);
+
+            default:
+                throw new UnsupportedOperationException(format("Only methods that return %s " +
+                                ", default methods and methods declared by %s are supported. Method %s is not supported",
+                        RequestBuilder.class.getName(),
+                        Object.class.getName(),
+                        method));
         }
+    }
 
-        if ("toString".equals(method.getName()) && method.getParameterTypes().length == 0) {
-            return method.getDeclaringClass().getSimpleName() + " base URI " + rootURI;
-        }
+    enum InvocationKind {
+        ADD_TUNERS,
+        ADD_TUNER_CLASS,
+        TO_STRING,
+        DEFAULT_METHOD,
+        REQUEST_BUILDING,
+        OBJECT_METHOD,
+        NOT_SUPPORTED
+    }
 
-        if (RequestBuilder.class.isAssignableFrom(method.getReturnType())) {
+    /**
+     * Describes how to invoke a method of {@link HttpAPI}. It is created once for each method.
+     */
+    private static final class InvokedMethod {
+
+        private final InvocationKind kind;
+        /**
+         * A handle that invokes a default method. It takes a proxy and an array of arguments.
+         */
+        private final MethodHandle defaultMethod;
+        private final Method objectMethod;
+        /**
+         * Functions which read parameters of an invocation when a request is built. Annotations of the method
+         * and its parameters are read once, when these functions are created.
+         */
+        private final Function<Object[], String> path;
+        private final Function<Object[], RequestBody<?>> body;
+        private final Map<String, List<String>> headers;
+        private final Function<Object[], List<ReadFormParameter>> queryParameters;
+        private final Function<Object[], Map<String, List<String>>> headerParameters;
+
+        private InvokedMethod(Method method) {
+            method.setAccessible(true);
+            MethodHandle defaultMethod = null;
+            Method objectMethod = null;
+            Function<Object[], String> path = null;
+            Function<Object[], RequestBody<?>> body = null;
+            Map<String, List<String>> headers = null;
+            Function<Object[], List<ReadFormParameter>> queryParameters = null;
+            Function<Object[], Map<String, List<String>>> headerParameters = null;
+
+            var paramTypes = method.getParameterTypes();
+            if (USE_FOR_REQUEST_BUILDING.equals(method.getName()) &&
+                    paramTypes.length == 1
+                    && (paramTypes[0].equals(RequestTuner[].class) || (paramTypes[0].equals(Class.class)))) {
+                kind = RequestTuner[].class.isAssignableFrom(paramTypes[0]) ? ADD_TUNERS : ADD_TUNER_CLASS;
+            } else if ("toString".equals(method.getName()) && paramTypes.length == 0) {
+                kind = TO_STRING;
+            } else if (RequestBuilder.class.isAssignableFrom(method.getReturnType())) {
+                if (method.isDefault()) {
+                    kind = DEFAULT_METHOD;
+                    defaultMethod = getDefaultMethodHandle(method);
+                } else {
+                    kind = REQUEST_BUILDING;
+                    path = compilePathParameters(method);
+                    body = compileBodies(method);
+                    headers = readHeaders(method);
+                    queryParameters = compileQueryParameters(method);
+                    headerParameters = compileHeaderParameters(method);
+                }
+            } else {
+                objectMethod = getObjectMethod(method);
+                kind = objectMethod != null ? OBJECT_METHOD : NOT_SUPPORTED;
+            }
+
+            this.defaultMethod = defaultMethod;
+            this.objectMethod = objectMethod;
+            this.path = path;
+            this.body = body;
+            this.headers = headers;
+            this.queryParameters = queryParameters;
+            this.headerParameters = headerParameters;
+        }
 
-            if (method.isDefault()) {
-                Class<?> declaringClass = method.getDeclaringClass();
+        private static MethodHandle getDefaultMethodHandle(Method method) {
+            Class<?> declaringClass = method.getDeclaringClass();
+            try {
                 return privateLookupIn(declaringClass, lookup())
                         .in(declaringClass)
                         .unreflectSpecial(method, declaringClass)
-                        .bindTo(proxy)
-                        .invokeWithArguments(args);
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(methodType(Object.class, Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
             }
-
-            var path = readPathParameters(method, args);
-            var body = readBodies(method, args);
-            var request = createRequestBuilder(method, rootURI, path, body);
-
-            request.tuneWith(new ProxyRequestTuner(method, args));
-            requestTuners.forEach(o -> {
-                var cls = o.getClass();
-                if (RequestTuner.class.isAssignableFrom(cls)) {
-                    request.tuneWith((RequestTuner) o);
-                } else if (Class.class.isAssignableFrom(cls)) {
-                    request.tuneWith((Class<RequestTuner>) o);
-                }
-            });
-
-            return request;
         }
 
-        Method m;
-        try {
-            m = Object.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
-        } catch (Exception e) {
-            throw new UnsupportedOperationException(format("Only methods that return %s " +
-                            ", default methods and methods declared by %s are supported. Method %s is not supported",
-                    RequestBuilder.class.getName(),
-                    Object.class.getName(),
-                    method));
+        private static Method getObjectMethod(Method method) {
+            try {
+                var m = Object.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                m.setAccessible(true);
+                return m;
+            } catch (Exception e) {
+                return null;
+            }
         }
-
-        m.setAccessible(true);
-        return m.invoke(this, args);
     }
 }
@@ -0,0 +1,46 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Keeps values which are computed once for each method of an {@link HttpAPI} interface. Annotations
+ * of the method and its parameters are read when the value is computed. Values are kept as long as
+ * the class that declares the method is alive.
+ *
+ * @param <T> is a type of kept values
+ */
+final class MethodCache<T> {
+
+    private final ClassValue<ConcurrentHashMap<Method, T>> values = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<Method, T> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Function<Method, T> compute;
+
+    /**
+     * Creates a cache of values.
+     *
+     * @param compute computes a value for a method. It should not return {@code null}
+     */
+    MethodCache(Function<Method, T> compute) {
+        checkNotNull(compute);
+        this.compute = compute;
+    }
+
+    /**
+     * Returns the value computed for the method. The value is computed once.
+     *
+     * @param method is a method to get the value for
+     * @return the computed value
+     */
+    T get(Method method) {
+        return values.get(method.getDeclaringClass()).computeIfAbsent(method, compute);
+    }
+}
@@ -2,29 +2,35 @@ package ru.tinkoff.qa.neptune.http.api.service.mapping;
 
 import ru.tinkoff.qa.neptune.http.api.request.RequestSettings;
 import ru.tinkoff.qa.neptune.http.api.request.RequestTuner;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.form.ReadFormParameter;
 
-import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.Header.HeaderReader.readHeaders;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.header.HeaderParameter.HeaderParameterReader.readHeaderParameters;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.query.QueryParameter.QueryParameterReader.readQueryParameters;
 
 class ProxyRequestTuner implements RequestTuner {
 
-    private final Method method;
+    private final Map<String, List<String>> headers;
+    private final Function<Object[], List<ReadFormParameter>> queryParameters;
+    private final Function<Object[], Map<String, List<String>>> headerParameters;
     private final Object[] invocationParams;
 
-    ProxyRequestTuner(Method method, Object[] invocationParams) {
-        this.method = method;
+    ProxyRequestTuner(Map<String, List<String>> headers,
+                      Function<Object[], List<ReadFormParameter>> queryParameters,
+                      Function<Object[], Map<String, List<String>>> headerParameters,
+                      Object[] invocationParams) {
+        this.headers = headers;
+        this.queryParameters = queryParameters;
+        this.headerParameters = headerParameters;
         this.invocationParams = invocationParams;
     }
 
     @Override
     public void setUp(RequestSettings<?> requestSettings) {
-        var headers = readHeaders(method);
-        var queryParams = readQueryParameters(method, invocationParams);
-        var headerParams = readHeaderParameters(method, invocationParams);
+        var queryParams = queryParameters.apply(invocationParams);
+        var headerParams = headerParameters.apply(invocationParams);
 
         ofNullable(headers).ifPresent(m -> m
                 .forEach((s, strings) -> requestSettings.header(s, strings.toArray(new String[]{})))
@@ -8,6 +8,7 @@ import java.lang.reflect.Parameter;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -45,24 +46,38 @@ public final class ParameterUtil {
     public static <T, R> T getFromMethod(Method m, Class<R> annotationToFind,
                                          Object[] invocationParams,
                                          BiFunction<Parameter[], Object[], T> howToGet) {
-        var params = new Parameter[]{};
-        var methodParams = m.getParameters();
-        var values = new Object[]{};
-
-        var annotations = m.getParameterAnnotations();
-        for (var i = 0; i < annotations.length; i++) {
-            var annotationsOfParam = annotations[i];
-            if (stream(annotationsOfParam)
-                    .anyMatch(a -> nonNull(a) && annotationToFind.isAssignableFrom(a.annotationType()))) {
-                params = add(params, methodParams[i]);
-                values = add(values, invocationParams[i]);
-            }
-        }
+        return fromMethod(m, annotationToFind, howToGet).apply(invocationParams);
+    }
 
-        if (params.length > 0) {
-            return howToGet.apply(params, values);
+    /**
+     * Finds parameters of a {@link Method} which are annotated by some annotation and returns a function
+     * that gets desired object using values of parameters of an invocation of the method. Parameters are found once,
+     * so the function may be applied to invocations of the method many times.
+     *
+     * @param m                is a method of {@link HttpAPI}
+     * @param annotationToFind is type of annotation that is expected to mark any parameters of the method
+     * @param howToGet         is a bi-function that describes how to get desired result. Here {@code Parameter[]}
+     *                         is an array of parameters annotated by {@code annotationToFind} and {@code Object[]}
+     *                         is an array of corresponding objects taken from parameters of the invocation
+     * @param <T>              is a type of resulted objects
+     * @param <R>              is type of annotation that is expected to mark parameters of the method
+     * @return a function that takes an array of parameters of an invocation of the method. It returns {@code T}
+     * if there are parameters annotated by {@code annotationToFind}. {@code null} is returned otherwise.
+     */
+    public static <T, R> Function<Object[], T> fromMethod(Method m, Class<R> annotationToFind,
+                                                          BiFunction<Parameter[], Object[], T> howToGet) {
+        var annotated = new AnnotatedParameters(m, annotationToFind);
+        if (annotated.indexes.length == 0) {
+            return invocationParams -> null;
         }
-        return null;
+
+        return invocationParams -> {
+            var values = new Object[annotated.indexes.length];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = invocationParams[annotated.indexes[i]];
+            }
+            return howToGet.apply(annotated.params.clone(), values);
+        };
     }
 
     /**
@@ -106,4 +121,29 @@ public final class ParameterUtil {
                 .map(s -> s.filter(Objects::nonNull))
                 .orElse(null);
     }
+
+    private static final class AnnotatedParameters {
+
+        private final Parameter[] params;
+        private final int[] indexes;
+
+        private AnnotatedParameters(Method m, Class<?> annotationToFind) {
+            var params = new Parameter[]{};
+            var indexes = new int[]{};
+            var methodParams = m.getParameters();
+
+            var annotations = m.getParameterAnnotations();
+            for (var i = 0; i < annotations.length; i++) {
+                var annotationsOfParam = annotations[i];
+                if (stream(annotationsOfParam)
+                        .anyMatch(a -> nonNull(a) && annotationToFind.isAssignableFrom(a.annotationType()))) {
+                    params = add(params, methodParams[i]);
+                    indexes = add(indexes, i);
+                }
+            }
+
+            this.params = params;
+            this.indexes = indexes;
+        }
+    }
 }
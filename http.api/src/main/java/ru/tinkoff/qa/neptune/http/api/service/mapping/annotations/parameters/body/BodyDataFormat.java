@@ -29,9 +29,11 @@ public enum BodyDataFormat {
             return ofNullable(object)
                     .map(o -> {
                         try {
-                            var copy = DefaultMapper.XML
-                                    .getMapper()
-                                    .copy();
+                            if (mixIns.length == 0) {
+                                return DefaultMapper.XML.getWriter().writeValueAsString(o);
+                            }
+
+                            var copy = DefaultMapper.XML.getMapper();
 
                             stream(mixIns).forEach(aClass -> copy.addMixIn(object.getClass(), aClass));
                             return copy.writeValueAsString(o);
@@ -52,9 +54,11 @@ public enum BodyDataFormat {
             return ofNullable(object)
                     .map(o -> {
                         try {
-                            var copy = DefaultMapper.JSON
-                                    .getMapper()
-                                    .copy();
+                            if (mixIns.length == 0) {
+                                return DefaultMapper.JSON.getWriter().writeValueAsString(o);
+                            }
+
+                            var copy = DefaultMapper.JSON.getMapper();
 
                             stream(mixIns).forEach(aClass -> copy.addMixIn(object.getClass(), aClass));
                             return copy.writeValueAsString(o);
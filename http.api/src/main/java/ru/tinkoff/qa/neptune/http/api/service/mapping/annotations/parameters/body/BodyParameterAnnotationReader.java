@@ -17,6 +17,7 @@ import java.lang.reflect.Parameter;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
@@ -29,6 +30,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static ru.tinkoff.qa.neptune.http.api.request.body.RequestBodyFactory.body;
 import static ru.tinkoff.qa.neptune.http.api.request.body.multipart.BodyPart.bodyPart;
 import static ru.tinkoff.qa.neptune.http.api.request.body.url.encoded.FormParameter.formParameter;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.fromMethod;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.getFromMethod;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.body.BodyDataFormat.NONE;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.form.FormStyles.FORM;
@@ -52,19 +54,31 @@ public final class BodyParameterAnnotationReader {
      * @return a request body
      */
     public static RequestBody<?> readBodies(Method toRead, Object[] parameters) {
-        return ofNullable(validateAndGetBodyStrategy(toRead, parameters))
-                .map(aClass -> {
-                    if (Body.class.isAssignableFrom(aClass)) {
-                        return getBody(toRead, parameters);
-                    }
+        return compileBodies(toRead).apply(parameters);
+    }
 
-                    if (URLEncodedParameter.class.isAssignableFrom(aClass)) {
-                        return getForm(toRead, parameters);
-                    }
+    /**
+     * Reads parameters of a {@link java.lang.reflect.Method} once and returns a function that creates an object of
+     * {@link ru.tinkoff.qa.neptune.http.api.request.body.RequestBody} by parameters of an invocation of the method.
+     *
+     * @param toRead is a method to be read
+     * @return a function that takes parameters of an invocation of the method and returns a request body
+     */
+    public static Function<Object[], RequestBody<?>> compileBodies(Method toRead) {
+        var strategy = validateAndGetBodyStrategy(toRead);
+        if (strategy == null) {
+            return parameters -> null;
+        }
+
+        if (Body.class.isAssignableFrom(strategy)) {
+            return getBody(toRead);
+        }
+
+        if (URLEncodedParameter.class.isAssignableFrom(strategy)) {
+            return getForm(toRead);
+        }
 
-                    return getMultipartBody(toRead, parameters);
-                })
-                .orElse(null);
+        return getMultipartBody(toRead);
     }
 
     private static Object formatObject(Object o, Parameter p) {
@@ -82,10 +96,9 @@ public final class BodyParameterAnnotationReader {
     }
 
     @SuppressWarnings("unchecked")
-    private static RequestBody<?> getBody(Method toRead, Object[] parameters) {
-        return getFromMethod(toRead,
+    private static Function<Object[], RequestBody<?>> getBody(Method toRead) {
+        return fromMethod(toRead,
                 Body.class,
-                parameters,
                 (ps, params) -> {
                     var a = ps[0].getAnnotation(Body.class);
                     return ofNullable(params[0])
@@ -159,10 +172,9 @@ public final class BodyParameterAnnotationReader {
                 });
     }
 
-    private static RequestBody<?> getForm(Method toRead, Object[] parameters) {
-        return getFromMethod(toRead,
+    private static Function<Object[], RequestBody<?>> getForm(Method toRead) {
+        return fromMethod(toRead,
                 URLEncodedParameter.class,
-                parameters,
                 (ps, params) -> {
                     var form = new LinkedList<FormParameter>();
 
@@ -242,10 +254,9 @@ public final class BodyParameterAnnotationReader {
         }
     }
 
-    private static RequestBody<?> getMultipartBody(Method toRead, Object[] parameters) {
-        return getFromMethod(toRead,
+    private static Function<Object[], RequestBody<?>> getMultipartBody(Method toRead) {
+        return fromMethod(toRead,
                 MultiPartBody.class,
-                parameters,
                 (ps, params) -> {
                     var partList = new ArrayList<BodyPart>();
 
@@ -362,7 +373,8 @@ public final class BodyParameterAnnotationReader {
                 });
     }
 
-    private static Class<? extends Annotation> validateAndGetBodyStrategy(Method m, Object[] parameterValues) {
+    private static Class<? extends Annotation> validateAndGetBodyStrategy(Method m) {
+        var parameterValues = new Object[m.getParameterCount()];
         var bodies = getFromMethod(m,
                 Body.class,
                 parameterValues, (ps, ignored) -> ps);
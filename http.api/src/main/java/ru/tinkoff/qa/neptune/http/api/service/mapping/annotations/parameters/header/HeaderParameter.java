@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static java.lang.String.*;
 import static java.lang.annotation.ElementType.PARAMETER;
@@ -78,9 +79,20 @@ public @interface HeaderParameter {
          * @return a map where keys are names of http headers and values are values of headers
          */
         public static Map<String, List<String>> readHeaderParameters(Method toRead, Object[] parameters) {
-            return getFromMethod(toRead,
+            return compileHeaderParameters(toRead).apply(parameters);
+        }
+
+        /**
+         * Reads parameters of a {@link java.lang.reflect.Method} once and returns a function that forms a map
+         * of http headers by parameters of an invocation of the method.
+         *
+         * @param toRead is a method to be read
+         * @return a function that takes parameters of an invocation of the method and returns a map where keys
+         * are names of http headers and values are values of headers
+         */
+        public static Function<Object[], Map<String, List<String>>> compileHeaderParameters(Method toRead) {
+            return fromMethod(toRead,
                     HeaderParameter.class,
-                    parameters,
                     (ps, params) -> {
                         var map = new HashMap<String, List<String>>();
 
@@ -10,6 +10,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import static com.google.common.collect.ImmutableList.of;
 import static java.lang.String.format;
@@ -20,7 +21,7 @@ import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.*;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.getFromMethod;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.fromMethod;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathStyles.SIMPLE;
 
 /**
@@ -148,15 +149,26 @@ public @interface PathParameter {
          * @return string URI-path to requested endpoint.
          */
         public static String readPathParameters(Method toRead, Object[] parameters) {
-            var pattern = validatePathMappingAndGetPattern(toRead);
+            return compilePathParameters(toRead).apply(parameters);
+        }
 
+        /**
+         * Validates and parses URI-path pattern of a {@link java.lang.reflect.Method} once and returns a function
+         * that creates URI-path to requested endpoint by parameters of an invocation of the method.
+         *
+         * @param toRead is a method to be read
+         * @return a function that takes parameters of an invocation of the method and returns string URI-path
+         * to requested endpoint.
+         */
+        public static Function<Object[], String> compilePathParameters(Method toRead) {
+            var pattern = validatePathMappingAndGetPattern(toRead);
             if (pattern == null) {
-                return null;
+                return parameters -> null;
             }
 
-            return ofNullable(getFromMethod(toRead,
+            var template = new PathTemplate(pattern);
+            Function<Object[], Map<String, String>> values = fromMethod(toRead,
                     PathParameter.class,
-                    parameters,
                     (ps, params) -> {
                         var map = new HashMap<String, String>();
                         for (int i = 0; i < ps.length; i++) {
@@ -177,23 +189,11 @@ public @interface PathParameter {
                                                 return EMPTY;
                                             }));
                         }
+                        return map;
+                    });
 
-                        var result = pattern;
-                        for (var e : map.entrySet()) {
-                            var s = e.getKey();
-                            var s2 = e.getValue();
-                            result = result.replace("{" + s + "}", s2);
-                        }
-
-
-                        result = result.replace("//", "/");
-
-                        if (result.startsWith("/")) {
-                            return result.substring(1);
-                        }
-
-                        return result;
-                    }))
+            return parameters -> ofNullable(values.apply(parameters))
+                    .map(template::fill)
                     .orElse(pattern);
         }
     }
@@ -0,0 +1,76 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * URI-path pattern which is parsed once. Values of path variables are joined into it.
+ */
+final class PathTemplate {
+
+    /**
+     * Parts of the pattern. Items with even indexes are constant parts. Items with odd indexes are names of
+     * path variables.
+     */
+    private final String[] parts;
+
+    PathTemplate(String pattern) {
+        parts = parse(pattern);
+    }
+
+    /**
+     * Splits a pattern into constant parts and names of path variables. A name is a string between
+     * a {@code '{'} and the next {@code '}'}. A {@code '{'} that is not closed is a constant part.
+     *
+     * @param pattern is a pattern to parse
+     * @return parts of the pattern. Items with even indexes are constant parts. Items with odd indexes are names of
+     * path variables.
+     */
+    static String[] parse(String pattern) {
+        var result = new ArrayList<String>();
+        var constant = new StringBuilder();
+        var i = 0;
+        while (i < pattern.length()) {
+            var start = pattern.indexOf('{', i);
+            var end = start < 0 ? -1 : pattern.indexOf('}', start + 1);
+            if (end < 0) {
+                constant.append(pattern, i, pattern.length());
+                break;
+            }
+
+            constant.append(pattern, i, start);
+            result.add(constant.toString());
+            result.add(pattern.substring(start + 1, end));
+            constant.setLength(0);
+            i = end + 1;
+        }
+        result.add(constant.toString());
+        return result.toArray(new String[]{});
+    }
+
+    /**
+     * Joins values of path variables into the pattern. Values are inserted as is, they are not parsed again.
+     *
+     * @param values are values of path variables mapped by names
+     * @return URI-path. A variable which has no value stays in the path as {@code {name}}.
+     */
+    String fill(Map<String, String> values) {
+        var builder = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i % 2 == 0) {
+                builder.append(parts[i]);
+            } else {
+                var value = values.get(parts[i]);
+                builder.append(value != null ? value : "{" + parts[i] + "}");
+            }
+        }
+
+        var result = builder.toString().replace("//", "/");
+
+        if (result.startsWith("/")) {
+            return result.substring(1);
+        }
+
+        return result;
+    }
+}
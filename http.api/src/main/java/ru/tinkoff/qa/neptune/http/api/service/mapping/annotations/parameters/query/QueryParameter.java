@@ -8,12 +8,13 @@ import java.lang.annotation.Target;
 import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.util.Optional.ofNullable;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.getFromMethod;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.fromMethod;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.form.FormStyles.FORM;
 
 /**
@@ -67,9 +68,20 @@ public @interface QueryParameter {
          * @return a list of {@link ReadFormParameter}.
          */
         public static List<ReadFormParameter> readQueryParameters(Method toRead, Object[] parameters) {
-            return getFromMethod(toRead,
+            return compileQueryParameters(toRead).apply(parameters);
+        }
+
+        /**
+         * Reads parameters of a {@link java.lang.reflect.Method} once and returns a function that forms parameters
+         * of a query of http request by parameters of an invocation of the method.
+         *
+         * @param toRead is a method to be read
+         * @return a function that takes parameters of an invocation of the method and returns a list of
+         * {@link ReadFormParameter}.
+         */
+        public static Function<Object[], List<ReadFormParameter>> compileQueryParameters(Method toRead) {
+            return fromMethod(toRead,
                     QueryParameter.class,
-                    parameters,
                     (ps, params) -> {
                         var resultList = new LinkedList<ReadFormParameter>();
 
@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.service.mapping.dependency.injection;
 
 import ru.tinkoff.qa.neptune.core.api.dependency.injection.DependencyInjector;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI;
 
 import java.lang.reflect.Field;
@@ -10,6 +11,7 @@ import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI.createAPI;
 /**
  * Initializes fields of {@link HttpAPI}
  */
+@Stateless
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class HttpAPIInjector implements DependencyInjector {
 
@@ -0,0 +1,163 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.LogRecord;
+
+import static java.lang.String.valueOf;
+import static java.lang.System.getProperties;
+import static java.lang.System.setProperty;
+import static java.util.logging.Level.INFO;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.properties.log.HttpLogMaxRecordsProperty.HTTP_LOG_MAX_RECORDS_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.response.HttpLogRouter.*;
+
+public class HttpLogRouterTest {
+
+    private final List<HttpLogRouter.Route> routes = new ArrayList<>();
+
+    private static String threadNameOf(HttpClient client) {
+        var s = client.toString();
+        return "HttpClient-" + s.substring(s.lastIndexOf('(') + 1, s.length() - 1) + "-Worker-0";
+    }
+
+    private static <T> T inThread(String name, Supplier<T> supplier) throws InterruptedException {
+        var result = new AtomicReference<T>();
+        var thread = new Thread(() -> result.set(supplier.get()), name);
+        thread.start();
+        thread.join();
+        return result.get();
+    }
+
+    private static void publishFrom(String threadName, LogRecord record) throws InterruptedException {
+        inThread(threadName, () -> {
+            getRouter().publish(record);
+            return null;
+        });
+    }
+
+    private static List<String> messages(HttpLogRouter.Route route) {
+        //clients log their own records, e.g. when a selector thread is started
+        return route.getCollector().getCollected().stream()
+                .map(LogRecord::getMessage)
+                .filter(m -> m.startsWith("Record"))
+                .collect(toList());
+    }
+
+    private HttpLogRouter.Route collect(HttpLogRouter.Route route) {
+        routes.add(route);
+        return route;
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        routes.forEach(HttpLogRouter::stopCollecting);
+        routes.clear();
+        getProperties().remove(HTTP_LOG_MAX_RECORDS_PROPERTY.getName());
+    }
+
+    @Test
+    public void recordOfSenderThreadGoesToItsRequestTest() throws InterruptedException {
+        var client = HttpClient.newHttpClient();
+        var route1 = collect(startCollecting(client));
+        var route2 = collect(inThread("Sender", () -> {
+            var r = startCollecting(client);
+            getRouter().publish(new LogRecord(INFO, "Record 2"));
+            return r;
+        }));
+
+        getRouter().publish(new LogRecord(INFO, "Record 1"));
+
+        assertThat(messages(route1), contains("Record 1"));
+        assertThat(messages(route2), contains("Record 2"));
+    }
+
+    @Test
+    public void recordOfClientThreadGoesToRequestsOfTheClientTest() throws InterruptedException {
+        var client1 = HttpClient.newHttpClient();
+        var client2 = HttpClient.newHttpClient();
+        var route1 = collect(startCollectingAsync(client1));
+        var route2 = collect(startCollectingAsync(client1));
+        var route3 = collect(startCollectingAsync(client2));
+
+        publishFrom(threadNameOf(client1), new LogRecord(INFO, "Record 1"));
+        publishFrom(threadNameOf(client2), new LogRecord(INFO, "Record 2"));
+
+        assertThat(messages(route1), contains("Record 1"));
+        assertThat(messages(route2), contains("Record 1"));
+        assertThat(messages(route3), contains("Record 2"));
+    }
+
+    @Test
+    public void recordOfUnknownClientIsIgnoredTest() throws InterruptedException {
+        var client = HttpClient.newHttpClient();
+        var route = collect(startCollectingAsync(client));
+
+        publishFrom(threadNameOf(HttpClient.newHttpClient()), new LogRecord(INFO, "Record"));
+        assertThat(messages(route), emptyIterable());
+    }
+
+    @Test
+    public void recordOfOtherThreadGoesToAllRequestsTest() throws InterruptedException {
+        var route1 = collect(startCollectingAsync(HttpClient.newHttpClient()));
+        var route2 = collect(startCollectingAsync(HttpClient.newHttpClient()));
+
+        publishFrom("Custom executor", new LogRecord(INFO, "Record"));
+
+        assertThat(messages(route1), contains("Record"));
+        assertThat(messages(route2), contains("Record"));
+    }
+
+    @Test
+    public void recordsAreNotCollectedAfterStopTest() throws InterruptedException {
+        var client = HttpClient.newHttpClient();
+        var route = startCollectingAsync(client);
+        stopCollecting(route);
+
+        publishFrom(threadNameOf(client), new LogRecord(INFO, "Record 1"));
+        publishFrom("Custom executor", new LogRecord(INFO, "Record 2"));
+        assertThat(messages(route), emptyIterable());
+    }
+
+    @Test
+    public void latestRecordsAreKeptTest() {
+        var collector = new RequestResponseLogCollector(3);
+        for (int i = 1; i <= 5; i++) {
+            collector.add(new LogRecord(INFO, "Record " + i));
+        }
+
+        assertThat(collector.getCollected().stream().map(LogRecord::getMessage).collect(toList()),
+                contains("Record 3", "Record 4", "Record 5"));
+        assertThat(collector.getDropped(), is(2L));
+    }
+
+    @Test
+    public void maxRecordsPropertyTest() {
+        setProperty(HTTP_LOG_MAX_RECORDS_PROPERTY.getName(), valueOf(3));
+        var route = collect(startCollecting(HttpClient.newHttpClient()));
+
+        for (int i = 1; i <= 5; i++) {
+            getRouter().publish(new LogRecord(INFO, "Record " + i));
+        }
+        assertThat(messages(route), hasSize(lessThanOrEqualTo(3)));
+        assertThat(route.getCollector().getDropped(), greaterThanOrEqualTo(2L));
+    }
+
+    @Test
+    public void recordsAreDroppedWhenMaxCountIsZeroTest() {
+        var collector = new RequestResponseLogCollector(0);
+        collector.add(new LogRecord(INFO, "Record 1"));
+        collector.add(new LogRecord(INFO, "Record 2"));
+
+        assertThat(collector.getCollected(), emptyIterable());
+        assertThat(collector.getDropped(), is(2L));
+    }
+}
@@ -0,0 +1,141 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.URIPath;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.query.QueryParameter;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI.createAPI;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.DefaultHttpMethods.GET;
+
+public class MethodCacheTest {
+
+    private static final URI TEST_URI = URI.create("http://127.0.0.1:8089");
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return CachedMapping.class.getMethod(name, parameterTypes);
+    }
+
+    @Test
+    public void valueIsComputedOnceTest() throws Exception {
+        var computed = new AtomicInteger();
+        var cache = new MethodCache<>(m -> m.getName() + computed.incrementAndGet());
+
+        var value = cache.get(method("getSomething", String.class));
+        assertThat(cache.get(method("getSomething", String.class)), sameInstance(value));
+        assertThat(computed.get(), is(1));
+    }
+
+    @Test
+    public void valuesOfDifferentMethodsTest() throws Exception {
+        var computed = new AtomicInteger();
+        var cache = new MethodCache<>(m -> m.getName() + computed.incrementAndGet());
+
+        assertThat(cache.get(method("getSomething", String.class)), is("getSomething1"));
+        assertThat(cache.get(method("getSomethingByDefault", String.class, int.class)), is("getSomethingByDefault2"));
+        assertThat(cache.get(method("getSomething", String.class)), is("getSomething1"));
+    }
+
+    @Test
+    public void valuesOfDifferentCachesTest() throws Exception {
+        var cache1 = new MethodCache<>(m -> new Object());
+        var cache2 = new MethodCache<>(m -> new Object());
+
+        var m = method("getSomething", String.class);
+        assertThat(cache1.get(m), not(sameInstance(cache2.get(m))));
+    }
+
+    @Test
+    public void failedComputationIsNotCachedTest() throws Exception {
+        var computed = new AtomicInteger();
+        var cache = new MethodCache<>(m -> {
+            if (computed.incrementAndGet() == 1) {
+                throw new IllegalStateException("test");
+            }
+            return m.getName();
+        });
+
+        var m = method("getSomething", String.class);
+        try {
+            cache.get(m);
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("test"));
+        }
+        assertThat(cache.get(m), is("getSomething"));
+        assertThat(computed.get(), is(2));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void nullComputationTest() {
+        new MethodCache<>(null);
+    }
+
+    @Test
+    public void methodIsInvokedManyTimesTest() {
+        var api = createAPI(CachedMapping.class, TEST_URI);
+
+        assertThat(api.getSomething("a").build().uri().toString(), is("http://127.0.0.1:8089/path/a/end"));
+        assertThat(api.getSomething("b").build().uri().toString(), is("http://127.0.0.1:8089/path/b/end"));
+    }
+
+    @Test
+    public void defaultMethodTest() {
+        var api = createAPI(CachedMapping.class, TEST_URI);
+
+        assertThat(api.getSomethingByDefault("a", 1).build().uri().toString(),
+                is("http://127.0.0.1:8089/path/a1/end"));
+        assertThat(api.getSomethingByDefault("b", 2).build().uri().toString(),
+                is("http://127.0.0.1:8089/path/b2/end"));
+    }
+
+    @Test
+    public void defaultMethodWithoutParametersTest() {
+        var api = createAPI(CachedMapping.class, TEST_URI);
+        assertThat(api.getSomethingByDefault().build().uri().toString(),
+                is("http://127.0.0.1:8089/path/default/end?param=value"));
+    }
+
+    @Test
+    public void defaultMethodThrowsTest() {
+        var api = createAPI(CachedMapping.class, TEST_URI);
+        try {
+            api.getSomethingFailed();
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), is("test"));
+            return;
+        }
+        throw new AssertionError("Exception was expected");
+    }
+
+    public interface CachedMapping extends HttpAPI<CachedMapping> {
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("path/{value}/end")
+        RequestBuilder getSomething(@PathParameter(name = "value") String value);
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("path/{value}/end")
+        RequestBuilder getSomethingWithQuery(@PathParameter(name = "value") String value,
+                                             @QueryParameter(name = "param") String param);
+
+        default RequestBuilder getSomethingByDefault(String value, int number) {
+            return getSomething(value + number);
+        }
+
+        default RequestBuilder getSomethingByDefault() {
+            return getSomethingWithQuery("default", "value");
+        }
+
+        default RequestBuilder getSomethingFailed() {
+            throw new UnsupportedOperationException("test");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.URIPath;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.DefaultHttpMethods.GET;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathParameterReader.compilePathParameters;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathTemplate.parse;
+
+public class PathTemplateTest {
+
+    @DataProvider
+    public static Object[][] patterns() {
+        return new Object[][]{
+                {"path/to/end/point", new String[]{"path/to/end/point"}},
+                {"{first}/and/{second}", new String[]{"", "first", "/and/", "second", ""}},
+                {"{first}/{first}", new String[]{"", "first", "/", "first", ""}},
+                {"path/{first", new String[]{"path/{first"}},
+                {"path/first}/{second}", new String[]{"path/first}/", "second", ""}},
+                {"{first{second}/end", new String[]{"", "first{second", "/end"}},
+                {"{}/end", new String[]{"", "", "/end"}},
+                {"", new String[]{""}}
+        };
+    }
+
+    @Test(dataProvider = "patterns")
+    public void parseTest(String pattern, String[] expected) {
+        assertThat(parse(pattern), arrayContaining(expected));
+    }
+
+    @Test
+    public void fillTest() {
+        var template = new PathTemplate("/{first}/and/{second}/end/point");
+        assertThat(template.fill(Map.of("first", "1", "second", "2")), is("1/and/2/end/point"));
+    }
+
+    @Test
+    public void fillRepeatedVariableTest() {
+        var template = new PathTemplate("{first}/and/then/{first}");
+        assertThat(template.fill(Map.of("first", "1")), is("1/and/then/1"));
+    }
+
+    @Test
+    public void valuesAreNotParsedAgainTest() {
+        var template = new PathTemplate("{first}/and/{second}");
+        assertThat(template.fill(Map.of("first", "{second}", "second", "2")), is("{second}/and/2"));
+    }
+
+    @Test
+    public void variableWithoutValueTest() {
+        var template = new PathTemplate("{first}/and/{second}");
+        assertThat(template.fill(Map.of("first", "1")), is("1/and/{second}"));
+    }
+
+    @Test
+    public void emptyValueTest() {
+        var template = new PathTemplate("{first}/{second}/end");
+        assertThat(template.fill(Map.of("first", "", "second", "2")), is("2/end"));
+    }
+
+    @Test
+    public void compiledPathIsReusedTest() throws Exception {
+        var path = compilePathParameters(PathTemplateMapping.class.getMethod("getSomething", String.class, int.class));
+        assertThat(path.apply(new Object[]{"a", 1}), is("a/and/1/a"));
+        assertThat(path.apply(new Object[]{"b", 2}), is("b/and/2/b"));
+    }
+
+    @Test
+    public void constantPathTest() throws Exception {
+        var path = compilePathParameters(PathTemplateMapping.class.getMethod("getSomethingConstant"));
+        assertThat(path.apply(new Object[]{}), is("/path/to/end/point"));
+    }
+
+    @Test
+    public void noPathTest() throws Exception {
+        var path = compilePathParameters(PathTemplateMapping.class.getMethod("getSomethingWithoutPath"));
+        assertThat(path.apply(new Object[]{}), nullValue());
+    }
+
+    @Test
+    public void missingVariableTest() throws Exception {
+        try {
+            compilePathParameters(PathTemplateMapping.class.getMethod("getSomethingMissing", String.class));
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("These parameters are not defined by method parameters: [second]"));
+            return;
+        }
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void requiredVariableTest() throws Exception {
+        var path = compilePathParameters(PathTemplateMapping.class.getMethod("getSomething", String.class, int.class));
+        try {
+            path.apply(new Object[]{null, 1});
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Path variable 'first' requires value that differs from null"));
+            return;
+        }
+        fail("Exception was expected");
+    }
+
+    private interface PathTemplateMapping extends HttpAPI<PathTemplateMapping> {
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("{first}/and/{second}/{first}")
+        RequestBuilder getSomething(@PathParameter(name = "first") String first,
+                                    @PathParameter(name = "second") int second);
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("/path/to/end/point")
+        RequestBuilder getSomethingConstant();
+
+        @HttpMethod(httpMethod = GET)
+        RequestBuilder getSomethingWithoutPath();
+
+        @HttpMethod(httpMethod = GET)
+        @URIPath("{first}/and/{second}")
+        RequestBuilder getSomethingMissing(@PathParameter(name = "first") String first);
+    }
+}
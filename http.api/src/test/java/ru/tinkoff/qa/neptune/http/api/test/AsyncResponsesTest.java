@@ -0,0 +1,111 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.http.Fault.CONNECTION_RESET_BY_PEER;
+import static java.lang.System.currentTimeMillis;
+import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.time.Duration.ofSeconds;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
+import static ru.tinkoff.qa.neptune.http.api.hamcrest.response.HasBody.hasBody;
+import static ru.tinkoff.qa.neptune.http.api.hamcrest.response.HasStatusCode.hasStatusCode;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponseCriteria.statusCode;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponsesSequentialGetSupplier.responses;
+
+public class AsyncResponsesTest extends BaseHttpTest {
+
+    private static final int DELAY = 500;
+
+    private static List<RequestBuilder> delayedRequests(int count) {
+        return range(0, count)
+                .mapToObj(i -> (RequestBuilder) GET(REQUEST_URI + "/async/delayed.html?index=" + i))
+                .collect(toList());
+    }
+
+    @BeforeClass
+    public void beforeClass() {
+        stubFor(get(urlPathEqualTo("/async/delayed.html"))
+                .willReturn(aResponse().withBody("DELAYED").withFixedDelay(DELAY)));
+
+        range(0, 3).forEach(i -> stubFor(get(urlPathEqualTo("/async/" + i + ".html"))
+                .willReturn(aResponse().withBody(String.valueOf(i)).withStatus(i == 1 ? 404 : 200))));
+
+        stubFor(get(urlPathEqualTo("/async/failure.html"))
+                .willReturn(aResponse().withFault(CONNECTION_RESET_BY_PEER)));
+    }
+
+    @Test
+    public void responsesAreReturnedInOrderOfRequests() {
+        var responses = http().responsesOf(List.of(GET(REQUEST_URI + "/async/0.html"),
+                GET(REQUEST_URI + "/async/1.html"),
+                GET(REQUEST_URI + "/async/2.html")),
+                ofString());
+
+        assertThat(responses, contains(
+                allOf(hasStatusCode(200), hasBody("0")),
+                allOf(hasStatusCode(404), hasBody("1")),
+                allOf(hasStatusCode(200), hasBody("2"))));
+    }
+
+    @Test
+    public void responsesAreFilteredByCriteria() {
+        var responses = http().responsesOf(responses(ofString(),
+                GET(REQUEST_URI + "/async/0.html"),
+                GET(REQUEST_URI + "/async/1.html"),
+                GET(REQUEST_URI + "/async/2.html"))
+                .criteria(statusCode(200)));
+
+        assertThat(responses, contains(hasBody("0"), hasBody("2")));
+    }
+
+    @Test
+    public void requestsAreSentAtTheSameTime() {
+        var start = currentTimeMillis();
+        var responses = http().responsesOf(responses(delayedRequests(6), ofString())
+                .maxAsyncRequests(6));
+        var time = currentTimeMillis() - start;
+
+        assertThat(responses, hasSize(6));
+        assertThat(responses, everyItem(hasBody("DELAYED")));
+        assertThat(time, lessThan(4L * DELAY));
+    }
+
+    @Test
+    public void maxCountOfRequestsSentAtTheSameTime() {
+        var start = currentTimeMillis();
+        var responses = http().responsesOf(responses(delayedRequests(4), ofString())
+                .maxAsyncRequests(2));
+        var time = currentTimeMillis() - start;
+
+        assertThat(responses, hasSize(4));
+        assertThat(time, greaterThanOrEqualTo(2L * DELAY));
+    }
+
+    @Test
+    public void emptyBatch() {
+        assertThat(http().responsesOf(List.of()), empty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidMaxCountOfRequests() {
+        responses(delayedRequests(1), ofString()).maxAsyncRequests(0);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void failedRequestFailsTheBatch() {
+        http().responsesOf(List.of(GET(REQUEST_URI + "/async/0.html"),
+                GET(REQUEST_URI + "/async/failure.html").timeout(ofSeconds(1)),
+                GET(REQUEST_URI + "/async/2.html")),
+                ofString());
+    }
+}
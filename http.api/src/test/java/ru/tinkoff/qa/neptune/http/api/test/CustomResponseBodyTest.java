@@ -8,6 +8,7 @@ import org.w3c.dom.Document;
 import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
 
 import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,6 +30,11 @@ public class CustomResponseBodyTest extends BaseHttpTest {
             "<wstxns2:B1 xmlns:wstxns2=\"http://www.test.com\">777</wstxns2:B1>" +
             "<wstxns3:C1 xmlns:wstxns3=\"http://www.test.com\">false</wstxns3:C1></BodyObject>";
 
+    private static final BodyObject CYRILLIC_BODY_OBJECT = new BodyObject().setA("Кириллица")
+            .setB(777)
+            .setC(false);
+    private static final String RESPONSE_CYRILLIC = "{\"A\":\"Кириллица\",\"B\":777,\"C\":false}";
+
     private static final String XML_FOR_DOCUMENT = "<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?><a><b/><c/></a>";
     private static final String HTML_FOR_DOCUMENT = "<!DOCTYPE html PUBLIC \"-//W3C//DTD HTML 4.01 Transitional//EN\" \"http://www.w3.org/TR/html4/loose.dtd\">\n" +
             "<html>\n" +
@@ -52,6 +58,8 @@ public class CustomResponseBodyTest extends BaseHttpTest {
     private static final String PATH_TO_JACKSON = "/jackson_xml";
     private static final String PATH_DOCUMENT_XML = "/document_xml";
     private static final String PATH_DOCUMENT_HTML = "/document_html";
+    private static final String PATH_TO_CP1251 = "/cp1251";
+    private static final String PATH_TO_EMPTY = "/empty";
 
     @BeforeClass
     public static void prepareMock() {
@@ -66,6 +74,14 @@ public class CustomResponseBodyTest extends BaseHttpTest {
 
         stubFor(get(urlPathEqualTo(PATH_DOCUMENT_HTML))
                 .willReturn(aResponse().withBody(HTML_FOR_DOCUMENT)));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_CP1251))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json; charset=windows-1251")
+                        .withBody(RESPONSE_CYRILLIC.getBytes(Charset.forName("windows-1251")))));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_EMPTY))
+                .willReturn(aResponse().withBody("")));
     }
 
     @DataProvider
@@ -86,6 +102,10 @@ public class CustomResponseBodyTest extends BaseHttpTest {
                 {PATH_DOCUMENT_HTML,
                         jsoupDocument(),
                         instanceOf(org.jsoup.nodes.Document.class)},
+
+                {PATH_TO_CP1251,
+                        json(BodyObject.class),
+                        equalTo(CYRILLIC_BODY_OBJECT)},
         };
     }
 
@@ -95,6 +115,7 @@ public class CustomResponseBodyTest extends BaseHttpTest {
                 {PATH_TO_GSON, xml(BodyObject.class)},
                 {PATH_TO_GSON, w3cDocument()},
                 {PATH_DOCUMENT_XML, json(BodyObject.class)},
+                {PATH_TO_EMPTY, json(BodyObject.class)},
         };
     }
 
@@ -0,0 +1,71 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static java.lang.System.getProperties;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.XML;
+import static ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultJsonObjectMapper.DEFAULT_JSON_OBJECT_MAPPER;
+
+public class DefaultMapperTest {
+
+    @Test
+    public void mapperIsNotSharedTest() throws Exception {
+        assertThat(JSON.getMapper(), not(sameInstance(JSON.getMapper())));
+        assertThat(XML.getMapper(), not(sameInstance(XML.getMapper())));
+        assertThat(XML.getMapper(), instanceOf(XmlMapper.class));
+
+        var mapper = JSON.getMapper();
+        mapper.enable(INDENT_OUTPUT);
+        assertThat(mapper.writeValueAsString(new BodyObject().setA("A")), containsString("\n"));
+        assertThat(JSON.getMapper().writeValueAsString(new BodyObject().setA("A")), not(containsString("\n")));
+        assertThat(JSON.getWriter().writeValueAsString(new BodyObject().setA("A")), not(containsString("\n")));
+    }
+
+    @Test
+    public void sharedReadersAndWritersTest() {
+        assertThat(JSON.getWriter(), sameInstance(JSON.getWriter()));
+        assertThat(JSON.getPrettyWriter(), sameInstance(JSON.getPrettyWriter()));
+        assertThat(JSON.getReader(BodyObject.class), sameInstance(JSON.getReader(BodyObject.class)));
+        assertThat(JSON.getReader(new TypeReference<List<BodyObject>>() {
+                }),
+                sameInstance(JSON.getReader(new TypeReference<List<BodyObject>>() {
+                })));
+    }
+
+    @Test
+    public void mapperIsRebuiltWhenPropertyIsChangedTest() throws Exception {
+        var defaultMapper = JSON.getMapper();
+        setProperty(DEFAULT_JSON_OBJECT_MAPPER.getName(), IndentingMapperSupplier.class.getName());
+
+        try {
+            var mapper = JSON.getMapper();
+            assertThat(mapper.isEnabled(INDENT_OUTPUT), is(true));
+            assertThat(defaultMapper.isEnabled(INDENT_OUTPUT), is(false));
+            assertThat(JSON.getWriter().writeValueAsString(new BodyObject().setA("A")), containsString("\n"));
+        } finally {
+            getProperties().remove(DEFAULT_JSON_OBJECT_MAPPER.getName());
+        }
+
+        assertThat(JSON.getWriter().writeValueAsString(new BodyObject().setA("A")), not(containsString("\n")));
+    }
+
+    public static class IndentingMapperSupplier implements Supplier<ObjectMapper> {
+
+        @Override
+        public ObjectMapper get() {
+            return new ObjectMapper().enable(INDENT_OUTPUT);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ru.tinkoff.qa.neptune.http.api.test.capturing;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.test.BaseHttpTest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.lang.System.getProperties;
+import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturedEvents.SUCCESS;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.DO_CAPTURES_OF_INSTANCE;
+import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponsesSequentialGetSupplier.responses;
+import static ru.tinkoff.qa.neptune.http.api.test.capturing.LogInjector.clearLogs;
+import static ru.tinkoff.qa.neptune.http.api.test.capturing.LogInjector.getLog;
+
+public class AsyncRequestResponseLogCapturingTests extends BaseHttpTest {
+
+    @BeforeClass
+    public void beforeClass() {
+        stubFor(get(urlPathEqualTo("/async/slow.html"))
+                .willReturn(aResponse().withBody("SLOW").withFixedDelay(1000)));
+        stubFor(get(urlPathEqualTo("/async/fast.html"))
+                .willReturn(aResponse().withBody("FAST")));
+    }
+
+    @BeforeMethod
+    public void beforeEveryTest() {
+        clearLogs();
+    }
+
+    @Test
+    public void capturesAreMadeInOrderOfRequests() {
+        DO_CAPTURES_OF_INSTANCE.accept(SUCCESS.name());
+
+        http().responsesOf(responses(ofString(),
+                GET(REQUEST_URI + "/async/slow.html"),
+                GET(REQUEST_URI + "/async/fast.html"))
+                .maxAsyncRequests(2));
+
+        var log = getLog();
+        assertThat(log.stream().filter(s -> s.startsWith("Response Body")).collect(toList()),
+                contains(endsWith("SLOW"), endsWith("FAST")));
+        assertThat(log.stream().filter(s -> s.contains("Logs that have been captured during the sending of a request"))
+                        .collect(toList()),
+                hasSize(2));
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        getProperties().remove(DO_CAPTURES_OF_INSTANCE.getName());
+    }
+}
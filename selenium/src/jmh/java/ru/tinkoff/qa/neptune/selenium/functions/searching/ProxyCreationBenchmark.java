@@ -0,0 +1,51 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CGLibProxyBuilder.createProxy;
+
+/**
+ * Measures the wrapping of found web elements by proxies like {@link FindWebElements} does it.
+ * Each invocation wraps a list of elements, e.g. cells of a big table, and invokes a method of each proxy.
+ * <p>
+ * Run it by {@code gradle :selenium:jmh -PjmhArgs='ProxyCreationBenchmark -prof cl -prof gc'}.
+ * The {@code cl} profiler shows how many classes are loaded per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyCreationBenchmark {
+
+    @Param({"500"})
+    private int size;
+
+    private List<RemoteWebElement> elements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var element = new RemoteWebElement();
+            element.setId(String.valueOf(i));
+            elements.add(element);
+        }
+    }
+
+    @Benchmark
+    public int wrapFoundElements() {
+        int result = 0;
+        for (var element : elements) {
+            var proxy = createProxy(RemoteWebElement.class, new WebElementInterceptor(element, "Web element found"));
+            result += proxy.getId().length();
+        }
+        return result;
+    }
+}
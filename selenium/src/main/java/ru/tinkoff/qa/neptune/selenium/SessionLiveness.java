@@ -0,0 +1,84 @@
+package ru.tinkoff.qa.neptune.selenium;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.System.nanoTime;
+import static java.util.Objects.nonNull;
+
+/**
+ * Tracks whether a WebDriver session is alive by results of commands which are sent to the browser.
+ * A session is trusted until some command fails because the session is lost or the browser is unreachable,
+ * so it is not necessary to send additional commands to check it. The session is not trusted until the first
+ * successful command after the context is refreshed, i.e. it is checked once per test. When the interval is defined
+ * then the session is also not trusted if there were no successful commands during this time.
+ */
+final class SessionLiveness {
+
+    private final long checkInterval;
+    private volatile boolean isLost;
+    private volatile long lastSucceeded;
+    private volatile boolean toCheck;
+    private final AtomicLong savedChecks = new AtomicLong();
+
+    SessionLiveness(Duration checkInterval) {
+        this.checkInterval = nonNull(checkInterval) ? checkInterval.toNanos() : -1;
+        isLost = true;
+    }
+
+    static boolean isSessionLost(Throwable t) {
+        var cause = t;
+        while (nonNull(cause)) {
+            if (cause instanceof UnreachableBrowserException || cause instanceof NoSuchSessionException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    void sessionStarted() {
+        lastSucceeded = nanoTime();
+        toCheck = false;
+        isLost = false;
+    }
+
+    void commandSucceeded() {
+        lastSucceeded = nanoTime();
+        toCheck = false;
+    }
+
+    /**
+     * The session is not trusted until the next successful command.
+     */
+    void checkOnNextRequest() {
+        toCheck = true;
+    }
+
+    void sessionLost() {
+        isLost = true;
+    }
+
+    boolean isLost() {
+        return isLost;
+    }
+
+    boolean isTrusted() {
+        return !isLost && !toCheck && (checkInterval < 0 || nanoTime() - lastSucceeded < checkInterval);
+    }
+
+    void checksSaved(int count) {
+        savedChecks.addAndGet(count);
+    }
+
+    long getSavedChecks() {
+        return savedChecks.get();
+    }
+
+    void resetSavedChecks() {
+        savedChecks.set(0);
+    }
+}
@@ -2,13 +2,46 @@ package ru.tinkoff.qa.neptune.selenium;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
+import org.openqa.selenium.WebDriverException;
 
 import java.lang.reflect.Method;
 
+import static ru.tinkoff.qa.neptune.selenium.SessionLiveness.isSessionLost;
+
 public class WebDriverMethodInterceptor implements MethodInterceptor {
 
+    private final SessionLiveness liveness;
+
+    public WebDriverMethodInterceptor() {
+        this(null);
+    }
+
+    WebDriverMethodInterceptor(SessionLiveness liveness) {
+        this.liveness = liveness;
+    }
+
     @Override
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
-        return proxy.invokeSuper(obj, args);
+        if (liveness == null || method.getDeclaringClass().equals(Object.class)) {
+            return proxy.invokeSuper(obj, args);
+        }
+
+        try {
+            var result = proxy.invokeSuper(obj, args);
+            liveness.commandSucceeded();
+            return result;
+        } catch (Throwable t) {
+            if (isSessionLost(t)) {
+                liveness.sessionLost();
+            } else if (t instanceof WebDriverException) {
+                //the browser has responded
+                liveness.commandSucceeded();
+            }
+            throw t;
+        } finally {
+            if ("quit".equals(method.getName()) && method.getParameterCount() == 0) {
+                liveness.sessionLost();
+            }
+        }
     }
 }
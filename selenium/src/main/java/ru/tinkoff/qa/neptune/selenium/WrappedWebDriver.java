@@ -9,7 +9,6 @@ import org.openqa.grid.internal.utils.configuration.StandaloneConfiguration;
 import org.openqa.selenium.*;
 import org.openqa.selenium.net.NetworkUtils;
 import org.openqa.selenium.remote.CapabilityType;
-import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.openqa.selenium.remote.server.SeleniumServer;
 import ru.tinkoff.qa.neptune.core.api.cleaning.ContextRefreshable;
 import ru.tinkoff.qa.neptune.selenium.authentication.AuthenticationPerformer;
@@ -27,7 +26,9 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.openqa.selenium.Proxy.ProxyType.MANUAL;
 import static org.openqa.selenium.net.PortProber.findFreePort;
 import static ru.tinkoff.qa.neptune.core.api.utils.ConstructorUtil.findSuitableConstructor;
+import static ru.tinkoff.qa.neptune.selenium.SessionLiveness.isSessionLost;
 import static ru.tinkoff.qa.neptune.selenium.content.management.ContentManagementCommand.getCurrentCommand;
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LIVENESS_CHECK_INTERVAL;
 import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.*;
 import static ru.tinkoff.qa.neptune.selenium.properties.URLProperties.BASE_WEB_DRIVER_URL_PROPERTY;
 import static ru.tinkoff.qa.neptune.selenium.properties.URLProperties.PROXY_URL_PROPERTY;
@@ -45,6 +46,7 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
     private WebDriver driver;
     private boolean isWebDriverInstalled;
     private final AuthenticationPerformer authenticationPerformer = new AuthenticationPerformer();
+    private final SessionLiveness liveness = new SessionLiveness(LIVENESS_CHECK_INTERVAL.get());
 
     public WrappedWebDriver(SupportedWebDrivers supportedWebDriver) {
         this.supportedWebDriver = supportedWebDriver;
@@ -155,7 +157,7 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
 
             var enhancer = new Enhancer();
             enhancer.setSuperclass(supportedWebDriver.getWebDriverClass());
-            enhancer.setCallback(new WebDriverMethodInterceptor());
+            enhancer.setCallback(new WebDriverMethodInterceptor(liveness));
 
             var driver = (WebDriver) enhancer.create(c.getParameterTypes(), parameters);
 
@@ -180,6 +182,7 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
             authenticationPerformer.performAuthentication(driver, true);
 
             this.driver = driver;
+            liveness.sessionStarted();
             return true;
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -187,25 +190,30 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
     }
 
     private boolean isAlive() {
-        if (driver == null) {
+        if (driver == null || liveness.isLost()) {
             return false;
         }
 
+        if (liveness.isTrusted()) {
+            liveness.checksSaved(1);
+            return true;
+        }
+
         try {
             driver.getCurrentUrl();
             return true;
-        } catch (UnreachableBrowserException | NoSuchSessionException e1) {
-            return false;
-        } catch (WebDriverException e2) {
-            return true;
         } catch (Exception e) {
+            if (isSessionLost(e)) {
+                return false;
+            }
+
+            if (e instanceof WebDriverException) {
+                return true;
+            }
+
             var cause = e.getCause();
             while (nonNull(cause)) {
-                var causeClass = cause.getClass();
-                if (causeClass.equals(UnreachableBrowserException.class) || causeClass.equals(NoSuchSessionException.class)) {
-                    return false;
-                }
-                if (causeClass.equals(WebDriverException.class)) {
+                if (cause instanceof WebDriverException) {
                     return true;
                 }
                 cause = cause.getCause();
@@ -217,6 +225,7 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
     @Override
     public synchronized void refreshContext() {
         boolean isAlive = isAlive();
+        liveness.resetSavedChecks();
 
         if (!isAlive) {
             driver = null;
@@ -232,6 +241,8 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
         }
 
         ofNullable(browserUpProxy).ifPresent(BrowserUpProxy::newHar);
+        //the session is checked once when it is used by the next test
+        liveness.checkOnNextRequest();
     }
 
     @Override
@@ -240,7 +251,7 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
             authenticationPerformer.performAuthentication(driver, false);
         }
 
-        driver.getWindowHandles();
+        liveness.checksSaved(1);
         ofNullable(getCurrentCommand()).ifPresent(
                 contentManagementCommand -> contentManagementCommand
                         .get()
@@ -250,6 +261,17 @@ public class WrappedWebDriver implements WrapsDriver, ContextRefreshable {
         return driver;
     }
 
+    /**
+     * Returns how many commands were not sent to check that the session is alive since the context was refreshed
+     * last time. The session is trusted until some command fails because the session is lost.
+     *
+     * @return count of saved liveness check commands
+     * @see ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval
+     */
+    public synchronized long getSavedLivenessChecks() {
+        return liveness.getSavedChecks();
+    }
+
     public BrowserUpProxy getProxy() {
         return browserUpProxy;
     }
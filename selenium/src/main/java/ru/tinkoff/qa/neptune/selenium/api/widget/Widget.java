@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.selenium.api.widget;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.internal.WrapsElement;
+import ru.tinkoff.qa.neptune.core.api.index.IndexSubclasses;
 
 import java.util.List;
 
@@ -17,6 +18,7 @@ import static ru.tinkoff.qa.neptune.selenium.api.widget.Priority.LOWEST;
  * of related elements. It is expected that there should be some top-level
  * element from which other elements can be found.
  */
+@IndexSubclasses
 @Priority(LOWEST)
 public abstract class Widget implements WrapsElement, SearchContext, HasAttribute,
         IsEnabled, IsVisible, HasSize, HasRectangle, HasLocation, HasCssValue, HasTextContent {
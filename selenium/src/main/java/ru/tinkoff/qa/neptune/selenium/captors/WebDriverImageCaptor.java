@@ -5,32 +5,31 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WrapsDriver;
-import ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImage;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.EncodedImageCaptor;
+import ru.tinkoff.qa.neptune.core.api.utils.Stateless;
 import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-
 import static java.util.Optional.ofNullable;
 import static org.openqa.selenium.OutputType.BYTES;
 
 @Beta
-public class WebDriverImageCaptor extends ImageCaptor<WebDriver> {
+@Stateless
+public class WebDriverImageCaptor extends EncodedImageCaptor<WebDriver> {
 
     public WebDriverImageCaptor() {
         super("Browser screenshot");
     }
 
+    /**
+     * Takes a screenshot as raw png bytes. They are not decoded.
+     *
+     * @param caught is a caught object to take a screenshot of.
+     * @return encoded screenshot
+     */
     @Override
-    public BufferedImage getData(WebDriver caught) {
-        var in = new ByteArrayInputStream(((TakesScreenshot) caught).getScreenshotAs(BYTES));
-        try {
-            return ImageIO.read(in);
-        } catch (IOException e) {
-            return null;
-        }
+    public EncodedImage getData(WebDriver caught) {
+        return new EncodedImage(((TakesScreenshot) caught).getScreenshotAs(BYTES), "png");
     }
 
     @Override
@@ -2,41 +2,22 @@ package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
-import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.WrapsDriver;
-import ru.tinkoff.qa.neptune.selenium.auto.scrolling.AutoScroller;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import static java.util.Optional.ofNullable;
-import static ru.tinkoff.qa.neptune.selenium.properties.DefaultScrollerProperty.DEFAULT_SCROLLER_PROPERTY;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.AutoScrolling.scrollIntoView;
 
 abstract class AbstractElementInterceptor implements MethodInterceptor {
 
     final WebElement element;
 
     Object realObject;
-    private final AutoScroller defaultScroller;
 
     AbstractElementInterceptor(WebElement element) {
         this.element = element;
-        defaultScroller = getAutoScroller(element);
-    }
-
-    private static AutoScroller getAutoScroller(WebElement element) {
-        return ofNullable(DEFAULT_SCROLLER_PROPERTY.get())
-                .map(aClass -> {
-                    try {
-                        var c = aClass.getDeclaredConstructor(WebDriver.class);
-                        c.setAccessible(true);
-                        return c.newInstance(((WrapsDriver) element).getWrappedDriver());
-                    } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .orElse(null);
     }
 
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
@@ -61,8 +42,7 @@ abstract class AbstractElementInterceptor implements MethodInterceptor {
         }
 
         if (toPerformTheScrolling(method)) {
-            ofNullable(defaultScroller)
-                    .ifPresent(autoScroller -> autoScroller.scrollIntoView(realObject));
+            scrollIntoView(this);
         }
 
         try {
@@ -0,0 +1,72 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import ru.tinkoff.qa.neptune.selenium.auto.scrolling.AutoScroller;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static ru.tinkoff.qa.neptune.selenium.properties.DefaultScrollerProperty.DEFAULT_SCROLLER_PROPERTY;
+
+/**
+ * Performs the scrolling into view implicitly. An instance of {@link AutoScroller} is created once for
+ * a WebDriver and a class defined by the property {@code WEB_DRIVER_DEFAULT_AUTO_SCROLLER}. It is created when
+ * some element should be scrolled into view at first time. A found element/widget is not scrolled into view again
+ * when it has been scrolled into view just before.
+ */
+final class AutoScrolling {
+
+    private static final ThreadLocal<AutoScrolling> CURRENT = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final AutoScroller scroller;
+    private AbstractElementInterceptor lastScrolled;
+
+    private AutoScrolling(WebDriver driver, AutoScroller scroller) {
+        this.driver = driver;
+        this.scroller = scroller;
+    }
+
+    private static AutoScroller createScroller(Class<? extends AutoScroller> scrollerClass, WebDriver driver) {
+        try {
+            var c = scrollerClass.getDeclaredConstructor(WebDriver.class);
+            c.setAccessible(true);
+            return c.newInstance(driver);
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static AutoScrolling getScrolling(WebElement element) {
+        var scrollerClass = DEFAULT_SCROLLER_PROPERTY.get();
+        if (scrollerClass == null) {
+            return null;
+        }
+
+        var driver = ((WrapsDriver) element).getWrappedDriver();
+        var current = CURRENT.get();
+        if (current != null && current.driver == driver && current.scroller.getClass().equals(scrollerClass)) {
+            return current;
+        }
+
+        var scrolling = new AutoScrolling(driver, createScroller(scrollerClass, driver));
+        CURRENT.set(scrolling);
+        return scrolling;
+    }
+
+    /**
+     * Scrolls an object into view when the property {@code WEB_DRIVER_DEFAULT_AUTO_SCROLLER} is defined.
+     *
+     * @param interceptor is an interceptor of the found element/widget to be scrolled into view
+     */
+    static void scrollIntoView(AbstractElementInterceptor interceptor) {
+        var scrolling = getScrolling(interceptor.element);
+        if (scrolling == null || scrolling.lastScrolled == interceptor) {
+            return;
+        }
+
+        scrolling.scroller.scrollIntoView(interceptor.realObject);
+        scrolling.lastScrolled = interceptor;
+    }
+}
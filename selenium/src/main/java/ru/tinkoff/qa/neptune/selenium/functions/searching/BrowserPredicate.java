@@ -0,0 +1,136 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import com.google.common.io.Resources;
+import net.sf.cglib.proxy.Factory;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.EVALUATE_CRITERIA_IN_BROWSER;
+
+/**
+ * A predicate that may be evaluated by the browser. When the property {@code EVALUATE_CRITERIA_IN_BROWSER}
+ * is {@code true} then all web elements found by the same search are checked by one script. Widgets, elements
+ * that can't be checked by the browser and elements found when the script has failed are checked by java.
+ *
+ * @param <T> is a type of element/widget
+ */
+final class BrowserPredicate<T extends SearchContext> implements Predicate<T> {
+
+    private static final String SCRIPT = "var check = %s;\n" +
+            "var elements = arguments[0];\n" +
+            "var args = Array.prototype.slice.call(arguments, 1);\n" +
+            "return elements.map(function (e) {\n" +
+            "    try {\n" +
+            "        return !!check.apply(null, [e].concat(args));\n" +
+            "    } catch (err) {\n" +
+            "        return null;\n" +
+            "    }\n" +
+            "});";
+
+    private static final String IS_DISPLAYED = readAtom("isDisplayed.js");
+
+    private static final String GET_ATTRIBUTE = readAtom("getAttribute.js");
+
+    /**
+     * Checks visibility of an element by the same atom that is used by {@link WebElement#isDisplayed()}.
+     */
+    static final String VISIBLE = nonNull(IS_DISPLAYED) ? format("function (e) {return (%s)(e);}", IS_DISPLAYED) : null;
+
+    static final String ENABLED = "function (e) {return !(e.matches && e.matches(':disabled'));}";
+
+    static final String TEXT = "function (e, text) {return (e.innerText || '').trim() === text;}";
+
+    /**
+     * Reads an attribute by the same atom that is used by {@link WebElement#getAttribute(String)}.
+     */
+    static final String ATTR = nonNull(GET_ATTRIBUTE) ?
+            format("function (e, name, value) {return (%s)(e, name) === value;}", GET_ATTRIBUTE) : null;
+
+    static final String CSS = "function (e, property, value) " +
+            "{return window.getComputedStyle(e).getPropertyValue(property) === value;}";
+
+    private final String script;
+    private final Object[] arguments;
+    private final Predicate<T> predicate;
+
+    /**
+     * Creates a predicate.
+     *
+     * @param check     is a javascript function that checks an element. It takes an element and {@code arguments}.
+     *                  When it is {@code null} then elements are checked by java.
+     * @param predicate is the predicate to check an element/widget by java
+     * @param arguments are additional arguments of the javascript function
+     */
+    BrowserPredicate(String check, Predicate<T> predicate, Object... arguments) {
+        this.script = nonNull(check) ? format(SCRIPT, check) : null;
+        this.predicate = predicate;
+        this.arguments = arguments;
+    }
+
+    private static String readAtom(String name) {
+        var url = RemoteWebElement.class.getResource(name);
+        if (url == null) {
+            return null;
+        }
+
+        try {
+            return Resources.toString(url, UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean test(T t) {
+        if (nonNull(script) && EVALUATE_CRITERIA_IN_BROWSER.get() && t instanceof Factory) {
+            var callback = ((Factory) t).getCallback(0);
+            if (callback instanceof WebElementInterceptor) {
+                var result = ((WebElementInterceptor) callback).checkByBrowser(this);
+                if (nonNull(result)) {
+                    return result;
+                }
+            }
+        }
+
+        return predicate.test(t);
+    }
+
+    Boolean[] evaluate(JavascriptExecutor executor, List<WebElement> elements) {
+        var result = new Boolean[elements.size()];
+        if (executor == null || elements.isEmpty()) {
+            return result;
+        }
+
+        var args = new Object[arguments.length + 1];
+        args[0] = elements;
+        System.arraycopy(arguments, 0, args, 1, arguments.length);
+
+        Object returned;
+        try {
+            returned = executor.executeScript(script, args);
+        } catch (RuntimeException e) {
+            //elements are checked by java
+            return result;
+        }
+
+        if (returned instanceof List) {
+            var checked = (List<?>) returned;
+            for (int i = 0; i < result.length && i < checked.size(); i++) {
+                var value = checked.get(i);
+                if (value instanceof Boolean) {
+                    result[i] = (Boolean) value;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -2,15 +2,40 @@ package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
+import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 
-import static net.sf.cglib.proxy.Enhancer.registerCallbacks;
+import java.util.concurrent.ConcurrentHashMap;
 
 class CGLibProxyBuilder {
 
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
     /**
-     * Creates a proxy object using the binding of CGLIB and Objenesis
+     * Proxy classes of each proxied class. They are mapped by classes of interceptors.
+     */
+    private static final ClassValue<ConcurrentHashMap<Class<?>, Class<?>>> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<Class<?>, Class<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static Class<?> createProxyClass(Class<?> tClass, Class<?> interceptorClass) {
+        var enhancer = new Enhancer();
+
+        enhancer.setUseCache(false);
+        enhancer.setCallbackType(interceptorClass);
+        enhancer.setSuperclass(tClass);
+        enhancer.setClassLoader(tClass.getClassLoader());
+        return enhancer.createClass();
+    }
+
+    /**
+     * Creates a proxy object using the binding of CGLIB and Objenesis. A proxy class is generated once
+     * for each pair of a proxied class and a class of an interceptor. The interceptor is set to the created object.
      *
      * @param tClass is a class of a proxy
      * @param interceptor is an instance of {@link MethodInterceptor}
@@ -19,18 +44,11 @@ class CGLibProxyBuilder {
      */
     @SuppressWarnings("unchecked")
     static  <T> T createProxy(Class<T> tClass, MethodInterceptor interceptor) {
-        var enhancer = new Enhancer();
-
-        enhancer.setUseCache(false);
-        enhancer.setCallbackType(interceptor.getClass());
-        enhancer.setSuperclass(tClass);
-
-        var proxyClass = enhancer.createClass();
-        registerCallbacks(proxyClass, new Callback[]{interceptor});
-        enhancer.setClassLoader(tClass.getClassLoader());
+        var proxyClass = PROXY_CLASSES.get(tClass)
+                .computeIfAbsent(interceptor.getClass(), interceptorClass -> createProxyClass(tClass, interceptorClass));
 
-        var objenesis = new ObjenesisStd();
-        var proxy = objenesis.newInstance(proxyClass);
+        var proxy = (Factory) OBJENESIS.newInstance(proxyClass);
+        proxy.setCallbacks(new Callback[]{interceptor});
         return (T) proxy;
     }
 }
@@ -30,6 +30,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.NOT;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.condition;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.BrowserPredicate.*;
 
 public final class CommonElementCriteria {
 
@@ -44,7 +45,7 @@ public final class CommonElementCriteria {
      * @return criteria that checks/filters an element/widget
      */
     public static <T extends SearchContext> Criteria<T> visible() {
-        return condition("visible", t -> {
+        return condition("visible", new BrowserPredicate<T>(VISIBLE, t -> {
             var tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return ((WebElement) t).isDisplayed();
@@ -61,7 +62,7 @@ public final class CommonElementCriteria {
             }
 
             return false;
-        });
+        }));
     }
 
     /**
@@ -71,7 +72,7 @@ public final class CommonElementCriteria {
      * @return criteria that checks/filters an element/widget
      */
     public static <T extends SearchContext> Criteria<T> enabled() {
-        return condition("enabled", t -> {
+        return condition("enabled", new BrowserPredicate<T>(ENABLED, t -> {
             var tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return ((WebElement) t).isEnabled();
@@ -88,7 +89,7 @@ public final class CommonElementCriteria {
             }
 
             return false;
-        });
+        }));
     }
 
     /**
@@ -101,7 +102,7 @@ public final class CommonElementCriteria {
     static <T extends SearchContext> Criteria<T> text(String text) {
         checkArgument(isNotBlank(text), "Text should be defined");
 
-        return condition(format("has text '%s'", text), t -> {
+        return condition(format("has text '%s'", text), new BrowserPredicate<T>(TEXT, t -> {
             var clazz = t.getClass();
 
             if (WebElement.class.isAssignableFrom(clazz)) {
@@ -115,7 +116,7 @@ public final class CommonElementCriteria {
             } else {
                 return false;
             }
-        });
+        }, text));
     }
 
     private static List<String> labelsFromMethods(Method[] methods, Object from) {
@@ -224,7 +225,7 @@ public final class CommonElementCriteria {
         checkArgument(!isBlank(attribute), "Attribute name should be defined");
         checkArgument(!isBlank(attrValue), "Attribute value should be defined");
 
-        return condition(format("has attribute '%s=\"%s\"'", attribute, attrValue), t -> {
+        return condition(format("has attribute '%s=\"%s\"'", attribute, attrValue), new BrowserPredicate<T>(ATTR, t -> {
             var tClass = t.getClass();
             String attrVal = null;
 
@@ -243,7 +244,7 @@ public final class CommonElementCriteria {
             }
 
             return Objects.equals(attrVal, attrValue);
-        });
+        }, attribute, attrValue));
     }
 
     /**
@@ -309,7 +310,7 @@ public final class CommonElementCriteria {
         checkArgument(!isBlank(cssProperty), "Css property should be defined");
         checkArgument(!isBlank(cssValue), "Css value should be defined");
 
-        return condition(format("has css property '%s=\"%s\"'", cssProperty, cssValue), t -> {
+        return condition(format("has css property '%s=\"%s\"'", cssProperty, cssValue), new BrowserPredicate<T>(CSS, t -> {
             var tClass = t.getClass();
             String val = null;
 
@@ -328,7 +329,7 @@ public final class CommonElementCriteria {
             }
 
             return Objects.equals(val, cssValue);
-        });
+        }, cssProperty, cssValue));
     }
 
     /**
@@ -1,8 +1,10 @@
 package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 
 import java.util.List;
 import java.util.function.Function;
@@ -11,7 +13,10 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CGLibProxyBuilder.createProxy;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.FoundElements.foundInCurrentSearch;
+import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.EVALUATE_CRITERIA_IN_BROWSER;
 
 final class FindWebElements implements Function<SearchContext, List<WebElement>> {
 
@@ -26,12 +31,39 @@ final class FindWebElements implements Function<SearchContext, List<WebElement>>
         return new FindWebElements(by);
     }
 
+    private static JavascriptExecutor getExecutor(SearchContext searchContext, List<WebElement> found) {
+        if (searchContext instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) searchContext;
+        }
+
+        if (searchContext instanceof WrapsDriver) {
+            var driver = ((WrapsDriver) searchContext).getWrappedDriver();
+            if (driver instanceof JavascriptExecutor) {
+                return (JavascriptExecutor) driver;
+            }
+        }
+
+        return found.stream()
+                .filter(webElement -> webElement instanceof WrapsDriver)
+                .map(webElement -> ((WrapsDriver) webElement).getWrappedDriver())
+                .filter(driver -> driver instanceof JavascriptExecutor)
+                .map(driver -> (JavascriptExecutor) driver)
+                .findFirst()
+                .orElse(null);
+    }
+
     @Override
     public List<WebElement> apply(SearchContext searchContext) {
-        return new LoggableElementList<>(searchContext.findElements(by)
-                .stream().map(webElement -> {
-                    var stringDescription = format("Web element found [%s]", by);
-                    return createProxy(webElement.getClass(), new WebElementInterceptor(webElement, stringDescription));
+        var found = searchContext.findElements(by);
+        var foundElements = EVALUATE_CRITERIA_IN_BROWSER.get() ?
+                foundInCurrentSearch(found, getExecutor(searchContext, found)) : null;
+        var stringDescription = format("Web element found [%s]", by);
+
+        return new LoggableElementList<>(range(0, found.size())
+                .mapToObj(i -> {
+                    var webElement = found.get(i);
+                    return createProxy(webElement.getClass(),
+                            new WebElementInterceptor(webElement, stringDescription, foundElements, i));
                 })
                 .collect(toList())) {
             @Override
@@ -1,9 +1,8 @@
 package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import ru.tinkoff.qa.neptune.core.api.index.ClassIndex;
 import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
 
 import java.lang.reflect.Modifier;
@@ -20,18 +19,15 @@ import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.selenium.api.widget.Widget.getWidgetName;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CGLibProxyBuilder.createProxy;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindByBuilder.getAnnotations;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetLocator.findAll;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetPriorityComparator.widgetPriorityComparator;
 
 class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>> {
 
-    private static final FindByBuilder BUILDER = new FindByBuilder();
-    private static final ScanResult SCAN_RESULT = new ClassGraph()
-            .enableAllInfo()
-            .scan();
-
     final Class<? extends R> classOfAWidget;
     private final Predicate<Class<? extends R>> classPredicate;
     private List<Class<? extends R>> classesToInstantiate;
+    private List<WidgetLocator> locators;
 
     FindWidgets(Class<R> classOfAWidget, Predicate<Class<? extends R>> classPredicate) {
         checkArgument(nonNull(classOfAWidget), "The class to be instantiated should be defined.");
@@ -57,9 +53,9 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
 
     private static <R extends Widget> List<Class<? extends R>> findSubclasses(Class<? extends R> classOfAWidget,
                                                                               Predicate<Class<? extends R>> classPredicate) {
-        return SCAN_RESULT.getSubclasses(classOfAWidget.getName())
-                .loadClasses(classOfAWidget)
+        return ClassIndex.getSubclasses(classOfAWidget)
                 .stream()
+                .<Class<? extends R>>map(c -> c)
                 .filter(classPredicate)
                 .sorted(widgetPriorityComparator()).collect(toList());
     }
@@ -101,12 +97,18 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
             }
         };
 
-        classesToInstantiate.forEach(clazz -> {
-            var by = BUILDER.buildIt(clazz);
-            result.addAll(searchContext.findElements(by).stream()
+        locators = ofNullable(locators)
+                .orElseGet(() -> classesToInstantiate.stream().map(WidgetLocator::getLocator).collect(toList()));
+
+        var found = classesToInstantiate.size() > 1 ? findAll(searchContext, locators) : null;
+
+        for (int i = 0; i < classesToInstantiate.size(); i++) {
+            var clazz = classesToInstantiate.get(i);
+            var elements = nonNull(found) ? found.get(i) : searchContext.findElements(locators.get(i).getBy());
+            result.addAll(elements.stream()
                     .map(webElement -> createProxy(clazz, new WidgetInterceptor(webElement, clazz)))
                     .collect(toList()));
-        });
+        }
         return result;
     }
 }
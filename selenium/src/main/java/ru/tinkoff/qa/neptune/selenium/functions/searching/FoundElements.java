@@ -0,0 +1,94 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Elements which are found by the same invocation of {@link org.openqa.selenium.SearchContext#findElements}.
+ * Each {@link BrowserPredicate} is evaluated once for all these elements by one script. Results are kept
+ * only while the search is performed. Found elements are checked by java after that.
+ */
+final class FoundElements {
+
+    private static final ThreadLocal<List<FoundElements>> CURRENT_SEARCH = new ThreadLocal<>();
+
+    private final List<WebElement> elements;
+    private final JavascriptExecutor executor;
+    private final Map<BrowserPredicate<?>, Boolean[]> results = new IdentityHashMap<>();
+    private boolean isReleased;
+
+    private FoundElements(List<WebElement> elements, JavascriptExecutor executor) {
+        this.elements = elements;
+        this.executor = executor;
+    }
+
+    /**
+     * Makes a function which performs the search. Results of the checking by the browser are available
+     * only during the applying of the function. A search that is performed inside another search
+     * shares its scope.
+     *
+     * @param search is a function that performs the search
+     * @param <T>    is a type of an input value
+     * @param <R>    is a type of a result
+     * @return a function that performs the search
+     */
+    static <T, R> Function<T, R> inSearchScope(Function<T, R> search) {
+        return t -> {
+            if (CURRENT_SEARCH.get() != null) {
+                return search.apply(t);
+            }
+
+            var found = new ArrayList<FoundElements>();
+            CURRENT_SEARCH.set(found);
+            try {
+                return search.apply(t);
+            } finally {
+                CURRENT_SEARCH.remove();
+                found.forEach(FoundElements::release);
+            }
+        };
+    }
+
+    /**
+     * Creates an instance of {@link FoundElements} which belongs to the current search.
+     *
+     * @param elements are elements found by the same invocation of {@link org.openqa.selenium.SearchContext#findElements}
+     * @param executor is the executor of scripts
+     * @return an instance of {@link FoundElements} or {@code null} when no search is performed
+     */
+    static FoundElements foundInCurrentSearch(List<WebElement> elements, JavascriptExecutor executor) {
+        var search = CURRENT_SEARCH.get();
+        if (search == null) {
+            return null;
+        }
+
+        var result = new FoundElements(elements, executor);
+        search.add(result);
+        return result;
+    }
+
+    /**
+     * Returns result of the checking of an element by the browser.
+     *
+     * @param predicate is the predicate to check found elements
+     * @param index     is an index of the found element
+     * @return result of the checking or {@code null} when the element can't be checked by the browser
+     */
+    synchronized Boolean check(BrowserPredicate<?> predicate, int index) {
+        if (isReleased) {
+            return null;
+        }
+        return results.computeIfAbsent(predicate, p -> p.evaluate(executor, elements))[index];
+    }
+
+    private synchronized void release() {
+        isReleased = true;
+        results.clear();
+    }
+}
@@ -20,6 +20,7 @@ import static java.lang.String.format;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.OR;
 import static ru.tinkoff.qa.neptune.selenium.api.widget.Widget.getWidgetName;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonElementCriteria.*;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.FoundElements.inSearchScope;
 import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.FIND_ONLY_VISIBLE_ELEMENTS;
 import static ru.tinkoff.qa.neptune.selenium.properties.WaitingProperties.ELEMENT_WAITING_DURATION;
 
@@ -614,4 +615,9 @@ public final class MultipleSearchSupplier<R extends SearchContext> extends
     public MultipleSearchSupplier<R> clone() {
         return super.clone();
     }
+
+    @Override
+    protected Function<SearchContext, List<R>> getEndFunction() {
+        return inSearchScope(super.getEndFunction());
+    }
 }
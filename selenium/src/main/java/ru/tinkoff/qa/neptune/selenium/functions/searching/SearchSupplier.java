@@ -18,6 +18,7 @@ import static java.util.Optional.ofNullable;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.OR;
 import static ru.tinkoff.qa.neptune.selenium.api.widget.Widget.getWidgetName;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonElementCriteria.*;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.FoundElements.inSearchScope;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindWebElements.webElements;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindWidgets.widgets;
 import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.FIND_ONLY_VISIBLE_ELEMENTS;
@@ -625,4 +626,9 @@ public final class SearchSupplier<R extends SearchContext>
     public SearchSupplier<R> clone() {
         return super.clone();
     }
+
+    @Override
+    protected Function<SearchContext, R> getEndFunction() {
+        return inSearchScope(super.getEndFunction());
+    }
 }
@@ -12,10 +12,25 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 class WebElementInterceptor extends AbstractElementInterceptor {
 
     private final String description;
+    private final FoundElements foundElements;
+    private final int index;
 
     WebElementInterceptor(WebElement element, String description) {
+        this(element, description, null, -1);
+    }
+
+    WebElementInterceptor(WebElement element, String description, FoundElements foundElements, int index) {
         super(element);
         this.description = description;
+        this.foundElements = foundElements;
+        this.index = index;
+    }
+
+    Boolean checkByBrowser(BrowserPredicate<?> predicate) {
+        if (foundElements == null) {
+            return null;
+        }
+        return foundElements.check(predicate, index);
     }
 
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
@@ -0,0 +1,195 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Locator of a widget class. It is built once for each class. Simple locators (by id, name, class name,
+ * tag name, css selector or xpath) of different widget classes can be used together to find all
+ * widgets by one script.
+ */
+final class WidgetLocator {
+
+    private static final FindByBuilder BUILDER = new FindByBuilder();
+
+    private static final ClassValue<WidgetLocator> LOCATORS = new ClassValue<>() {
+        @Override
+        protected WidgetLocator computeValue(Class<?> type) {
+            return new WidgetLocator(BUILDER.buildIt(type));
+        }
+    };
+
+    private static final String SCRIPT = "var root = arguments[0] || document;\n" +
+            "return arguments[1].map(function (q) {\n" +
+            "    var type = q[0], value = q[1];\n" +
+            "    if (type === 'xpath') {\n" +
+            "        var found = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "        var result = [];\n" +
+            "        for (var i = 0; i < found.snapshotLength; i++) {\n" +
+            "            var node = found.snapshotItem(i);\n" +
+            "            if (node.nodeType === 1) {\n" +
+            "                result.push(node);\n" +
+            "            }\n" +
+            "        }\n" +
+            "        return result;\n" +
+            "    }\n" +
+            "    var selector = type === 'id' ? '#' + CSS.escape(value)\n" +
+            "        : type === 'className' ? '.' + CSS.escape(value)\n" +
+            "        : type === 'name' ? '*[name=\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"]'\n" +
+            "        : value;\n" +
+            "    return Array.prototype.slice.call(root.querySelectorAll(selector));\n" +
+            "});";
+
+    private static final Map<Class<? extends By>, SimpleLocator> SIMPLE_LOCATORS = new HashMap<>();
+
+    static {
+        addSimpleLocator(By.ById.class, "id", "id");
+        addSimpleLocator(By.ByName.class, "name", "name");
+        addSimpleLocator(By.ByClassName.class, "className", "className");
+        addSimpleLocator(By.ByTagName.class, "tagName", "tagName");
+        addSimpleLocator(By.ByCssSelector.class, "cssSelector", "cssSelector");
+        addSimpleLocator(By.ByXPath.class, "xpath", "xpathExpression");
+    }
+
+    private final By by;
+    private final List<String> query;
+
+    WidgetLocator(By by) {
+        this.by = by;
+        this.query = toQuery(by);
+    }
+
+    static WidgetLocator getLocator(Class<?> widgetClass) {
+        return LOCATORS.get(widgetClass);
+    }
+
+    private static void addSimpleLocator(Class<? extends By> byClass, String type, String valueField) {
+        try {
+            var field = byClass.getDeclaredField(valueField);
+            field.setAccessible(true);
+            SIMPLE_LOCATORS.put(byClass, new SimpleLocator(type, field));
+        } catch (RuntimeException | NoSuchFieldException e) {
+            //the locator is not simple for the current version of selenium. It is used as is.
+        }
+    }
+
+    /**
+     * Makes a query of the script.
+     *
+     * @param by is a locator to make a query from
+     * @return a list of a type and a value of the locator. It returns {@code null} when the locator is not simple.
+     * Subclasses of simple locators are not simple too because they may find elements by other way.
+     */
+    static List<String> toQuery(By by) {
+        if (by == null) {
+            return null;
+        }
+
+        var simpleLocator = SIMPLE_LOCATORS.get(by.getClass());
+        if (simpleLocator == null) {
+            return null;
+        }
+
+        try {
+            var value = simpleLocator.value.get(by);
+            return value instanceof String ? List.of(simpleLocator.type, (String) value) : null;
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static JavascriptExecutor getExecutor(SearchContext searchContext) {
+        if (searchContext instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) searchContext;
+        }
+
+        var context = searchContext;
+        if (!(context instanceof WrapsDriver) && context instanceof WrapsElement) {
+            context = ((WrapsElement) context).getWrappedElement();
+        }
+
+        if (context instanceof WrapsDriver) {
+            var driver = ((WrapsDriver) context).getWrappedDriver();
+            if (driver instanceof JavascriptExecutor) {
+                return (JavascriptExecutor) driver;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds elements by locators of all widget classes by one script.
+     *
+     * @param searchContext is a context to find elements from
+     * @param locators      are locators of widget classes
+     * @return lists of found elements. Each list corresponds to the locator which has the same index.
+     * It returns {@code null} when some locator is not simple or the script can't be executed.
+     */
+    static List<List<WebElement>> findAll(SearchContext searchContext, List<WidgetLocator> locators) {
+        var queries = new ArrayList<List<String>>();
+        for (var locator : locators) {
+            if (locator.query == null) {
+                return null;
+            }
+            queries.add(locator.query);
+        }
+
+        var executor = getExecutor(searchContext);
+        if (executor == null) {
+            return null;
+        }
+
+        Object returned;
+        try {
+            returned = executor.executeScript(SCRIPT, searchContext instanceof WebElement
+                    || searchContext instanceof WrapsElement ? searchContext : null, queries);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        if (!(returned instanceof List) || ((List<?>) returned).size() != locators.size()) {
+            return null;
+        }
+
+        var result = new ArrayList<List<WebElement>>();
+        for (var found : (List<?>) returned) {
+            if (!(found instanceof List)) {
+                return null;
+            }
+
+            var elements = new ArrayList<WebElement>();
+            for (var element : (List<?>) found) {
+                if (!(element instanceof WebElement)) {
+                    return null;
+                }
+                elements.add((WebElement) element);
+            }
+            result.add(elements);
+        }
+        return result;
+    }
+
+    By getBy() {
+        return by;
+    }
+
+    private static final class SimpleLocator {
+        private final String type;
+        private final Field value;
+
+        private SimpleLocator(String type, Field value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.tinkoff.qa.neptune.selenium.properties;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.duration.DurationSupplier;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+import ru.tinkoff.qa.neptune.core.api.properties.longs.LongValuePropertySupplier;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LivenessCheckIntervalTimeUnit.LIVENESS_CHECK_INTERVAL_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LivenessCheckIntervalTimeValue.LIVENESS_CHECK_INTERVAL_TIME_VALUE;
+
+/**
+ * Reads properties {@code 'WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_UNIT'} and
+ * {@code 'WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_VALUE'} and builds an instance of {@link Duration}.
+ * <p>
+ * An opened WebDriver session is considered alive until some command fails because the session is lost.
+ * A session which is kept opened after a test is checked by a command once when the next test uses it.
+ * When the duration is defined, the session is also checked by a command when there were no successful commands
+ * during this time.
+ */
+public final class LivenessCheckInterval extends DurationSupplier {
+
+    /**
+     * Reads properties {@code 'WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_UNIT'} and
+     * {@code 'WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_VALUE'} and builds an instance of {@link Duration}.
+     * When any of properties is not defined then it returns {@code null}. It means that the session
+     * is not checked periodically.
+     */
+    public static final LivenessCheckInterval LIVENESS_CHECK_INTERVAL =
+            new LivenessCheckInterval(LIVENESS_CHECK_INTERVAL_TIME_UNIT, LIVENESS_CHECK_INTERVAL_TIME_VALUE);
+
+    private LivenessCheckInterval(LivenessCheckIntervalTimeUnit timeUnit,
+                                  LivenessCheckIntervalTimeValue timeValue) {
+        super(timeUnit, timeValue);
+    }
+
+    @PropertyDescription(description = {
+            "Time unit (see java.time.temporal.ChronoUnit) of the interval of the checking of a WebDriver session.",
+            "The session is checked when there were no successful commands during this time.",
+            "When it is not defined then the session is considered alive until some command fails"},
+            section = "Selenium. Session flags")
+    @PropertyName("WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_UNIT")
+    public static final class LivenessCheckIntervalTimeUnit implements EnumPropertySuppler<ChronoUnit> {
+
+        /**
+         * Reads the property value and is used to get access to its value.
+         */
+        public static final LivenessCheckIntervalTimeUnit LIVENESS_CHECK_INTERVAL_TIME_UNIT =
+                new LivenessCheckIntervalTimeUnit();
+
+        private LivenessCheckIntervalTimeUnit() {
+            super();
+        }
+    }
+
+    @PropertyDescription(description = {
+            "Value of the interval of the checking of a WebDriver session.",
+            "The session is checked when there were no successful commands during this time.",
+            "When it is not defined then the session is considered alive until some command fails"},
+            section = "Selenium. Session flags")
+    @PropertyName("WEB_DRIVER_LIVENESS_CHECK_INTERVAL_TIME_VALUE")
+    public static final class LivenessCheckIntervalTimeValue implements LongValuePropertySupplier {
+
+        /**
+         * Reads the property value and is used to get access to its value.
+         */
+        public static final LivenessCheckIntervalTimeValue LIVENESS_CHECK_INTERVAL_TIME_VALUE =
+                new LivenessCheckIntervalTimeValue();
+
+        private LivenessCheckIntervalTimeValue() {
+            super();
+        }
+    }
+}
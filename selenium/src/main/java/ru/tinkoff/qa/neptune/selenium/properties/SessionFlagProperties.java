@@ -24,5 +24,12 @@ public enum SessionFlagProperties implements BooleanValuePropertySupplier {
     @PropertyDescription(description = {"It means that WebDriver session will be using browser proxy"},
             section = "Selenium. Session flags")
     @PropertyName("USE_BROWSER_PROXY")
-    USE_BROWSER_PROXY
+    USE_BROWSER_PROXY,
+
+    @PropertyDescription(description = {"It means that some criteria (visible, enabled, text, attribute and css value) of web elements",
+            "are checked by the browser. All web elements found by the same search are checked by one script",
+            "per criteria. Elements which can't be checked by the browser are checked as usual"},
+            section = "Selenium. Session flags")
+    @PropertyName("EVALUATE_CRITERIA_IN_BROWSER")
+    EVALUATE_CRITERIA_IN_BROWSER
 }
@@ -0,0 +1,193 @@
+package ru.tinkoff.qa.neptune.selenium;
+
+import net.sf.cglib.proxy.Enhancer;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LIVENESS_CHECK_INTERVAL;
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LivenessCheckIntervalTimeUnit.LIVENESS_CHECK_INTERVAL_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.selenium.properties.LivenessCheckInterval.LivenessCheckIntervalTimeValue.LIVENESS_CHECK_INTERVAL_TIME_VALUE;
+
+public class SessionLivenessTest {
+
+    private static SessionLiveness startedSession(Duration checkInterval) {
+        var liveness = new SessionLiveness(checkInterval);
+        liveness.sessionStarted();
+        return liveness;
+    }
+
+    private static TrackedDriver trackedDriver(SessionLiveness liveness) {
+        var enhancer = new Enhancer();
+        enhancer.setSuperclass(TrackedDriver.class);
+        enhancer.setCallback(new WebDriverMethodInterceptor(liveness));
+        return (TrackedDriver) enhancer.create();
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        clearProperty(LIVENESS_CHECK_INTERVAL_TIME_UNIT.getName());
+        clearProperty(LIVENESS_CHECK_INTERVAL_TIME_VALUE.getName());
+    }
+
+    @Test
+    public void intervalIsNotDefinedByDefaultTest() {
+        assertThat(LIVENESS_CHECK_INTERVAL.get(), nullValue());
+    }
+
+    @Test
+    public void intervalIsDefinedTest() {
+        setProperty(LIVENESS_CHECK_INTERVAL_TIME_UNIT.getName(), "SECONDS");
+        setProperty(LIVENESS_CHECK_INTERVAL_TIME_VALUE.getName(), "30");
+        assertThat(LIVENESS_CHECK_INTERVAL.get(), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    public void notStartedSessionIsNotTrustedTest() {
+        var liveness = new SessionLiveness(null);
+        assertThat(liveness.isLost(), is(true));
+        assertThat(liveness.isTrusted(), is(false));
+    }
+
+    @Test
+    public void sessionIsTrustedUntilItIsLostByDefaultTest() throws Exception {
+        var liveness = startedSession(null);
+        Thread.sleep(100);
+        assertThat(liveness.isTrusted(), is(true));
+
+        liveness.sessionLost();
+        assertThat(liveness.isLost(), is(true));
+        assertThat(liveness.isTrusted(), is(false));
+    }
+
+    @Test
+    public void sessionIsNotTrustedWhenIntervalIsExpiredTest() throws Exception {
+        var liveness = startedSession(ofMillis(50));
+        assertThat(liveness.isTrusted(), is(true));
+
+        Thread.sleep(100);
+        assertThat(liveness.isTrusted(), is(false));
+        assertThat(liveness.isLost(), is(false));
+
+        liveness.commandSucceeded();
+        assertThat(liveness.isTrusted(), is(true));
+    }
+
+    @Test
+    public void sessionIsCheckedOnNextRequestTest() {
+        var liveness = startedSession(null);
+        liveness.checkOnNextRequest();
+        assertThat(liveness.isTrusted(), is(false));
+        assertThat(liveness.isLost(), is(false));
+
+        liveness.commandSucceeded();
+        assertThat(liveness.isTrusted(), is(true));
+    }
+
+    @Test
+    public void savedChecksTest() {
+        var liveness = startedSession(null);
+        liveness.checksSaved(1);
+        liveness.checksSaved(2);
+        assertThat(liveness.getSavedChecks(), is(3L));
+
+        liveness.resetSavedChecks();
+        assertThat(liveness.getSavedChecks(), is(0L));
+    }
+
+    @Test
+    public void sessionLostErrorsTest() {
+        assertThat(SessionLiveness.isSessionLost(new NoSuchSessionException("test")), is(true));
+        assertThat(SessionLiveness.isSessionLost(new RuntimeException(new UnreachableBrowserException("test"))),
+                is(true));
+        assertThat(SessionLiveness.isSessionLost(new WebDriverException("test")), is(false));
+        assertThat(SessionLiveness.isSessionLost(null), is(false));
+    }
+
+    @Test
+    public void interceptorTracksSucceededCommandTest() {
+        var liveness = startedSession(null);
+        var driver = trackedDriver(liveness);
+        liveness.checkOnNextRequest();
+
+        assertThat(driver.getCurrentUrl(), is("https://www.google.com"));
+        assertThat(liveness.isTrusted(), is(true));
+    }
+
+    @Test
+    public void interceptorTracksWebDriverExceptionAsResponseTest() {
+        var liveness = startedSession(null);
+        var driver = trackedDriver(liveness);
+        liveness.checkOnNextRequest();
+        driver.toThrow = new WebDriverException("test");
+
+        assertThrows(driver);
+        assertThat(liveness.isLost(), is(false));
+        assertThat(liveness.isTrusted(), is(true));
+    }
+
+    @Test
+    public void interceptorTracksLostSessionTest() {
+        var liveness = startedSession(null);
+        var driver = trackedDriver(liveness);
+        driver.toThrow = new NoSuchSessionException("test");
+
+        assertThrows(driver);
+        assertThat(liveness.isLost(), is(true));
+        assertThat(liveness.isTrusted(), is(false));
+    }
+
+    @Test
+    public void interceptorTracksQuitTest() {
+        var liveness = startedSession(null);
+        var driver = trackedDriver(liveness);
+
+        driver.quit();
+        assertThat(liveness.isLost(), is(true));
+    }
+
+    @Test
+    public void interceptorWithoutTrackingTest() {
+        var enhancer = new Enhancer();
+        enhancer.setSuperclass(TrackedDriver.class);
+        enhancer.setCallback(new WebDriverMethodInterceptor());
+        var driver = (TrackedDriver) enhancer.create();
+
+        assertThat(driver.getCurrentUrl(), is("https://www.google.com"));
+        driver.quit();
+    }
+
+    private static void assertThrows(TrackedDriver driver) {
+        Exception thrown = null;
+        try {
+            driver.getCurrentUrl();
+        } catch (Exception e) {
+            thrown = e;
+        }
+        assertThat(thrown, sameInstance(driver.toThrow));
+    }
+
+    public static class TrackedDriver {
+
+        private RuntimeException toThrow;
+
+        public String getCurrentUrl() {
+            if (toThrow != null) {
+                throw toThrow;
+            }
+            return "https://www.google.com";
+        }
+
+        public void quit() {
+        }
+    }
+}
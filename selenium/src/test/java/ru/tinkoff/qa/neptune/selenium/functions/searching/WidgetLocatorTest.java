@@ -0,0 +1,153 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ByIdOrName;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.test.MockWebDriver;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetLocator.findAll;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetLocator.toQuery;
+import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.*;
+
+public class WidgetLocatorTest {
+
+    private static List<WidgetLocator> locators(By... by) {
+        return stream(by).map(WidgetLocator::new).collect(toList());
+    }
+
+    @DataProvider
+    public static Object[][] simpleLocators() {
+        return new Object[][]{
+                {By.id("id1"), List.of("id", "id1")},
+                {By.name("name1"), List.of("name", "name1")},
+                {By.className("class1"), List.of("className", "class1")},
+                {By.tagName("tag1"), List.of("tagName", "tag1")},
+                {By.cssSelector("div > a"), List.of("cssSelector", "div > a")},
+                {By.xpath("//div[@id='id: 1']"), List.of("xpath", "//div[@id='id: 1']")}
+        };
+    }
+
+    @DataProvider
+    public static Object[][] notSimpleLocators() {
+        return new Object[][]{
+                {By.linkText("link")},
+                {By.partialLinkText("link")},
+                {new ByIdOrName("id1")},
+                {new By.ById("id1") {
+                    @Override
+                    public List<WebElement> findElements(SearchContext context) {
+                        return List.of();
+                    }
+                }}
+        };
+    }
+
+    @Test(dataProvider = "simpleLocators")
+    public void queryOfSimpleLocatorTest(By by, List<String> expected) {
+        assertThat(toQuery(by), is(expected));
+    }
+
+    @Test(dataProvider = "notSimpleLocators")
+    public void queryOfNotSimpleLocatorTest(By by) {
+        assertThat(toQuery(by), nullValue());
+    }
+
+    @Test
+    public void queryOfNullTest() {
+        assertThat(toQuery(null), nullValue());
+    }
+
+    @Test
+    public void findAllByOneScriptTest() {
+        var driver = new MockWebDriver();
+        var found = findAll(driver, locators(By.tagName(BUTTON_TAG), By.className(CUSTOM_BUTTON_CLASS)));
+
+        assertThat(driver.getExecutedWidgetScripts(), is(1));
+        assertThat(found, contains(driver.findElements(By.tagName(BUTTON_TAG)),
+                driver.findElements(By.className(CUSTOM_BUTTON_CLASS))));
+        assertThat(found.get(0), hasItems(COMMON_BUTTON1, COMMON_LABELED_BUTTON1));
+        assertThat(found.get(1), hasItem(CUSTOM_LABELED_BUTTON1));
+    }
+
+    @Test
+    public void findAllByNotSimpleLocatorTest() {
+        var driver = new MockWebDriver();
+        assertThat(findAll(driver, locators(By.tagName(BUTTON_TAG), By.linkText("link"))), nullValue());
+        assertThat(driver.getExecutedWidgetScripts(), is(0));
+    }
+
+    @Test
+    public void findAllWithoutScriptExecutorTest() {
+        var context = new SearchContext() {
+            @Override
+            public List<WebElement> findElements(By by) {
+                return List.of();
+            }
+
+            @Override
+            public WebElement findElement(By by) {
+                return null;
+            }
+        };
+        assertThat(findAll(context, locators(By.tagName(BUTTON_TAG), By.id("id1"))), nullValue());
+    }
+
+    @DataProvider
+    public static Object[][] unexpectedResults() {
+        return new Object[][]{
+                {(Function<Object[], Object>) args -> {
+                    throw new UnsupportedOperationException("test");
+                }},
+                {(Function<Object[], Object>) args -> null},
+                {(Function<Object[], Object>) args -> List.of(List.of())},
+                {(Function<Object[], Object>) args -> List.of(List.of(), "string")},
+                {(Function<Object[], Object>) args -> List.of(List.of(), List.of("string"))}
+        };
+    }
+
+    @Test(dataProvider = "unexpectedResults")
+    public void findAllWithUnexpectedResultTest(Function<Object[], Object> script) {
+        var context = new ScriptContext(script);
+        assertThat(findAll(context, locators(By.tagName(BUTTON_TAG), By.id("id1"))), nullValue());
+    }
+
+    private static final class ScriptContext implements SearchContext, JavascriptExecutor {
+
+        private final Function<Object[], Object> script;
+
+        private ScriptContext(Function<Object[], Object> script) {
+            this.script = script;
+        }
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            return this.script.apply(args);
+        }
+
+        @Override
+        public Object executeAsyncScript(String script, Object... args) {
+            return this.script.apply(args);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return null;
+        }
+    }
+}
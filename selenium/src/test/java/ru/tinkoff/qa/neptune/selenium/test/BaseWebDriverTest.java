@@ -5,6 +5,7 @@ import org.mockito.Mock;
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitingMetrics;
 import ru.tinkoff.qa.neptune.selenium.SeleniumStepContext;
 import ru.tinkoff.qa.neptune.selenium.WebDriverMethodInterceptor;
 import ru.tinkoff.qa.neptune.selenium.WrappedWebDriver;
@@ -13,6 +14,8 @@ import java.time.Duration;
 
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static ru.tinkoff.qa.neptune.selenium.properties.SupportedWebDrivers.CHROME_DRIVER;
@@ -51,6 +54,17 @@ public abstract class BaseWebDriverTest {
         return end - start;
     }
 
+    /**
+     * Checks that the last waiting of current thread has got the valuable result by the first attempt
+     * and there was no sleeping. It does not depend on the speed of the machine that runs tests.
+     */
+    protected static void assertFoundWithoutSleeping() {
+        var metrics = WaitingMetrics.last();
+        assertThat(metrics.getSucceeded(), is(1L));
+        assertThat(metrics.getAttempts(), is(1L));
+        assertThat(metrics.getWastedTime(), is(Duration.ZERO));
+    }
+
     @BeforeClass
     public void setUpBeforeClass() {
         initMocks(this);
@@ -10,10 +10,12 @@ import ru.tinkoff.qa.neptune.selenium.test.enums.URLs;
 import ru.tinkoff.qa.neptune.selenium.test.enums.WindowHandles;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.getFakeDOM;
 import static ru.tinkoff.qa.neptune.selenium.test.SequenceSpy.setActions;
 import static ru.tinkoff.qa.neptune.selenium.test.enums.URLs.BLANK;
@@ -31,6 +33,8 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
     private boolean isSwitchedToParentFrame;
     private Object currentFrame;
     public String lastNavigationURLAsIs;
+    private int executedCriteriaScripts;
+    private int executedWidgetScripts;
 
     final Map<String, LinkedList<URLs>> handlesAndUrlHistory = new HashMap<>() {
         {
@@ -48,6 +52,9 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
         }
     };
 
+    private static final String CRITERIA_SCRIPT_START = "var check = ";
+    private static final String WIDGET_SCRIPT_START = "var root = arguments[0] || document;";
+
     private MockWebDriver(List<MockWebElement> children) {
         this.children = children;
         children.forEach(mockWebElement -> mockWebElement.setDriver(this));
@@ -164,12 +171,92 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
     }
 
     private Object executeMockScripts(String script, Object... args) {
+        if (script.startsWith(CRITERIA_SCRIPT_START)) {
+            return executeCriteriaScript(script.substring(CRITERIA_SCRIPT_START.length()), args);
+        }
+
+        if (script.startsWith(WIDGET_SCRIPT_START)) {
+            return executeWidgetScript(args);
+        }
+
         return Arrays.stream(Scripts.values()).filter(scripts -> script.equals(scripts.getScript()))
                 .findFirst().map(scripts -> scripts.execute(args))
                 .orElseThrow(() -> new UnsupportedOperationException(format("%s can't be executed with parameters %s",
                         script, ArrayUtils.toString(args))));
     }
 
+    /**
+     * Emulates the script which checks all elements found by the same search.
+     * The checking function is recognized by its signature.
+     */
+    private Object executeCriteriaScript(String check, Object... args) {
+        executedCriteriaScripts++;
+        Predicate<MockWebElement> predicate;
+        if (check.startsWith("function (e, name, value)")) {
+            predicate = e -> Objects.equals(e.getAttribute((String) args[1]), args[2]);
+        } else if (check.startsWith("function (e, property, value)")) {
+            predicate = e -> Objects.equals(e.getCssValue((String) args[1]), args[2]);
+        } else if (check.startsWith("function (e, text)")) {
+            predicate = e -> Objects.equals(e.getText(), args[1]);
+        } else if (check.startsWith("function (e) {return !(e.matches")) {
+            predicate = MockWebElement::isEnabled;
+        } else if (check.startsWith("function (e) {return (")) {
+            predicate = MockWebElement::isDisplayed;
+        } else {
+            throw new UnsupportedOperationException(format("%s can't be executed", check));
+        }
+
+        return ((List<?>) args[0]).stream()
+                .map(e -> predicate.test((MockWebElement) e))
+                .collect(toList());
+    }
+
+    public int getExecutedCriteriaScripts() {
+        return executedCriteriaScripts;
+    }
+
+    /**
+     * Emulates the script which finds elements by locators of many widget classes.
+     */
+    private Object executeWidgetScript(Object... args) {
+        executedWidgetScripts++;
+        var root = args[0] != null ? (SearchContext) args[0] : this;
+        return ((List<?>) args[1]).stream()
+                .map(q -> {
+                    var query = (List<?>) q;
+                    var value = (String) query.get(1);
+                    By by;
+                    switch ((String) query.get(0)) {
+                        case "id":
+                            by = By.id(value);
+                            break;
+                        case "name":
+                            by = By.name(value);
+                            break;
+                        case "className":
+                            by = By.className(value);
+                            break;
+                        case "tagName":
+                            by = By.tagName(value);
+                            break;
+                        case "cssSelector":
+                            by = By.cssSelector(value);
+                            break;
+                        case "xpath":
+                            by = By.xpath(value);
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(format("Query %s can't be executed", query));
+                    }
+                    return root.findElements(by);
+                })
+                .collect(toList());
+    }
+
+    public int getExecutedWidgetScripts() {
+        return executedWidgetScripts;
+    }
+
     @Override
     public Object executeScript(String script, Object... args) {
         return executeMockScripts(script, args);
@@ -1,7 +1,9 @@
 package ru.tinkoff.qa.neptune.selenium.test.captors;
 
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TakesScreenshot;
 import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.captors.WebDriverImageCaptor;
 
 import java.awt.image.BufferedImage;
 
@@ -9,6 +11,7 @@ import static java.time.Duration.ofSeconds;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.openqa.selenium.By.tagName;
+import static org.openqa.selenium.OutputType.BYTES;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.*;
 import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.BUTTON_TAG;
 import static ru.tinkoff.qa.neptune.selenium.test.captors.TestImageInjector.INJECTED;
@@ -82,4 +85,25 @@ public class WebDriverCaptorTest extends BaseCaptorTest {
         assertThat(INJECTED.keySet(), contains(isA(BufferedImage.class), isA(BufferedImage.class)));
         assertThat(INJECTED.values(), contains("Browser screenshot", "Browser screenshot"));
     }
+
+    @Test
+    public void webDriverImageCaptorProducesEncodedImageTest() {
+        var captor = new WebDriverImageCaptor();
+        var driver = captor.getCaptured(seleniumSteps.getWrappedDriver());
+        assertThat(driver, notNullValue());
+
+        var image = captor.getData(driver);
+        assertThat(image.getFormat(), is("png"));
+        assertThat(image.getBytes(), equalTo(((TakesScreenshot) driver).getScreenshotAs(BYTES)));
+        assertThat(image.decode(), notNullValue());
+    }
+
+    @Test
+    public void encodedScreenshotIsDecodedForImageInjectorsTest() {
+        var driver = seleniumSteps.getWrappedDriver();
+        new WebDriverImageCaptor().capture(driver);
+
+        assertThat(INJECTED.size(), is(1));
+        assertThat(INJECTED, hasEntry(isA(BufferedImage.class), equalTo("Browser screenshot")));
+    }
 }
@@ -44,6 +44,24 @@ public class ScrollIntoViewTest extends BaseWebDriverTest {
         assertThat(((MockWebElement) table).getScrollCount(), is(tableScrollCount + 1));
     }
 
+    @Test
+    public void scrollWebElementIntoViewInARow() {
+        var table = seleniumSteps.find(webElement(tagName(TABLE)));
+        var th = seleniumSteps.find(webElement(tagName(TH)).foundFrom(table));
+
+        var tableScrollCount = ((MockWebElement) table).getScrollCount();
+        var thScrollCount = ((MockWebElement) th).getScrollCount();
+
+        seleniumSteps.click(th);
+        seleniumSteps.click(th);
+        assertThat(((MockWebElement) th).getScrollCount(), is(thScrollCount + 1));
+
+        seleniumSteps.click(table);
+        seleniumSteps.click(th);
+        assertThat(((MockWebElement) th).getScrollCount(), is(thScrollCount + 2));
+        assertThat(((MockWebElement) table).getScrollCount(), is(tableScrollCount + 1));
+    }
+
     @Test
     public void scrollElementInsideWidgetIntoView() {
         var table = seleniumSteps.find(table()
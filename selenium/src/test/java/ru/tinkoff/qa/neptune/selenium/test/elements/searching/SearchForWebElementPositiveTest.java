@@ -8,8 +8,6 @@ import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
 import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
 import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
 
-import java.math.BigDecimal;
-
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.openqa.selenium.By.*;
@@ -220,12 +218,8 @@ public class SearchForWebElementPositiveTest extends BaseWebDriverTest {
     public void findElementByCriteriaTest(By by,
                                           Criteria<WebElement> criteria,
                                           WebElement expected) {
-        setStartBenchMark();
         WebElement webElement = seleniumSteps.find(webElement(by).criteria(criteria));
-        setEndBenchMark();
-        assertThat(new BigDecimal(getTimeDifference()),
-                either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                        .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+        assertFoundWithoutSleeping();
         assertThat(webElement, equalTo(expected));
     }
 
@@ -233,14 +227,10 @@ public class SearchForWebElementPositiveTest extends BaseWebDriverTest {
     public void findElementByCriteriaWithDefinedTimeTest(By by,
                                                          Criteria<WebElement> criteria,
                                                          WebElement expected) {
-        setStartBenchMark();
         WebElement webElement = seleniumSteps.find(webElement(by)
                 .timeOut(FIVE_SECONDS)
                 .criteria(criteria));
-        setEndBenchMark();
-        assertThat(new BigDecimal(getTimeDifference()),
-                either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                        .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+        assertFoundWithoutSleeping();
         assertThat(webElement, equalTo(expected));
     }
 
@@ -251,12 +241,8 @@ public class SearchForWebElementPositiveTest extends BaseWebDriverTest {
         setProperty(ELEMENT_WAITING_TIME_UNIT.getName(), "SECONDS");
         setProperty(ELEMENT_WAITING_TIME_VALUE.getName(), "5");
         try {
-            setStartBenchMark();
             WebElement webElement = seleniumSteps.find(webElement(by).criteria(criteria));
-            setEndBenchMark();
-            assertThat(new BigDecimal(getTimeDifference()),
-                    either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                            .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+            assertFoundWithoutSleeping();
             assertThat(webElement, equalTo(expected));
         } finally {
             removeProperty(ELEMENT_WAITING_TIME_UNIT.getName());
@@ -7,12 +7,13 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
 import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+import ru.tinkoff.qa.neptune.selenium.test.MockWebDriver;
 import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import static java.time.Duration.ofMillis;
+import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.openqa.selenium.By.*;
@@ -20,6 +21,7 @@ import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.*;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonElementCriteria.*;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.webElements;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.webElement;
+import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.EVALUATE_CRITERIA_IN_BROWSER;
 import static ru.tinkoff.qa.neptune.selenium.properties.SessionFlagProperties.FIND_ONLY_VISIBLE_ELEMENTS;
 import static ru.tinkoff.qa.neptune.selenium.properties.WaitingProperties.TimeUnitProperties.ELEMENT_WAITING_TIME_UNIT;
 import static ru.tinkoff.qa.neptune.selenium.properties.WaitingProperties.TimeValueProperties.ELEMENT_WAITING_TIME_VALUE;
@@ -40,6 +42,18 @@ public class SearchForWebElementsPositiveTest extends BaseWebDriverTest {
                 equalTo(COMMON_LABELED_BUTTON4)));
     }
 
+    @Test(retryAnalyzer = RetryAnalyzer.class)
+    public void proxyClassIsCreatedOnceTest() {
+        List<WebElement> buttons = seleniumSteps.find(webElements(tagName(BUTTON_TAG)));
+        List<WebElement> tables = seleniumSteps.find(webElements(tagName(TABLE)));
+
+        var proxyClasses = buttons.stream().map(Object::getClass).collect(toSet());
+        proxyClasses.addAll(tables.stream().map(Object::getClass).collect(toSet()));
+        assertThat(proxyClasses, hasSize(1));
+        assertThat(buttons, hasSize(8));
+        assertThat(tables, hasSize(8));
+    }
+
     @Test(retryAnalyzer = RetryAnalyzer.class)
     public void findWebElementsOnlyVisibleImplicitConditionTest() {
         setProperty(FIND_ONLY_VISIBLE_ELEMENTS.getName(), "true");
@@ -352,26 +366,18 @@ public class SearchForWebElementsPositiveTest extends BaseWebDriverTest {
     @Test(dataProvider = "search criteria1", retryAnalyzer = RetryAnalyzer.class)
     public void findElementsByCriteriaTest(By by, Criteria<WebElement> criteria,
                                            Matcher<List<WebElement>> matcher) {
-        setStartBenchMark();
         List<WebElement> webElements = seleniumSteps.find(webElements(by).criteria(criteria));
-        setEndBenchMark();
-        assertThat(new BigDecimal(getTimeDifference()),
-                either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                        .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+        assertFoundWithoutSleeping();
         assertThat(webElements, matcher);
     }
 
     @Test(dataProvider = "search criteria1", retryAnalyzer = RetryAnalyzer.class)
     public void findElementsByCriteriaWithDefinedTimeTest(By by, Criteria<WebElement> criteria,
                                                           Matcher<List<WebElement>> matcher) {
-        setStartBenchMark();
         List<WebElement> webElements = seleniumSteps.find(webElements(by)
                 .timeOut(FIVE_SECONDS)
                 .criteria(criteria));
-        setEndBenchMark();
-        assertThat(new BigDecimal(getTimeDifference()),
-                either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                        .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+        assertFoundWithoutSleeping();
         assertThat(webElements, matcher);
     }
 
@@ -381,16 +387,104 @@ public class SearchForWebElementsPositiveTest extends BaseWebDriverTest {
         setProperty(ELEMENT_WAITING_TIME_UNIT.getName(), "SECONDS");
         setProperty(ELEMENT_WAITING_TIME_VALUE.getName(), "5");
         try {
-            setStartBenchMark();
             List<WebElement> webElements = seleniumSteps.find(webElements(by).criteria(criteria));
-            setEndBenchMark();
-            assertThat(new BigDecimal(getTimeDifference()),
-                    either(closeTo(new BigDecimal(HALF_SECOND.toMillis()), new BigDecimal(450)))
-                            .or(closeTo(new BigDecimal(ONE_SECOND.toMillis()), new BigDecimal(200))));
+            assertFoundWithoutSleeping();
             assertThat(webElements, matcher);
         } finally {
             removeProperty(ELEMENT_WAITING_TIME_UNIT.getName());
             removeProperty(ELEMENT_WAITING_TIME_VALUE.getName());
         }
     }
+
+    @DataProvider(name = "criteria evaluated in browser")
+    public static Object[][] criteriaEvaluatedInBrowser() {
+        return new Object[][]{
+                {tagName(BUTTON_TAG), enabled(),
+                        contains(equalTo(COMMON_BUTTON3),
+                                equalTo(COMMON_BUTTON4),
+                                equalTo(COMMON_LABELED_BUTTON2),
+                                equalTo(COMMON_LABELED_BUTTON4))},
+
+                {xpath(RADIO_BUTTON_XPATH), NOT(enabled()),
+                        contains(equalTo(COMMON_RADIOBUTTON2),
+                                equalTo(COMMON_LABELED_RADIOBUTTON4),
+                                equalTo(COMMON_LABELED_RADIOBUTTON5),
+                                equalTo(COMMON_LABELED_RADIOBUTTON8))},
+
+                {tagName(LINK_TAG), visible(),
+                        contains(
+                                equalTo(COMMON_LABELED_LINK1),
+                                equalTo(COMMON_LABELED_LINK4),
+                                equalTo(COMMON_LINK2),
+                                equalTo(COMMON_LINK3))},
+
+                {tagName(LINK_TAG), NOT(visible()),
+                        contains(
+                                equalTo(COMMON_LABELED_LINK2),
+                                equalTo(COMMON_LABELED_LINK3),
+                                equalTo(COMMON_LINK1),
+                                equalTo(COMMON_LINK4))},
+
+                {tagName(TEXT_AREA_TAG),
+                        attr(ATTR11, VALUE13),
+                        contains(equalTo(TEXT_AREA2),
+                                equalTo(TEXT_AREA2))},
+
+                {tagName(TEXT_AREA_TAG),
+                        NOT(attr(ATTR11, VALUE13)),
+                        contains(equalTo(TEXT_AREA1),
+                                equalTo(TEXT_AREA3),
+                                equalTo(TEXT_AREA4),
+                                equalTo(TEXT_AREA1))},
+
+                {xpath(RADIO_BUTTON_XPATH),
+                        css(CSS18, CSS_VALUE9),
+                        contains(equalTo(COMMON_RADIOBUTTON3))},
+
+                {xpath(RADIO_BUTTON_XPATH),
+                        NOT(css(CSS18, CSS_VALUE9)),
+                        contains(equalTo(COMMON_RADIOBUTTON1),
+                                equalTo(COMMON_RADIOBUTTON2),
+                                equalTo(COMMON_RADIOBUTTON4),
+                                equalTo(COMMON_LABELED_RADIOBUTTON1),
+                                equalTo(COMMON_LABELED_RADIOBUTTON2),
+                                equalTo(COMMON_LABELED_RADIOBUTTON3),
+                                equalTo(COMMON_LABELED_RADIOBUTTON4),
+                                equalTo(COMMON_LABELED_RADIOBUTTON5),
+                                equalTo(COMMON_LABELED_RADIOBUTTON6),
+                                equalTo(COMMON_LABELED_RADIOBUTTON7),
+                                equalTo(COMMON_LABELED_RADIOBUTTON8))}
+        };
+    }
+
+    @Test(dataProvider = "criteria evaluated in browser", retryAnalyzer = RetryAnalyzer.class)
+    public void findElementsByCriteriaEvaluatedInBrowserTest(By by, Criteria<WebElement> criteria,
+                                                            Matcher<List<WebElement>> matcher) {
+        setProperty(EVALUATE_CRITERIA_IN_BROWSER.getName(), "true");
+        try {
+            List<WebElement> webElements = seleniumSteps.find(webElements(by).criteria(criteria));
+            assertThat(webElements, matcher);
+            //all found elements are checked by one script
+            assertThat(((MockWebDriver) seleniumSteps.getWrappedDriver()).getExecutedCriteriaScripts(), is(1));
+        } finally {
+            removeProperty(EVALUATE_CRITERIA_IN_BROWSER.getName());
+        }
+    }
+
+    @Test
+    public void criteriaAreEvaluatedInBrowserOnlyDuringSearchTest() {
+        setProperty(EVALUATE_CRITERIA_IN_BROWSER.getName(), "true");
+        try {
+            var visible = visible();
+            List<WebElement> webElements = seleniumSteps.find(webElements(tagName(LINK_TAG)).criteria(visible));
+            var driver = (MockWebDriver) seleniumSteps.getWrappedDriver();
+            assertThat(driver.getExecutedCriteriaScripts(), is(1));
+
+            //found elements are checked by java after the search
+            assertThat(webElements.stream().allMatch(visible.get()), is(true));
+            assertThat(driver.getExecutedCriteriaScripts(), is(1));
+        } finally {
+            removeProperty(EVALUATE_CRITERIA_IN_BROWSER.getName());
+        }
+    }
 }
@@ -1,24 +1,31 @@
 package ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets;
 
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
+import ru.tinkoff.qa.neptune.selenium.api.widget.drafts.Button;
 import ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier;
 import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+import ru.tinkoff.qa.neptune.selenium.test.MockWebDriver;
 import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
 import ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets.buttons.CustomizedButton;
 import ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets.buttons.LabeledButton;
 import ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets.buttons.SimpleButton;
 
+import java.util.List;
+
 import static java.time.Duration.ofMillis;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.openqa.selenium.By.tagName;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.NOT;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.OR;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonElementCriteria.*;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.buttons;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.webElements;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.*;
 import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.*;
@@ -219,4 +226,17 @@ public class SearchForWidgetPositiveTest extends BaseWebDriverTest {
         ofNullable(element).ifPresent(element1 -> assertThat(t.getWrappedElement(), equalTo(element1)));
         assertThat(getTimeDifference() - ONE_SECOND.toMillis(), lessThan(HALF_SECOND.toMillis()));
     }
+
+    @Test
+    public void widgetsOfDifferentClassesAreFoundByOneScriptTest() {
+        var driver = (MockWebDriver) seleniumSteps.getWrappedDriver();
+        var scripts = driver.getExecutedWidgetScripts();
+        List<Button> buttons = seleniumSteps.find(buttons());
+
+        assertThat(driver.getExecutedWidgetScripts(), is(scripts + 1));
+        assertThat(buttons.stream().<WebElement>map(WrapsElement::getWrappedElement).collect(toList()),
+                hasItems(COMMON_BUTTON1, COMMON_LABELED_BUTTON1, CUSTOM_LABELED_BUTTON1));
+        assertThat(buttons.stream().<Class<?>>map(b -> b.getClass().getSuperclass()).collect(toList()),
+                hasItems(SimpleButton.class, LabeledButton.class, CustomizedButton.class));
+    }
 }
@@ -1,7 +1,6 @@
 package ru.tinkoff.qa.neptune.testng.integration;
 
 import com.google.common.collect.Iterables;
-import io.github.classgraph.ClassGraph;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
@@ -24,17 +23,16 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.testng.ITestResult.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.finishTest;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.TestOutcome.*;
 import static ru.tinkoff.qa.neptune.core.api.hooks.ExecutionHook.getHooks;
+import static ru.tinkoff.qa.neptune.core.api.index.ClassIndex.getSubclasses;
 import static ru.tinkoff.qa.neptune.testng.integration.properties.TestNGRefreshStrategyProperty.REFRESH_STRATEGY_PROPERTY;
 
 public final class DefaultTestRunningListener implements IInvokedMethodListener {
 
     private final ThreadLocal<Method> previouslyRefreshed = new ThreadLocal<>();
-    private final List<Class<? extends Context>> REFRESHABLE_CONTEXTS = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getSubclasses(Context.class.getName())
-            .loadClasses(Context.class)
+    private final List<Class<? extends Context>> REFRESHABLE_CONTEXTS = getSubclasses(Context.class)
             .stream()
             .filter(ContextRefreshable.class::isAssignableFrom)
             .collect(toList());
@@ -110,6 +108,8 @@ public final class DefaultTestRunningListener implements IInvokedMethodListener
 
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        var result = testResult.getStatus();
+        finishTest(result == SUCCESS ? PASSED : (result == SKIP ? SKIPPED : FAILED));
         var reflectionMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
 
         ofNullable(reflectionMethod.getAnnotation(Test.class)).ifPresent(test -> {